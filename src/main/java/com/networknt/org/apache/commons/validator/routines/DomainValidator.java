@@ -1811,6 +1811,49 @@ public class DomainValidator implements Serializable {
         return Arrays.binarySearch(sortedArray, key) >= 0;
     }
 
+    /**
+     * Check if a sorted array of lower case entries contains the specified
+     * region of an ASCII string ignoring case.
+     *
+     * @param sortedArray the array to search
+     * @param value the string containing the key
+     * @param start the start index of the key
+     * @param end the end index of the key
+     * @return {@code true} if the array contains the key
+     */
+    private static boolean arrayContains(final String[] sortedArray, final String value, final int start, final int end) {
+        int low = 0;
+        int high = sortedArray.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = compareIgnoreCase(sortedArray[mid], value, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compareIgnoreCase(final String entry, final String value, final int start, final int end) {
+        final int length = end - start;
+        final int n = Math.min(entry.length(), length);
+        for (int i = 0; i < n; i++) {
+            char ch = value.charAt(start + i);
+            if (ch >= 'A' && ch <= 'Z') {
+                ch = (char) (ch + ('a' - 'A'));
+            }
+            final int cmp = entry.charAt(i) - ch;
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return entry.length() - length;
+    }
+
     /**
      * Returns the singleton instance of this validator. It
      *  will not consider local addresses as valid.
@@ -2315,4 +2358,29 @@ public class DomainValidator implements Serializable {
                 || isValidGenericTld(tld)
                 || isValidCountryCodeTld(tld);
     }
+
+    /**
+     * Returns true if the specified region of an ASCII <code>String</code>
+     * matches any IANA-defined top-level domain. This is equivalent to
+     * {@link #isValidTld(String)} on the substring but does not allocate.
+     *
+     * @param value the ASCII string containing the TLD, not null
+     * @param start the start index of the TLD
+     * @param end the end index of the TLD
+     * @return true if the region is a TLD
+     */
+    public boolean isValidTld(final String value, int start, final int end) {
+        if (start < end && value.charAt(start) == '.') {
+            start++;
+        }
+        if (allowLocal && (arrayContains(LOCAL_TLDS, value, start, end) || arrayContains(myLocalTLDsPlus, value, start, end))
+                && !arrayContains(myLocalTLDsMinus, value, start, end)) {
+            return true;
+        }
+        return arrayContains(INFRASTRUCTURE_TLDS, value, start, end)
+                || (arrayContains(GENERIC_TLDS, value, start, end) || arrayContains(myGenericTLDsPlus, value, start, end))
+                        && !arrayContains(myGenericTLDsMinus, value, start, end)
+                || (arrayContains(COUNTRY_CODE_TLDS, value, start, end) || arrayContains(myCountryCodeTLDsPlus, value, start, end))
+                        && !arrayContains(myCountryCodeTLDsMinus, value, start, end);
+    }
 }
\ No newline at end of file
@@ -24,11 +24,15 @@ import java.util.Map;
 import java.util.function.Consumer;
 
 import com.networknt.schema.annotation.Annotations;
+import com.networknt.schema.instrumentation.Instrumentation;
 import com.networknt.schema.keyword.DiscriminatorState;
 import com.networknt.schema.path.NodePath;
 //import com.networknt.schema.result.InstanceResults;
+import com.networknt.schema.walk.CopyOnWriteTree;
 import com.networknt.schema.walk.WalkConfig;
 
+import tools.jackson.databind.node.ContainerNode;
+
 /**
  * Stores the execution context for the validation run.
  */
@@ -36,6 +40,8 @@ public class ExecutionContext {
     private ExecutionConfig executionConfig;
     private WalkConfig walkConfig = null;
     private CollectorContext collectorContext = null;
+    Instrumentation instrumentation = null;
+    CopyOnWriteTree copyOnWriteTree = null;
 
     private Annotations annotations = null;
 //    private InstanceResults instanceResults = null;
@@ -140,6 +146,33 @@ public class ExecutionContext {
         return this.walkConfig;
     }
 
+    /**
+     * Gets the instance tree the walk applies defaults to when the
+     * {@link com.networknt.schema.walk.ApplyDefaultsStrategy} is copy-on-write.
+     *
+     * @return the instance tree or null if the walk changes the input in place
+     */
+    public CopyOnWriteTree getCopyOnWriteTree() {
+        return this.copyOnWriteTree;
+    }
+
+    /**
+     * Gets the node at the instance location that the walk can change.
+     * <p>
+     * This is the node itself unless the walk is copy-on-write.
+     *
+     * @param <T>              the node type
+     * @param node             the node at the instance location
+     * @param instanceLocation the instance location
+     * @return the node to change
+     */
+    public <T extends ContainerNode<T>> T getWritableNode(T node, NodePath instanceLocation) {
+        if (this.copyOnWriteTree == null) {
+            return node;
+        }
+        return this.copyOnWriteTree.getWritableNode(node, instanceLocation);
+    }
+
     /**
      * Gets the collector context.
      * 
@@ -179,6 +212,27 @@ public class ExecutionContext {
         this.executionConfig = executionConfig;
     }
 
+    /**
+     * Gets the instrumentation that receives measurements of this run.
+     *
+     * @return the instrumentation or null if no measurements are taken
+     */
+    public Instrumentation getInstrumentation() {
+        return this.instrumentation;
+    }
+
+    /**
+     * Sets the instrumentation that receives measurements of this run.
+     * <p>
+     * This defaults to the instrumentation of the schema registry config and can
+     * be set to null to not take measurements of this run.
+     *
+     * @param instrumentation the instrumentation
+     */
+    public void setInstrumentation(Instrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+    }
+
     public Annotations getAnnotations() {
         if (this.annotations == null) {
             this.annotations = new Annotations();
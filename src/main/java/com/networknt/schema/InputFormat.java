@@ -27,5 +27,15 @@ public enum InputFormat {
     /**
      * YAML.
      */
-    YAML
+    YAML,
+
+    /**
+     * CBOR. This requires jackson-dataformat-cbor.
+     */
+    CBOR,
+
+    /**
+     * Smile. This requires jackson-dataformat-smile.
+     */
+    SMILE
 }
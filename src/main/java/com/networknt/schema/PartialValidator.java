@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema;
+
+import java.util.List;
+import java.util.Map;
+
+import com.networknt.schema.keyword.AdditionalPropertiesValidator;
+import com.networknt.schema.keyword.AllOfValidator;
+import com.networknt.schema.keyword.DynamicRefValidator;
+import com.networknt.schema.keyword.ItemsLegacyValidator;
+import com.networknt.schema.keyword.ItemsValidator;
+import com.networknt.schema.keyword.KeywordValidator;
+import com.networknt.schema.keyword.PatternPropertiesValidator;
+import com.networknt.schema.keyword.PrefixItemsValidator;
+import com.networknt.schema.keyword.PropertiesValidator;
+import com.networknt.schema.keyword.RecursiveRefValidator;
+import com.networknt.schema.keyword.RefValidator;
+import com.networknt.schema.path.NodePath;
+import com.networknt.schema.regex.RegularExpression;
+
+import tools.jackson.core.JsonPointer;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Validates only the subtree of an instance at a JSON Pointer against the
+ * subschemas of the root schema that apply at that location.
+ * <p>
+ * The subschemas are found by following properties, patternProperties,
+ * additionalProperties, prefixItems, items, additionalItems, allOf, $ref,
+ * $dynamicRef and $recursiveRef from the root schema. The errors have the same
+ * instance locations and evaluation paths as when validating the whole
+ * instance.
+ * <p>
+ * Keywords that depend on more than the subtree are not evaluated. This
+ * includes the assertions of the schemas along the way, such as required or
+ * additionalProperties false, the conditional applicators anyOf, oneOf, not,
+ * if, then, else and dependentSchemas, and unevaluatedProperties and
+ * unevaluatedItems.
+ */
+public class PartialValidator {
+    private final Schema schema;
+
+    /**
+     * Constructor.
+     *
+     * @param schema the root schema
+     */
+    public PartialValidator(Schema schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * Validates the subtree of the input at the instance location.
+     *
+     * @param input           the input
+     * @param inputFormat     the input format
+     * @param instancePointer the JSON Pointer of the subtree
+     * @return the errors
+     */
+    public List<Error> validate(String input, InputFormat inputFormat, String instancePointer) {
+        return validate(this.schema.getSchemaContext().getSchemaRegistry().readTree(input, inputFormat),
+                instancePointer);
+    }
+
+    /**
+     * Validates the subtree of the root node at the instance location.
+     *
+     * @param rootNode        the root node
+     * @param instancePointer the JSON Pointer of the subtree
+     * @return the errors
+     */
+    public List<Error> validate(JsonNode rootNode, String instancePointer) {
+        return validate(rootNode, instancePointer, OutputFormat.DEFAULT);
+    }
+
+    /**
+     * Validates the subtree of the root node at the instance location.
+     *
+     * @param <T>             the result type
+     * @param rootNode        the root node
+     * @param instancePointer the JSON Pointer of the subtree
+     * @param format          the formatter
+     * @return the result
+     */
+    public <T> T validate(JsonNode rootNode, String instancePointer, OutputFormat<T> format) {
+        return validate(rootNode, instancePointer, format, null);
+    }
+
+    /**
+     * Validates the subtree of the root node at the instance location.
+     *
+     * @param <T>                 the result type
+     * @param rootNode            the root node
+     * @param instancePointer     the JSON Pointer of the subtree
+     * @param format              the formatter
+     * @param executionCustomizer the execution customizer
+     * @return the result
+     */
+    public <T> T validate(JsonNode rootNode, String instancePointer, OutputFormat<T> format,
+            ExecutionContextCustomizer executionCustomizer) {
+        JsonPointer pointer = JsonPointer.compile(instancePointer);
+        if (rootNode.at(pointer).isMissingNode()) {
+            throw new IllegalArgumentException("Instance location " + instancePointer + " not found");
+        }
+        ExecutionContext executionContext = this.schema.createExecutionContext();
+        format.customize(executionContext, this.schema.getSchemaContext());
+        if (executionCustomizer != null) {
+            executionCustomizer.customize(executionContext, this.schema.getSchemaContext());
+        }
+        NodePath root = this.schema.atRoot();
+        executionContext.evaluationPath = root;
+        try {
+            validate(executionContext, this.schema, rootNode, rootNode, root, pointer);
+        } catch (FailFastAssertionException e) {
+            executionContext.setErrors(e.getErrors());
+        }
+        return format.format(this.schema, executionContext, this.schema.getSchemaContext());
+    }
+
+    private void validate(ExecutionContext executionContext, Schema schema, JsonNode node, JsonNode rootNode,
+            NodePath instanceLocation, JsonPointer pointer) {
+        if (schema == null) {
+            return;
+        }
+        if (pointer.matches()) {
+            schema.validate(executionContext, node, rootNode, instanceLocation);
+            return;
+        }
+        List<KeywordValidator> validators = schema.getValidators();
+        executionContext.evaluationSchema.addLast(schema);
+        try {
+            for (KeywordValidator validator : validators) {
+                executionContext.evaluationPathAddLast(validator.getKeyword());
+                executionContext.evaluationSchemaPath.addLast(validator.getKeyword());
+                try {
+                    validate(executionContext, validator, node, rootNode, instanceLocation, pointer);
+                } finally {
+                    executionContext.evaluationPathRemoveLast();
+                    executionContext.evaluationSchemaPath.removeLast();
+                }
+            }
+        } finally {
+            executionContext.evaluationSchema.removeLast();
+        }
+    }
+
+    /**
+     * Follows the keyword to the subschemas that apply at the instance location.
+     *
+     * @param executionContext the execution context
+     * @param validator        the keyword
+     * @param node             the current node
+     * @param rootNode         the root node
+     * @param instanceLocation the location of the current node
+     * @param pointer          the remaining pointer to the instance location
+     */
+    private void validate(ExecutionContext executionContext, KeywordValidator validator, JsonNode node,
+            JsonNode rootNode, NodePath instanceLocation, JsonPointer pointer) {
+        // In-place applicators apply to the current node
+        if (validator instanceof RefValidator) {
+            Schema target = ((RefValidator) validator).getSchema(executionContext);
+            validate(executionContext, target, node, rootNode, instanceLocation, pointer);
+            return;
+        } else if (validator instanceof DynamicRefValidator) {
+            Schema target = ((DynamicRefValidator) validator).getSchemaRef(executionContext).getSchema();
+            validate(executionContext, target, node, rootNode, instanceLocation, pointer);
+            return;
+        } else if (validator instanceof RecursiveRefValidator) {
+            Schema target = ((RecursiveRefValidator) validator).getSchemaRef(executionContext).getSchema();
+            validate(executionContext, target, node, rootNode, instanceLocation, pointer);
+            return;
+        } else if (validator instanceof AllOfValidator) {
+            List<Schema> schemas = ((AllOfValidator) validator).getSchemas();
+            for (int x = 0; x < schemas.size(); x++) {
+                executionContext.evaluationPathAddLast(x);
+                try {
+                    validate(executionContext, schemas.get(x), node, rootNode, instanceLocation, pointer);
+                } finally {
+                    executionContext.evaluationPathRemoveLast();
+                }
+            }
+            return;
+        }
+
+        // Child applicators apply to the next node
+        JsonPointer tail = pointer.tail();
+        if (node.isObject()) {
+            String name = pointer.getMatchingProperty();
+            JsonNode child = node.get(name);
+            NodePath childLocation = instanceLocation.append(name);
+            if (validator instanceof PropertiesValidator) {
+                Schema target = ((PropertiesValidator) validator).getSchemas().get(name);
+                if (target != null) {
+                    executionContext.evaluationPathAddLast(name);
+                    try {
+                        validate(executionContext, target, child, rootNode, childLocation, tail);
+                    } finally {
+                        executionContext.evaluationPathRemoveLast();
+                    }
+                }
+            } else if (validator instanceof PatternPropertiesValidator) {
+                for (Map.Entry<RegularExpression, Schema> entry : ((PatternPropertiesValidator) validator)
+                        .getSchemas().entrySet()) {
+                    if (entry.getKey().matches(executionContext, name)) {
+                        Schema target = entry.getValue();
+                        executionContext.evaluationPathAddLast(
+                                target.getSchemaLocation().getFragment().getElement(-1).toString());
+                        try {
+                            validate(executionContext, target, child, rootNode, childLocation, tail);
+                        } finally {
+                            executionContext.evaluationPathRemoveLast();
+                        }
+                    }
+                }
+            } else if (validator instanceof AdditionalPropertiesValidator) {
+                AdditionalPropertiesValidator additionalProperties = (AdditionalPropertiesValidator) validator;
+                if (additionalProperties.isAdditionalProperty(executionContext, name)) {
+                    validate(executionContext, additionalProperties.getSchema(), child, rootNode, childLocation,
+                            tail);
+                }
+            }
+        } else if (node.isArray()) {
+            int index = pointer.getMatchingIndex();
+            JsonNode child = node.get(index);
+            NodePath childLocation = instanceLocation.append(index);
+            if (validator instanceof PrefixItemsValidator) {
+                List<Schema> tupleSchema = ((PrefixItemsValidator) validator).getTupleSchema();
+                if (index < tupleSchema.size()) {
+                    executionContext.evaluationPathAddLast(index);
+                    try {
+                        validate(executionContext, tupleSchema.get(index), child, rootNode, childLocation, tail);
+                    } finally {
+                        executionContext.evaluationPathRemoveLast();
+                    }
+                }
+            } else if (validator instanceof ItemsValidator) {
+                ItemsValidator items = (ItemsValidator) validator;
+                if (index >= items.getPrefixCount()) {
+                    validate(executionContext, items.getSchema(), child, rootNode, childLocation, tail);
+                }
+            } else if (validator instanceof ItemsLegacyValidator) {
+                ItemsLegacyValidator items = (ItemsLegacyValidator) validator;
+                List<Schema> tupleSchema = items.getTupleSchema();
+                if (items.getSchema() != null) {
+                    validate(executionContext, items.getSchema(), child, rootNode, childLocation, tail);
+                } else if (tupleSchema != null && index < tupleSchema.size()) {
+                    executionContext.evaluationPathAddLast(index);
+                    try {
+                        validate(executionContext, tupleSchema.get(index), child, rootNode, childLocation, tail);
+                    } finally {
+                        executionContext.evaluationPathRemoveLast();
+                    }
+                } else if (items.getAdditionalSchema() != null) {
+                    executionContext.evaluationPathRemoveLast(); // remove items
+                    executionContext.evaluationPathAddLast("additionalItems");
+                    try {
+                        validate(executionContext, items.getAdditionalSchema(), child, rootNode, childLocation,
+                                tail);
+                    } finally {
+                        executionContext.evaluationPathRemoveLast();
+                        executionContext.evaluationPathAddLast("items");
+                    }
+                }
+            }
+        }
+    }
+}
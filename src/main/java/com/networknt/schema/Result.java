@@ -17,6 +17,10 @@ package com.networknt.schema;
 
 import java.util.List;
 
+import com.networknt.schema.walk.CopyOnWriteTree;
+
+import tools.jackson.databind.JsonNode;
+
 /**
  * Represents a validation result.
  */
@@ -39,4 +43,15 @@ public class Result {
     public CollectorContext getCollectorContext() {
         return getExecutionContext().getCollectorContext();
     }
+
+    /**
+     * Gets the instance node with the defaults applied when walking with a
+     * copy-on-write {@link com.networknt.schema.walk.ApplyDefaultsStrategy}.
+     *
+     * @return the instance node or null if the walk changed the input in place
+     */
+    public JsonNode getInstanceNode() {
+        CopyOnWriteTree copyOnWriteTree = getExecutionContext().getCopyOnWriteTree();
+        return copyOnWriteTree != null ? copyOnWriteTree.getRoot() : null;
+    }
 }
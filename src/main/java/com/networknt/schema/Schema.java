@@ -22,9 +22,9 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +33,7 @@ import java.util.Objects;
 import java.util.function.Consumer;
 
 import tools.jackson.databind.JsonNode;
+import com.networknt.schema.instrumentation.Instrumentation;
 import com.networknt.schema.keyword.KeywordValidator;
 import com.networknt.schema.keyword.TypeValidator;
 import com.networknt.schema.path.NodePath;
@@ -40,9 +41,13 @@ import com.networknt.schema.path.PathType;
 import com.networknt.schema.resource.ClasspathResourceLoader;
 import com.networknt.schema.resource.InputStreamSource;
 import com.networknt.schema.resource.ResourceLoader;
+import com.networknt.schema.serialization.MappedFileInputStream;
 import com.networknt.schema.annotation.Annotation;
+import com.networknt.schema.dialect.Dialect;
 import com.networknt.schema.keyword.KeywordType;
 import com.networknt.schema.utils.JsonNodes;
+import com.networknt.schema.walk.CopyOnWriteTree;
+import com.networknt.schema.walk.WalkHandler;
 
 /**
  * Used for creating a schema with validators for validating inputs. This is
@@ -69,6 +74,7 @@ public class Schema implements Validator {
     
     private boolean validatorsLoaded = false;
     private boolean recursiveAnchor = false;
+    private KeywordWalkListeners keywordWalkListeners = null;
 
     protected final JsonNode schemaNode;
     protected final Schema parentSchema;
@@ -144,7 +150,17 @@ public class Schema implements Validator {
          * }
          */
         executionContext.evaluationPath = atRoot();
-        validate(executionContext, node, node, atRoot());
+        Instrumentation instrumentation = executionContext.instrumentation;
+        if (instrumentation == null) {
+            validate(executionContext, node, node, atRoot());
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            validate(executionContext, node, node, atRoot());
+        } finally {
+            instrumentation.onValidation(this, executionContext, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -209,7 +225,10 @@ public class Schema implements Validator {
     private Schema(SchemaContext schemaContext, SchemaLocation schemaLocation, 
             JsonNode schemaNode, Schema parent, boolean suppressSubSchemaRetrieval) {
         this.schemaContext = schemaContext;
-        this.schemaLocation = resolve(schemaLocation, schemaNode, parent == null, schemaContext);
+        SchemaLocation resolved = resolve(schemaLocation, schemaNode, parent == null, schemaContext);
+        this.schemaLocation = schemaContext.getSchemaRegistry() != null
+                ? schemaContext.getSchemaRegistry().getSchemaLocationInterner().intern(resolved)
+                : resolved;
         this.schemaNode = schemaNode;
         this.parentSchema = parent;
         this.suppressSubSchemaRetrieval = suppressSubSchemaRetrieval;
@@ -518,6 +537,10 @@ public class Schema implements Validator {
             }
         } else {
             KeywordValidator refValidator = null;
+            SchemaOptimizer schemaOptimizer = this.schemaContext.getSchemaRegistryConfig().getSchemaOptimizer();
+            Dialect dialect = this.schemaContext.getDialect();
+            int maxRank = 0;
+            boolean sort = false;
 
             Iterator<Entry<String, JsonNode>> iterator = schemaNode.properties().iterator();
             validators = new ArrayList<>(schemaNode.size());
@@ -528,7 +551,28 @@ public class Schema implements Validator {
 
                 SchemaLocation schemaPath = getSchemaLocation().append(pname);
 
-                if ("$recursiveAnchor".equals(pname)) {
+                boolean recursiveAnchor = false;
+                boolean ref = false;
+                boolean unevaluatedProperties = false;
+                boolean unevaluatedItems = false;
+                switch (pname) {
+                case "$recursiveAnchor":
+                    recursiveAnchor = true;
+                    break;
+                case "$ref":
+                    ref = true;
+                    break;
+                case "unevaluatedProperties":
+                    unevaluatedProperties = true;
+                    break;
+                case "unevaluatedItems":
+                    unevaluatedItems = true;
+                    break;
+                default:
+                    break;
+                }
+
+                if (recursiveAnchor) {
                     if (!nodeToUse.isBoolean()) {
                         Error error = Error.builder().keyword("$recursiveAnchor")
                                 .messageKey("internal.invalidRecursiveAnchor")
@@ -544,17 +588,22 @@ public class Schema implements Validator {
                     this.recursiveAnchor = nodeToUse.booleanValue();
                 }
 
+                if (schemaOptimizer != null && schemaOptimizer.isRedundant(this, pname, nodeToUse)) {
+                    continue;
+                }
+
                 KeywordValidator validator = this.schemaContext.newValidator(schemaPath, 
                         pname, nodeToUse, this);
                 if (validator != null) {
+                    int rank = dialect.getKeywordRank(validator.getKeyword());
+                    sort |= rank < maxRank;
+                    maxRank = Math.max(maxRank, rank);
                     validators.add(validator);
-                    if ("unevaluatedProperties".equals(pname)) {
+                    if (unevaluatedProperties) {
                         this.unevaluatedPropertiesPresent = true;
-                    } else if ("unevaluatedItems".equals(pname)) {
+                    } else if (unevaluatedItems) {
                         this.unevaluatedItemsPresent = true;
-                    }
-
-                    if ("$ref".equals(pname)) {
+                    } else if (ref) {
                         refValidator = validator;
                     }
                 }
@@ -562,45 +611,40 @@ public class Schema implements Validator {
             }
 
             // Ignore siblings for older drafts
-            if (null != refValidator && getSchemaContext().getDialect().getSpecificationVersion().getOrder() < DRAFT_2019_09_VALUE) {
+            if (null != refValidator && dialect.getSpecificationVersion().getOrder() < DRAFT_2019_09_VALUE) {
                 validators.clear();
                 validators.add(refValidator);
+            } else if (sort) {
+                validators = sort(validators, dialect, maxRank);
             }
         }
-        if (validators.size() > 1) {
-            Collections.sort(validators, VALIDATOR_SORT);
-        }
         return validators;
     }
 
     /**
-     * A comparator that sorts validators, such that 'properties' comes before 'required',
-     * so that we can apply default values before validating required.
+     * Stable sort of the validators by the keyword rank of the dialect in a pass
+     * per rank.
+     *
+     * @param validators the validators
+     * @param dialect the dialect
+     * @param maxRank the highest rank of the validators
+     * @return the sorted validators
      */
-    private static final Comparator<KeywordValidator> VALIDATOR_SORT = (lhs, rhs) -> {
-        String lhsName = lhs.getKeyword();
-        String rhsName = rhs.getKeyword();
-
-        if (lhsName.equals(rhsName)) return 0;
-
-        // Discriminator needs to run first to set state in the execution context
-        if (lhsName.equals("discriminator")) return -1;
-        if (rhsName.equals("discriminator")) return 1;
-
-        if (lhsName.equals("type")) return -1;
-        if (rhsName.equals("type")) return 1;
-
-        if (lhsName.equals("properties")) return -1;
-        if (rhsName.equals("properties")) return 1;
-        if (lhsName.equals("patternProperties")) return -1;
-        if (rhsName.equals("patternProperties")) return 1;
-        if (lhsName.equals("unevaluatedItems")) return 1;
-        if (rhsName.equals("unevaluatedItems")) return -1;
-        if (lhsName.equals("unevaluatedProperties")) return 1;
-        if (rhsName.equals("unevaluatedProperties")) return -1;
-
-        return 0; // retain original schema definition order
-    };
+    private static List<KeywordValidator> sort(List<KeywordValidator> validators, Dialect dialect, int maxRank) {
+        int[] ranks = new int[validators.size()];
+        for (int x = 0; x < ranks.length; x++) {
+            ranks[x] = dialect.getKeywordRank(validators.get(x).getKeyword());
+        }
+        List<KeywordValidator> result = new ArrayList<>(validators.size());
+        for (int rank = 0; rank <= maxRank; rank++) {
+            for (int x = 0; x < ranks.length; x++) {
+                if (ranks[x] == rank) {
+                    result.add(validators.get(x));
+                }
+            }
+        }
+        return result;
+    }
 
     /************************ START OF VALIDATE METHODS **********************************/
 
@@ -618,12 +662,17 @@ public class Schema implements Validator {
         }
         try {
             int currentErrors = executionContext.getErrors().size();
+            Instrumentation instrumentation = executionContext.instrumentation;
             for (KeywordValidator v : validators) {
                 executionContext.evaluationPathAddLast(v.getKeyword());
                 executionContext.evaluationSchemaPath.addLast(v.getKeyword());
+                long start = instrumentation != null ? System.nanoTime() : 0;
                 try {
                     v.validate(executionContext, jsonNode, rootNode, instanceLocation);
                 } finally {
+                    if (instrumentation != null) {
+                        instrumentation.onKeyword(v, executionContext, System.nanoTime() - start);
+                    }
                     executionContext.evaluationPathRemoveLast();
                     executionContext.evaluationSchemaPath.removeLast();
                 }
@@ -996,6 +1045,256 @@ public class Schema implements Validator {
     public <T> T validate(AbsoluteIri input, InputFormat inputFormat, OutputFormat<T> format, Consumer<ExecutionContext> executionCustomizer) {
         return validate(createExecutionContext(), deserialize(input, inputFormat), format, (executionContext, schemaContext) -> executionCustomizer.accept(executionContext));
     }
+
+    /**
+     * Validate the given input file using the input format, starting at the root
+     * of the data path.
+     * <p>
+     * The file is memory-mapped instead of being read through a buffered stream.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param input       the input file
+     * @param inputFormat the inputFormat
+     * @return A list of Error if there is any validation error, or an
+     *         empty list if there is no error.
+     */
+    public List<Error> validate(Path input, InputFormat inputFormat) {
+        return validate(deserialize(input, inputFormat), OutputFormat.DEFAULT);
+    }
+
+    /**
+     * Validate the given input file using the input format, starting at the root
+     * of the data path.
+     * <p>
+     * The file is memory-mapped instead of being read through a buffered stream.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param input               the input file
+     * @param inputFormat         the inputFormat
+     * @param executionCustomizer the execution customizer
+     * @return the assertions
+     */
+    public List<Error> validate(Path input, InputFormat inputFormat, ExecutionContextCustomizer executionCustomizer) {
+        return validate(deserialize(input, inputFormat), OutputFormat.DEFAULT, executionCustomizer);
+    }
+
+    /**
+     * Validate the given input file using the input format, starting at the root
+     * of the data path.
+     * <p>
+     * The file is memory-mapped instead of being read through a buffered stream.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param input               the input file
+     * @param inputFormat         the inputFormat
+     * @param executionCustomizer the execution customizer
+     * @return the assertions
+     */
+    public List<Error> validate(Path input, InputFormat inputFormat, Consumer<ExecutionContext> executionCustomizer) {
+        return validate(deserialize(input, inputFormat), OutputFormat.DEFAULT, executionCustomizer);
+    }
+
+    /**
+     * Validates the given input file using the input format, starting at the root
+     * of the data path. The output will be formatted using the formatter specified.
+     * <p>
+     * The file is memory-mapped instead of being read through a buffered stream.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param <T>         the result type
+     * @param input       the input file
+     * @param inputFormat the inputFormat
+     * @param format      the formatter
+     * @return the result
+     */
+    public <T> T validate(Path input, InputFormat inputFormat, OutputFormat<T> format) {
+        return validate(deserialize(input, inputFormat), format, (ExecutionContextCustomizer) null);
+    }
+
+    /**
+     * Validates the given input file using the input format, starting at the root
+     * of the data path. The output will be formatted using the formatter specified.
+     * <p>
+     * The file is memory-mapped instead of being read through a buffered stream.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param <T>                 the result type
+     * @param input               the input file
+     * @param inputFormat         the inputFormat
+     * @param format              the formatter
+     * @param executionCustomizer the execution customizer
+     * @return the result
+     */
+    public <T> T validate(Path input, InputFormat inputFormat, OutputFormat<T> format, ExecutionContextCustomizer executionCustomizer) {
+        return validate(createExecutionContext(), deserialize(input, inputFormat), format, executionCustomizer);
+    }
+
+    /**
+     * Validates the given input file using the input format, starting at the root
+     * of the data path. The output will be formatted using the formatter specified.
+     * <p>
+     * The file is memory-mapped instead of being read through a buffered stream.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param <T>                 the result type
+     * @param input               the input file
+     * @param inputFormat         the inputFormat
+     * @param format              the formatter
+     * @param executionCustomizer the execution customizer
+     * @return the result
+     */
+    public <T> T validate(Path input, InputFormat inputFormat, OutputFormat<T> format, Consumer<ExecutionContext> executionCustomizer) {
+        return validate(createExecutionContext(), deserialize(input, inputFormat), format, (executionContext, schemaContext) -> executionCustomizer.accept(executionContext));
+    }
+
+    /**
+     * Validate the given input stream using the input format, starting at the root
+     * of the data path.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param input       the input stream
+     * @param inputFormat the inputFormat
+     * @return A list of Error if there is any validation error, or an
+     *         empty list if there is no error.
+     */
+    public List<Error> validate(InputStream input, InputFormat inputFormat) {
+        return validate(deserialize(input, inputFormat), OutputFormat.DEFAULT);
+    }
+
+    /**
+     * Validate the given input stream using the input format, starting at the root
+     * of the data path.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param input               the input stream
+     * @param inputFormat         the inputFormat
+     * @param executionCustomizer the execution customizer
+     * @return the assertions
+     */
+    public List<Error> validate(InputStream input, InputFormat inputFormat, ExecutionContextCustomizer executionCustomizer) {
+        return validate(deserialize(input, inputFormat), OutputFormat.DEFAULT, executionCustomizer);
+    }
+
+    /**
+     * Validate the given input stream using the input format, starting at the root
+     * of the data path.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param input               the input stream
+     * @param inputFormat         the inputFormat
+     * @param executionCustomizer the execution customizer
+     * @return the assertions
+     */
+    public List<Error> validate(InputStream input, InputFormat inputFormat, Consumer<ExecutionContext> executionCustomizer) {
+        return validate(deserialize(input, inputFormat), OutputFormat.DEFAULT, executionCustomizer);
+    }
+
+    /**
+     * Validates the given input stream using the input format, starting at the root
+     * of the data path. The output will be formatted using the formatter specified.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param <T>         the result type
+     * @param input       the input stream
+     * @param inputFormat the inputFormat
+     * @param format      the formatter
+     * @return the result
+     */
+    public <T> T validate(InputStream input, InputFormat inputFormat, OutputFormat<T> format) {
+        return validate(deserialize(input, inputFormat), format, (ExecutionContextCustomizer) null);
+    }
+
+    /**
+     * Validates the given input stream using the input format, starting at the root
+     * of the data path. The output will be formatted using the formatter specified.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param <T>                 the result type
+     * @param input               the input stream
+     * @param inputFormat         the inputFormat
+     * @param format              the formatter
+     * @param executionCustomizer the execution customizer
+     * @return the result
+     */
+    public <T> T validate(InputStream input, InputFormat inputFormat, OutputFormat<T> format, ExecutionContextCustomizer executionCustomizer) {
+        return validate(createExecutionContext(), deserialize(input, inputFormat), format, executionCustomizer);
+    }
+
+    /**
+     * Validates the given input stream using the input format, starting at the root
+     * of the data path. The output will be formatted using the formatter specified.
+     * <p>
+     * Note that since Draft 2019-09 by default format generates only annotations
+     * and not assertions.
+     * <p>
+     * Use {@link ExecutionConfig.Builder#formatAssertionsEnabled(Boolean)} to override
+     * the default.
+     *
+     * @param <T>                 the result type
+     * @param input               the input stream
+     * @param inputFormat         the inputFormat
+     * @param format              the formatter
+     * @param executionCustomizer the execution customizer
+     * @return the result
+     */
+    public <T> T validate(InputStream input, InputFormat inputFormat, OutputFormat<T> format, Consumer<ExecutionContext> executionCustomizer) {
+        return validate(createExecutionContext(), deserialize(input, inputFormat), format, (executionContext, schemaContext) -> executionCustomizer.accept(executionContext));
+    }
     
     /**
      * Validate the given input string using the input format, starting at the root
@@ -1212,6 +1511,32 @@ public class Schema implements Validator {
         }
     }
 
+    /**
+     * Deserialize the input stream to JsonNode.
+     * 
+     * @param input       the input stream
+     * @param inputFormat the format
+     * @return the JsonNode.
+     */
+    private JsonNode deserialize(InputStream input, InputFormat inputFormat) {
+        return this.getSchemaContext().getSchemaRegistry().readTree(input, inputFormat);
+    }
+
+    /**
+     * Memory-maps the input file and deserialize to JsonNode.
+     * 
+     * @param input       the input file
+     * @param inputFormat the format
+     * @return the JsonNode.
+     */
+    private JsonNode deserialize(Path input, InputFormat inputFormat) {
+        try (InputStream inputStream = new MappedFileInputStream(input)) {
+            return this.getSchemaContext().getSchemaRegistry().readTree(inputStream, inputFormat);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid input", e);
+        }
+    }
+
     /**
      * Loads the resource from the input iri.
      * 
@@ -1541,6 +1866,9 @@ public class Schema implements Validator {
         }
         // Walk through the schema.
         executionContext.evaluationPath = atRoot();
+        executionContext.copyOnWriteTree = executionContext.getWalkConfig().getApplyDefaultsStrategy().isCopyOnWrite()
+                ? new CopyOnWriteTree(node, instanceLocation)
+                : null;
         walk(executionContext, node, rootNode, instanceLocation, validate);
         return format.format(this, executionContext, this.schemaContext);
     }
@@ -1561,11 +1889,15 @@ public class Schema implements Validator {
         }
         try {
             int currentErrors = executionContext.getErrors().size();
-            for (KeywordValidator validator : validators) {
+            WalkHandler keywordWalkHandler = executionContext.getWalkConfig().getKeywordWalkHandler();
+            boolean[] keywordWalkListeners = getKeywordWalkListeners(keywordWalkHandler, validators);
+            for (int x = 0; x < validators.size(); x++) {
+                KeywordValidator validator = validators.get(x);
+                boolean walkListeners = keywordWalkListeners[x];
                 try {
                     // Call all the pre-walk listeners. If at least one of the pre walk listeners
                     // returns SKIP, then skip the walk.
-                    if (executionContext.getWalkConfig().getKeywordWalkHandler().preWalk(executionContext,
+                    if (!walkListeners || keywordWalkHandler.preWalk(executionContext,
                             validator.getKeyword(), node, rootNode, instanceLocation,
                             this, validator)) {
                         executionContext.evaluationPathAddLast(validator.getKeyword());
@@ -1576,13 +1908,19 @@ public class Schema implements Validator {
                             executionContext.evaluationPathRemoveLast();
                             executionContext.evaluationSchemaPath.removeLast();
                         }
+                        if (executionContext.copyOnWriteTree != null) {
+                            // Continue with the copy if the validator applied defaults
+                            node = executionContext.copyOnWriteTree.getNode(node, instanceLocation);
+                        }
                     }
                 } finally {
                     // Call all the post-walk listeners.
-                    executionContext.getWalkConfig().getKeywordWalkHandler().postWalk(executionContext,
-                            validator.getKeyword(), node, rootNode, instanceLocation,
-                            this, validator,
-                            executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size()));
+                    if (walkListeners) {
+                        keywordWalkHandler.postWalk(executionContext,
+                                validator.getKeyword(), node, rootNode, instanceLocation,
+                                this, validator,
+                                executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size()));
+                    }
                 }
             }
         } finally {
@@ -1592,6 +1930,39 @@ public class Schema implements Validator {
         }
     }
 
+    /**
+     * Gets which of the validators have keyword walk listeners.
+     * <p>
+     * This is computed once for the keyword walk handler so that walking does not
+     * look up the listeners of each keyword for every instance node.
+     *
+     * @param keywordWalkHandler the keyword walk handler
+     * @param validators         the validators
+     * @return true at the index of each validator with listeners
+     */
+    private boolean[] getKeywordWalkListeners(WalkHandler keywordWalkHandler, List<KeywordValidator> validators) {
+        KeywordWalkListeners current = this.keywordWalkListeners;
+        if (current == null || current.keywordWalkHandler != keywordWalkHandler) {
+            boolean[] walkListeners = new boolean[validators.size()];
+            for (int x = 0; x < walkListeners.length; x++) {
+                walkListeners[x] = keywordWalkHandler.hasWalkListeners(validators.get(x).getKeyword());
+            }
+            current = new KeywordWalkListeners(keywordWalkHandler, walkListeners);
+            this.keywordWalkListeners = current;
+        }
+        return current.walkListeners;
+    }
+
+    private static class KeywordWalkListeners {
+        private final WalkHandler keywordWalkHandler;
+        private final boolean[] walkListeners;
+
+        KeywordWalkListeners(WalkHandler keywordWalkHandler, boolean[] walkListeners) {
+            this.keywordWalkHandler = keywordWalkHandler;
+            this.walkListeners = walkListeners;
+        }
+    }
+
     /************************ END OF WALK METHODS **********************************/
     @Override
     public String toString() {
@@ -1653,6 +2024,9 @@ public class Schema implements Validator {
 				.formatAssertionsEnabled(config.getFormatAssertionsEnabled())
 				.failFast(config.isFailFast()).build();
         ExecutionContext executionContext = new ExecutionContext(executionConfig);
+        if (config.getInstrumentation() != null) {
+            executionContext.setInstrumentation(config.getInstrumentation().forExecution(executionContext));
+        }
         if(config.getExecutionContextCustomizer() != null) {
             config.getExecutionContextCustomizer().customize(executionContext, schemaContext);
         }
@@ -43,6 +43,7 @@ public class SchemaLocation {
     private final NodePath fragment;
 
     private volatile String value = null; // computed lazily
+    private int hash = 0; // computed lazily
 
     /**
      * Constructs a new {@link SchemaLocation}.
@@ -460,7 +461,12 @@ public class SchemaLocation {
 
     @Override
     public int hashCode() {
-        return Objects.hash(fragment, absoluteIri);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(fragment, absoluteIri);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -472,6 +478,6 @@ public class SchemaLocation {
         if (getClass() != obj.getClass())
             return false;
         SchemaLocation other = (SchemaLocation) obj;
-        return Objects.equals(fragment, other.fragment) && Objects.equals(absoluteIri, other.absoluteIri);
+        return hashCode() == other.hashCode() && Objects.equals(fragment, other.fragment) && Objects.equals(absoluteIri, other.absoluteIri);
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.networknt.schema.path.NodePath;
+
+/**
+ * Interns the schema locations retained by the schemas and keyword validators
+ * of a schema registry.
+ * <p>
+ * Equal locations share the same instance, including the parent fragments and
+ * path segments, so that shared prefixes are only stored once and the string
+ * representation is only computed once. As the parents of an interned fragment
+ * are also interned, comparing fragments with the same parent only needs an
+ * identity check of the parent.
+ * <p>
+ * The locations are weakly referenced so that the locations of schemas that are
+ * evicted from the cache or replaced by a reload can be garbage collected.
+ */
+public class SchemaLocationInterner {
+    private final WeakInterner<SchemaLocation> schemaLocations = new WeakInterner<>();
+    private final WeakInterner<NodePath> fragments = new WeakInterner<>();
+    private final WeakInterner<String> segments = new WeakInterner<>();
+
+    /**
+     * Interns values without retaining values that are no longer referenced.
+     *
+     * @param <T> the value type
+     */
+    private static class WeakInterner<T> {
+        private final Map<T, WeakReference<T>> values = new WeakHashMap<>();
+
+        synchronized T get(T value) {
+            WeakReference<T> reference = this.values.get(value);
+            return reference != null ? reference.get() : null;
+        }
+
+        synchronized T intern(T value) {
+            T existing = get(value);
+            if (existing != null) {
+                return existing;
+            }
+            this.values.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    /**
+     * Gets the interned instance of the schema location.
+     *
+     * @param schemaLocation the schema location
+     * @return the interned schema location
+     */
+    public SchemaLocation intern(SchemaLocation schemaLocation) {
+        if (schemaLocation == null) {
+            return null;
+        }
+        SchemaLocation existing = this.schemaLocations.get(schemaLocation);
+        if (existing != null) {
+            return existing;
+        }
+        NodePath fragment = schemaLocation.getFragment();
+        NodePath internedFragment = intern(fragment);
+        if (internedFragment != fragment) {
+            schemaLocation = new SchemaLocation(schemaLocation.getAbsoluteIri(), internedFragment);
+        }
+        return this.schemaLocations.intern(schemaLocation);
+    }
+
+    /**
+     * Gets the interned instance of the path.
+     *
+     * @param path the path
+     * @return the interned path
+     */
+    public NodePath intern(NodePath path) {
+        if (path == null) {
+            return null;
+        }
+        NodePath existing = this.fragments.get(path);
+        if (existing != null) {
+            return existing;
+        }
+        NodePath parent = path.getParent();
+        if (parent != null) {
+            NodePath internedParent = intern(parent);
+            Object element = path.getElement(-1);
+            if (element instanceof Integer) {
+                if (internedParent != parent) {
+                    path = internedParent.append((Integer) element);
+                }
+            } else {
+                String segment = (String) element;
+                String internedSegment = intern(segment);
+                if (internedParent != parent || internedSegment != segment) {
+                    path = internedParent.append(internedSegment);
+                }
+            }
+        }
+        return this.fragments.intern(path);
+    }
+
+    private String intern(String segment) {
+        if (segment == null) {
+            return null;
+        }
+        return this.segments.intern(segment);
+    }
+}
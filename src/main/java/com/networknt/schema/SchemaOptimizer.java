@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema;
+
+import java.util.function.Consumer;
+
+import com.networknt.schema.keyword.KeywordType;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Removes keywords that cannot affect the result of the validation before their
+ * validators are created.
+ * <p>
+ * A keyword is only removed if it can neither produce an error nor an
+ * annotation that another keyword depends on, for instance {@code minLength: 0},
+ * {@code required: []} or an {@code allOf} of empty schemas. Keywords whose
+ * annotations are used by {@code unevaluatedProperties} and
+ * {@code unevaluatedItems}, such as {@code additionalProperties: true}, are only
+ * removed in dialects before Draft 2019-09 that do not have these keywords.
+ * <p>
+ * The schema is not modified. The removed keywords are not walked and their
+ * annotations are not collected. Keywords with subschemas that declare an
+ * identifier are kept so that the identifier can still be referenced.
+ * <p>
+ * Configured using {@link SchemaRegistryConfig.Builder#schemaOptimizer(SchemaOptimizer)}.
+ */
+public class SchemaOptimizer {
+    private static final long DRAFT_2019_09_VALUE = SpecificationVersion.DRAFT_2019_09.getOrder();
+
+    private static class Holder {
+        private static final SchemaOptimizer INSTANCE = new SchemaOptimizer(null);
+    }
+
+    /**
+     * Gets the optimizer that does not report the removed keywords.
+     *
+     * @return the optimizer
+     */
+    public static SchemaOptimizer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private final Consumer<Removal> listener;
+
+    /**
+     * Constructor.
+     *
+     * @param listener the listener notified of each removed keyword or null
+     */
+    public SchemaOptimizer(Consumer<Removal> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Determines if the keyword of the schema is redundant and notifies the
+     * listener if it is.
+     *
+     * @param schema  the schema
+     * @param keyword the keyword
+     * @param value   the value of the keyword
+     * @return true if the keyword is redundant
+     */
+    public boolean isRedundant(Schema schema, String keyword, JsonNode value) {
+        if (!(schema.getSchemaContext().getDialect().getKeywords().get(keyword) instanceof KeywordType)) {
+            // Custom keywords may use the name of a standard keyword
+            return false;
+        }
+        String reason = getReason(schema, keyword, value);
+        if (reason == null) {
+            return false;
+        }
+        if (this.listener != null) {
+            this.listener.accept(new Removal(schema.getSchemaLocation().append(keyword), keyword, reason));
+        }
+        return true;
+    }
+
+    /**
+     * Gets the reason the standard keyword is redundant.
+     *
+     * @param schema  the schema
+     * @param keyword the keyword
+     * @param value   the value of the keyword
+     * @return the reason or null if the keyword is not redundant
+     */
+    protected String getReason(Schema schema, String keyword, JsonNode value) {
+        switch (keyword) {
+        case "minLength":
+        case "minItems":
+        case "minProperties":
+            return value.isNumber() && value.doubleValue() == 0 ? "minimum of 0 always matches" : null;
+        case "uniqueItems":
+            return value.isBoolean() && !value.booleanValue() ? "uniqueItems false always matches" : null;
+        case "required":
+            return value.isArray() && value.isEmpty() ? "no properties are required" : null;
+        case "dependentRequired":
+            return value.isObject() && value.isEmpty() ? "no properties are required" : null;
+        case "propertyNames":
+            return isEmptySchema(value) ? "property names always match an empty schema" : null;
+        case "allOf":
+            if (!value.isArray()) {
+                return null;
+            }
+            for (JsonNode subschema : value) {
+                if (!isEmptySchema(subschema)) {
+                    return null;
+                }
+            }
+            return "all subschemas are empty";
+        case "additionalProperties":
+        case "items":
+            return !hasUnevaluated(schema) && isEmptySchema(value) ? "always matches an empty schema" : null;
+        case "if":
+            return !hasUnevaluated(schema) && isEmptySchema(schema.getSchemaNode().get("then"))
+                    && isEmptySchema(schema.getSchemaNode().get("else"))
+                    && !hasIdentifier(schema.getSchemaContext().getDialect().getIdKeyword(), value)
+                            ? "then and else are empty"
+                            : null;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Determines if the dialect of the schema has the unevaluatedProperties and
+     * unevaluatedItems keywords which depend on the annotations of adjacent
+     * keywords.
+     *
+     * @param schema the schema
+     * @return true if the dialect has the unevaluated keywords
+     */
+    protected boolean hasUnevaluated(Schema schema) {
+        return schema.getSchemaContext().getDialect().getSpecificationVersion().getOrder() >= DRAFT_2019_09_VALUE;
+    }
+
+    /**
+     * Determines if the schema declares an identifier that other schemas may
+     * reference and which would not be loaded if the keyword is removed.
+     *
+     * @param idKeyword the id keyword of the dialect
+     * @param schema    the schema
+     * @return true if an identifier or anchor is declared
+     */
+    protected static boolean hasIdentifier(String idKeyword, JsonNode schema) {
+        if (schema.isObject()) {
+            if (schema.has(idKeyword) || schema.has("$anchor") || schema.has("$dynamicAnchor")) {
+                return true;
+            }
+        } else if (!schema.isArray()) {
+            return false;
+        }
+        for (JsonNode child : schema) {
+            if (hasIdentifier(idKeyword, child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if the schema always matches without producing annotations.
+     *
+     * @param schema the schema or null if absent
+     * @return true if absent, true or {}
+     */
+    protected static boolean isEmptySchema(JsonNode schema) {
+        return schema == null || (schema.isBoolean() && schema.booleanValue())
+                || (schema.isObject() && schema.isEmpty());
+    }
+
+    /**
+     * A keyword removed by the optimizer.
+     */
+    public static class Removal {
+        private final SchemaLocation schemaLocation;
+        private final String keyword;
+        private final String reason;
+
+        /**
+         * Constructor.
+         *
+         * @param schemaLocation the schema location of the keyword
+         * @param keyword        the keyword
+         * @param reason         the reason
+         */
+        public Removal(SchemaLocation schemaLocation, String keyword, String reason) {
+            this.schemaLocation = schemaLocation;
+            this.keyword = keyword;
+            this.reason = reason;
+        }
+
+        /**
+         * Gets the schema location of the keyword.
+         *
+         * @return the schema location
+         */
+        public SchemaLocation getSchemaLocation() {
+            return this.schemaLocation;
+        }
+
+        /**
+         * Gets the keyword.
+         *
+         * @return the keyword
+         */
+        public String getKeyword() {
+            return this.keyword;
+        }
+
+        /**
+         * Gets the reason the keyword was removed.
+         *
+         * @return the reason
+         */
+        public String getReason() {
+            return this.reason;
+        }
+
+        @Override
+        public String toString() {
+            return this.schemaLocation + ": " + this.reason;
+        }
+    }
+}
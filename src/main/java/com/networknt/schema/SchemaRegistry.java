@@ -17,11 +17,16 @@
 package com.networknt.schema;
 
 import tools.jackson.databind.JsonNode;
+import com.networknt.schema.cache.ConcurrentSchemaCache;
+import com.networknt.schema.cache.SchemaCache;
+import com.networknt.schema.instrumentation.Instrumentation;
 import com.networknt.schema.dialect.BasicDialectRegistry;
 import com.networknt.schema.dialect.DefaultDialectRegistry;
 import com.networknt.schema.dialect.Dialect;
 import com.networknt.schema.dialect.DialectId;
 import com.networknt.schema.dialect.DialectRegistry;
+import com.networknt.schema.format.Format;
+import com.networknt.schema.format.FormatCache;
 import com.networknt.schema.path.PathType;
 import com.networknt.schema.resource.InputStreamSource;
 import com.networknt.schema.resource.ResourceLoaders;
@@ -29,6 +34,7 @@ import com.networknt.schema.resource.SchemaIdResolvers;
 import com.networknt.schema.resource.SchemaLoader;
 import com.networknt.schema.serialization.BasicNodeReader;
 import com.networknt.schema.serialization.DefaultNodeReader;
+import com.networknt.schema.serialization.LazyNodeReader;
 import com.networknt.schema.serialization.NodeReader;
 
 import org.slf4j.Logger;
@@ -37,8 +43,16 @@ import org.slf4j.LoggerFactory;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
@@ -65,6 +79,7 @@ public class SchemaRegistry {
         private NodeReader nodeReader = null;
         private SchemaLoader schemaLoader = null;
         private boolean schemaCacheEnabled = true;
+        private SchemaCache schemaCache = null;
         private SchemaRegistryConfig schemaRegistryConfig = null;
 
         /**
@@ -120,6 +135,21 @@ public class SchemaRegistry {
             return this;
         }
 
+        /**
+         * Sets the cache of the loaded schemas.
+         * <p>
+         * Defaults to an unbounded {@link ConcurrentSchemaCache}. Use a
+         * {@link com.networknt.schema.cache.BoundedSchemaCache} to bound the memory
+         * used when schemas are loaded dynamically.
+         *
+         * @param schemaCache the schema cache
+         * @return the builder
+         */
+        public Builder schemaCache(SchemaCache schemaCache) {
+            this.schemaCache = schemaCache;
+            return this;
+        }
+
         public Builder schemaLoader(SchemaLoader schemaLoader) {
             this.schemaLoader = schemaLoader;
             return this;
@@ -204,25 +234,41 @@ public class SchemaRegistry {
         }
 
         public SchemaRegistry build() {
-            return new SchemaRegistry(nodeReader, defaultDialectId, schemaLoader, schemaCacheEnabled,
+            return new SchemaRegistry(nodeReader, defaultDialectId, schemaLoader, schemaCacheEnabled, schemaCache,
                     dialectRegistry, schemaRegistryConfig);
         }
     }
 
     private final NodeReader nodeReader;
+    private final NodeReader schemaNodeReader;
     private final String defaultDialectId;
     private final SchemaLoader schemaLoader;
-    private final ConcurrentMap<SchemaLocation, Schema> schemaCache = new ConcurrentHashMap<>();
+    private volatile SchemaCache schemaCache;
+    private volatile SchemaCache nextSchemaCache = null;
+    private volatile long generation = 0;
     private final boolean schemaCacheEnabled;
     private final DialectRegistry dialectRegistry;
     private final SchemaRegistryConfig schemaRegistryConfig;
+    private final ConcurrentMap<Format, ConcurrentMap<String, FormatCache>> formatCaches = new ConcurrentHashMap<>();
+    private final SchemaLocationInterner schemaLocationInterner = new SchemaLocationInterner();
+    /**
+     * The cached schemas that were loaded with validation so that they are
+     * validated again when reloaded. This is guarded by the registry lock.
+     */
+    private final Map<Schema, Boolean> validatedSchemas = new WeakHashMap<>();
 
     private SchemaRegistry(NodeReader nodeReader, String defaultDialectId, SchemaLoader schemaLoader,
-            boolean schemaCacheEnabled, DialectRegistry dialectRegistry, SchemaRegistryConfig schemaRegistryConfig) {
+            boolean schemaCacheEnabled, SchemaCache schemaCache, DialectRegistry dialectRegistry,
+            SchemaRegistryConfig schemaRegistryConfig) {
         this.nodeReader = nodeReader != null ? nodeReader : BasicNodeReader.getInstance();
+        // Schemas are shared by concurrent validations and are always read eagerly
+        this.schemaNodeReader = this.nodeReader instanceof LazyNodeReader
+                ? ((LazyNodeReader) this.nodeReader).eager()
+                : this.nodeReader;
         this.defaultDialectId = defaultDialectId;
         this.schemaLoader = schemaLoader != null ? schemaLoader : SchemaLoader.getDefault();
         this.schemaCacheEnabled = schemaCacheEnabled;
+        this.schemaCache = schemaCache != null ? schemaCache : new ConcurrentSchemaCache();
         this.dialectRegistry = dialectRegistry != null ? dialectRegistry : new DefaultDialectRegistry();
         this.schemaRegistryConfig = schemaRegistryConfig != null ? schemaRegistryConfig
                 : SchemaRegistryConfig.getInstance();
@@ -437,6 +483,9 @@ public class SchemaRegistry {
     /**
      * Builder from an existing {@link SchemaRegistry}.
      * <p>
+     * The schema cache is not copied as the cached schemas belong to the existing
+     * registry.
+     * <p>
      * <code>
      * SchemaRegistry.builder(SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2019_09));
      * </code>
@@ -635,6 +684,14 @@ public class SchemaRegistry {
         return this.nodeReader.readTree(content, inputFormat);
     }
 
+    private JsonNode readSchemaTree(String content, InputFormat inputFormat) {
+        return this.schemaNodeReader.readTree(content, inputFormat);
+    }
+
+    private JsonNode readSchemaTree(InputStream content, InputFormat inputFormat) {
+        return this.schemaNodeReader.readTree(content, inputFormat);
+    }
+
     /**
      * Gets the schema.
      * <p>
@@ -659,7 +716,7 @@ public class SchemaRegistry {
      * @return the schema
      */
     public Schema getSchema(final String schema, InputFormat inputFormat) {
-        final JsonNode schemaNode = readTree(schema, inputFormat);
+        final JsonNode schemaNode = readSchemaTree(schema, inputFormat);
         return newSchema(null, schemaNode);
     }
 
@@ -687,7 +744,7 @@ public class SchemaRegistry {
      * @return the schema
      */
     public Schema getSchema(final InputStream schemaStream, InputFormat inputFormat) {
-        final JsonNode schemaNode = readTree(schemaStream, inputFormat);
+        final JsonNode schemaNode = readSchemaTree(schemaStream, inputFormat);
         return newSchema(null, schemaNode);
     }
 
@@ -725,7 +782,7 @@ public class SchemaRegistry {
      * @return the schema
      */
     public Schema getSchema(final SchemaLocation schemaUri, final String schema, InputFormat inputFormat) {
-        final JsonNode schemaNode = readTree(schema, inputFormat);
+        final JsonNode schemaNode = readSchemaTree(schema, inputFormat);
         return newSchema(schemaUri, schemaNode);
     }
 
@@ -738,7 +795,7 @@ public class SchemaRegistry {
      * @return the schema
      */
     public Schema getSchema(final SchemaLocation schemaUri, final InputStream schemaStream, InputFormat inputFormat) {
-        final JsonNode schemaNode = readTree(schemaStream, inputFormat);
+        final JsonNode schemaNode = readSchemaTree(schemaStream, inputFormat);
         return newSchema(schemaUri, schemaNode);
     }
 
@@ -784,15 +841,22 @@ public class SchemaRegistry {
             // ConcurrentHashMap computeIfAbsent does not allow calls that result in a
             // recursive update to the map.
             // The getMapperSchema potentially recurses to call back to getSchema again
-            Schema cachedUriSchema = schemaCache.get(schemaUri);
+            Schema cachedUriSchema = getLoadingSchemaCache().get(schemaUri);
             if (cachedUriSchema == null) {
                 synchronized (this) { // acquire lock on shared registry object to prevent deadlock
-                    cachedUriSchema = schemaCache.get(schemaUri);
+                    SchemaCache cache = getLoadingSchemaCache();
+                    cachedUriSchema = cache.peek(schemaUri);
                     if (cachedUriSchema == null) {
+                        long start = System.nanoTime();
                         cachedUriSchema = validateLoadedSchema ? getMappedSchema(schemaUri)
                                 : getMappedSchema(schemaUri, false);
                         if (cachedUriSchema != null) {
-                            schemaCache.put(schemaUri, cachedUriSchema);
+                            if (validateLoadedSchema) {
+                                this.validatedSchemas.put(cachedUriSchema, Boolean.TRUE);
+                            }
+                            long elapsed = System.nanoTime() - start;
+                            cache.put(schemaUri, cachedUriSchema, elapsed);
+                            onSchemaLoad(schemaUri, elapsed);
                         }
                     }
                 }
@@ -803,7 +867,191 @@ public class SchemaRegistry {
             }
             return cachedUriSchema;
         }
-        return validateLoadedSchema ? getMappedSchema(schemaUri) : getMappedSchema(schemaUri, false);
+        long start = System.nanoTime();
+        Schema schema = validateLoadedSchema ? getMappedSchema(schemaUri) : getMappedSchema(schemaUri, false);
+        onSchemaLoad(schemaUri, System.nanoTime() - start);
+        return schema;
+    }
+
+    private void onSchemaLoad(SchemaLocation schemaLocation, long durationNanos) {
+        Instrumentation instrumentation = this.schemaRegistryConfig.getInstrumentation();
+        if (instrumentation != null) {
+            instrumentation.onSchemaLoad(schemaLocation, durationNanos);
+        }
+    }
+
+    /**
+     * Gets the cache of the loaded schemas.
+     *
+     * @return the schema cache
+     */
+    public SchemaCache getSchemaCache() {
+        return this.schemaCache;
+    }
+
+    /**
+     * Gets the generation of the loaded schemas which is incremented each time
+     * schemas are reloaded.
+     *
+     * @return the generation
+     */
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Gets the cache that loaded schemas should be stored in.
+     * <p>
+     * While reloading, the thread performing the reload stores the schemas in the
+     * next generation while other threads continue to use the current generation.
+     *
+     * @return the schema cache
+     */
+    private SchemaCache getLoadingSchemaCache() {
+        SchemaCache next = this.nextSchemaCache;
+        if (next != null && Thread.holdsLock(this)) {
+            return next;
+        }
+        return this.schemaCache;
+    }
+
+    /**
+     * Removes the schemas loaded from the document of the schema location from
+     * the cache along with the cached schemas that have resolved a $ref into it,
+     * transitively.
+     * <p>
+     * Schemas that are still in use are not affected. Subsequent loads will
+     * retrieve the schema resources again.
+     *
+     * @param schemaLocation the schema location
+     * @return the schema locations removed from the cache
+     */
+    public Set<SchemaLocation> invalidate(SchemaLocation schemaLocation) {
+        synchronized (this) {
+            Set<SchemaLocation> removed = getDependents(this.schemaCache, Collections.singleton(schemaLocation));
+            for (SchemaLocation location : removed) {
+                this.schemaCache.invalidate(location);
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Removes all the schemas from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            this.schemaCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Reloads the schemas loaded from the documents of the schema locations along
+     * with the cached schemas that have resolved a $ref into them, transitively.
+     * <p>
+     * The affected schemas are rebuilt into the next generation of the cache which
+     * is then swapped in atomically. Until then, other threads continue to be
+     * served by the current generation and schemas that are in use, including
+     * validations in progress, continue to use the schemas they have already
+     * resolved. If any of the schemas fail to load the current generation is
+     * retained and the exception is thrown. Schemas that were loaded with
+     * validation are validated again.
+     *
+     * @param schemaLocations the schema locations that have changed
+     * @return the schema locations that were reloaded
+     */
+    public Set<SchemaLocation> reload(SchemaLocation... schemaLocations) {
+        synchronized (this) {
+            SchemaCache current = this.schemaCache;
+            Set<SchemaLocation> reloaded = getDependents(current, Arrays.asList(schemaLocations));
+            Set<SchemaLocation> validated = new HashSet<>();
+            SchemaCache next = current.copy();
+            for (SchemaLocation location : reloaded) {
+                Schema schema = current.peek(location);
+                if (schema != null && this.validatedSchemas.containsKey(schema)) {
+                    validated.add(location);
+                }
+                next.invalidate(location);
+            }
+            this.nextSchemaCache = next;
+            try {
+                for (SchemaLocation location : reloaded) {
+                    Schema schema = loadSchema(location, validated.contains(location));
+                    if (schema != null) {
+                        preload(schema);
+                    }
+                }
+                this.schemaCache = next;
+                this.generation++;
+            } finally {
+                this.nextSchemaCache = null;
+            }
+            return reloaded;
+        }
+    }
+
+    /**
+     * Gets the cached schema locations loaded from the documents of the schema
+     * locations along with the cached schemas that have resolved a $ref into them,
+     * transitively.
+     * <p>
+     * This must be called holding the lock.
+     *
+     * @param cache           the schema cache
+     * @param schemaLocations the schema locations
+     * @return the dependent schema locations
+     */
+    private static Set<SchemaLocation> getDependents(SchemaCache cache,
+            Collection<SchemaLocation> schemaLocations) {
+        Map<SchemaLocation, Schema> cached = new LinkedHashMap<>();
+        cache.forEach(cached::put);
+        Set<AbsoluteIri> invalidated = new HashSet<>();
+        for (SchemaLocation schemaLocation : schemaLocations) {
+            invalidated.add(schemaLocation.getAbsoluteIri());
+        }
+        Set<SchemaLocation> dependents = new LinkedHashSet<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<SchemaLocation, Schema> entry : cached.entrySet()) {
+                if (!dependents.contains(entry.getKey()) && (invalidated.contains(entry.getKey().getAbsoluteIri())
+                        || dependsOn(entry.getValue(), invalidated))) {
+                    dependents.add(entry.getKey());
+                    invalidated.add(entry.getKey().getAbsoluteIri());
+                    invalidated.add(entry.getValue().getSchemaLocation().getAbsoluteIri());
+                    changed = true;
+                }
+            }
+        }
+        return dependents;
+    }
+
+    /**
+     * Determines if the schema has resolved schema resources from any of the
+     * documents.
+     * <p>
+     * Resolving a $ref to another document shares its schema resources with the
+     * schema context of the referencing schema.
+     *
+     * @param schema    the schema
+     * @param documents the absolute IRI of the documents
+     * @return true if the schema depends on the documents
+     */
+    private static boolean dependsOn(Schema schema, Set<AbsoluteIri> documents) {
+        SchemaContext schemaContext = schema.getSchemaContext();
+        return dependsOn(schemaContext.getSchemaResources().values(), documents)
+                || dependsOn(schemaContext.getSchemaReferences().values(), documents)
+                || dependsOn(schemaContext.getDynamicAnchors().values(), documents);
+    }
+
+    private static boolean dependsOn(Collection<Schema> schemas, Set<AbsoluteIri> documents) {
+        for (Schema schema : schemas) {
+            AbsoluteIri absoluteIri = schema.getSchemaLocation().getAbsoluteIri();
+            if (absoluteIri != null && documents.contains(absoluteIri)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected Schema getMappedSchema(final SchemaLocation schemaUri) {
@@ -817,12 +1065,7 @@ public class SchemaRegistry {
                 if (inputStream == null) {
                     throw new IOException("Cannot load schema at " + schemaUri);
                 }
-                final JsonNode schemaNode;
-                if (isYaml(schemaUri)) {
-                    schemaNode = readTree(inputStream, InputFormat.YAML);
-                } else {
-                    schemaNode = readTree(inputStream, InputFormat.JSON);
-                }
+                final JsonNode schemaNode = readSchemaTree(inputStream, getInputFormat(schemaUri));
 
                 final Dialect dialect = getDialectOrDefault(schemaNode);
                 if (schemaUri.getFragment() == null || schemaUri.getFragment().getNameCount() == 0) {
@@ -859,17 +1102,59 @@ public class SchemaRegistry {
         return this.schemaRegistryConfig;
     }
 
-    private boolean isYaml(final SchemaLocation schemaUri) {
+    /**
+     * Gets the cache of the results of the format shared by all the schemas of
+     * this registry using the dialect.
+     * <p>
+     * The results are cached per dialect as they may depend on it, for instance
+     * the regex format uses the unicode mode from Draft 2019-09.
+     *
+     * @see SchemaRegistryConfig#getFormatCacheSize()
+     * @see FormatCache#isCacheable(Format)
+     * @param format  the format
+     * @param dialect the dialect of the schema
+     * @return the cache or null if the results of the format are not cached
+     */
+    public FormatCache getFormatCache(Format format, Dialect dialect) {
+        int formatCacheSize = this.schemaRegistryConfig.getFormatCacheSize();
+        if (formatCacheSize <= 0 || !FormatCache.isCacheable(format)) {
+            return null;
+        }
+        return this.formatCaches.computeIfAbsent(format, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(dialect.getId(), key -> new FormatCache(formatCacheSize));
+    }
+
+    /**
+     * Gets the interner of the schema locations retained by the schemas of this
+     * registry.
+     *
+     * @return the schema location interner
+     */
+    public SchemaLocationInterner getSchemaLocationInterner() {
+        return this.schemaLocationInterner;
+    }
+
+    private InputFormat getInputFormat(final SchemaLocation schemaUri) {
         final String schemeSpecificPart = schemaUri.getAbsoluteIri().toString();
         final int idx = schemeSpecificPart.lastIndexOf('.');
 
         if (idx == -1) {
             // no extension; assume json
-            return false;
+            return InputFormat.JSON;
         }
 
-        final String extension = schemeSpecificPart.substring(idx);
-        return (".yml".equals(extension) || ".yaml".equals(extension));
+        switch (schemeSpecificPart.substring(idx)) {
+        case ".yml":
+        case ".yaml":
+            return InputFormat.YAML;
+        case ".cbor":
+            return InputFormat.CBOR;
+        case ".sml":
+        case ".smile":
+            return InputFormat.SMILE;
+        default:
+            return InputFormat.JSON;
+        }
     }
 
     /**
@@ -17,6 +17,7 @@
 package com.networknt.schema;
 
 import com.networknt.schema.i18n.DefaultMessageSource;
+import com.networknt.schema.instrumentation.Instrumentation;
 import com.networknt.schema.i18n.MessageSource;
 import com.networknt.schema.path.PathType;
 import com.networknt.schema.regex.ECMAScriptRegularExpressionFactory;
@@ -56,6 +57,12 @@ public class SchemaRegistryConfig {
      */
     private final boolean cacheRefs;
 
+    /**
+     * Controls if $ref to schemas that only contain a $ref will be resolved to the
+     * final schema of the chain.
+     */
+    private final boolean collapseRefs;
+
     /**
      * When set to true, "messages" provided in schema are used for forming validation errors
      * else default messages are used
@@ -73,6 +80,16 @@ public class SchemaRegistryConfig {
      */
     private final Boolean formatAssertionsEnabled;
 
+    /**
+     * The maximum number of results of each pure format to cache.
+     */
+    private final int formatCacheSize;
+
+    /**
+     * Receives measurements of loading schemas and validating instances.
+     */
+    private final Instrumentation instrumentation;
+
     /**
      * The Locale to consider when loading validation messages from the default resource bundle.
      */
@@ -107,6 +124,11 @@ public class SchemaRegistryConfig {
      * Used to validate the acceptable $id values.
      */
     private final SchemaIdValidator schemaIdValidator;
+
+    /**
+     * Removes redundant keywords before the validators are created.
+     */
+    private final SchemaOptimizer schemaOptimizer;
     
     /**
      * Contains a mapping of how strict a keyword's validators should be.
@@ -123,20 +145,23 @@ public class SchemaRegistryConfig {
      */
     private boolean typeLoose;
 
-    protected SchemaRegistryConfig(boolean cacheRefs,
+    protected SchemaRegistryConfig(boolean cacheRefs, boolean collapseRefs,
             String errorMessageKeyword, ExecutionContextCustomizer executionContextCustomizer, boolean failFast,
-            Boolean formatAssertionsEnabled,
+            Boolean formatAssertionsEnabled, int formatCacheSize, Instrumentation instrumentation,
             Locale locale, boolean losslessNarrowing,
             MessageSource messageSource, PathType pathType,
             boolean preloadSchema,
             RegularExpressionFactory regularExpressionFactory, SchemaIdValidator schemaIdValidator,
-            Map<String, Boolean> strictness, boolean typeLoose) {
+            SchemaOptimizer schemaOptimizer, Map<String, Boolean> strictness, boolean typeLoose) {
         super();
         this.cacheRefs = cacheRefs;
+        this.collapseRefs = collapseRefs;
         this.errorMessageKeyword = errorMessageKeyword;
         this.executionContextCustomizer = executionContextCustomizer;
         this.failFast = failFast;
         this.formatAssertionsEnabled = formatAssertionsEnabled;
+        this.formatCacheSize = formatCacheSize;
+        this.instrumentation = instrumentation;
         this.locale = locale;
         this.losslessNarrowing = losslessNarrowing;
         this.messageSource = messageSource;
@@ -144,6 +169,7 @@ public class SchemaRegistryConfig {
         this.preloadSchema = preloadSchema;
         this.regularExpressionFactory = regularExpressionFactory;
         this.schemaIdValidator = schemaIdValidator;
+        this.schemaOptimizer = schemaOptimizer;
         this.strictness = strictness;
         this.typeLoose = typeLoose;
     }
@@ -167,6 +193,30 @@ public class SchemaRegistryConfig {
         return formatAssertionsEnabled;
     }
 
+    /**
+     * Gets the maximum number of results of each pure format to cache.
+     * <p>
+     * This defaults to 0 meaning that the results are not cached.
+     *
+     * @see com.networknt.schema.format.Format#isPure()
+     * @return the maximum number of results to cache
+     */
+    public int getFormatCacheSize() {
+        return this.formatCacheSize;
+    }
+
+    /**
+     * Gets the instrumentation that receives measurements of loading schemas and
+     * validating instances.
+     * <p>
+     * This defaults to null meaning that no measurements are taken.
+     *
+     * @return the instrumentation
+     */
+    public Instrumentation getInstrumentation() {
+        return this.instrumentation;
+    }
+
     /**
      * Get the locale to consider when generating localised messages (default is the
      * JVM default).
@@ -226,6 +276,18 @@ public class SchemaRegistryConfig {
         return schemaIdValidator;
     }
 
+    /**
+     * Gets the optimizer that removes redundant keywords before the validators are
+     * created.
+     * <p>
+     * This defaults to null meaning that all keywords are evaluated.
+     *
+     * @return the schema optimizer
+     */
+    public SchemaOptimizer getSchemaOptimizer() {
+        return this.schemaOptimizer;
+    }
+
     /**
      * Gets if schemas loaded from refs will be cached and reused for subsequent
      * runs.
@@ -236,6 +298,18 @@ public class SchemaRegistryConfig {
         return cacheRefs;
     }
 
+    /**
+     * Gets if $ref to schemas that only contain a $ref will be resolved to the
+     * final schema of the chain.
+     * <p>
+     * This defaults to false.
+     *
+     * @return true if chains of $ref are collapsed
+     */
+    public boolean isCollapseRefs() {
+        return collapseRefs;
+    }
+
     public String getErrorMessageKeyword() {
         return this.errorMessageKeyword;
     }
@@ -313,10 +387,13 @@ public class SchemaRegistryConfig {
     public static Builder builder(SchemaRegistryConfig config) {
         Builder builder = new Builder();
         builder.cacheRefs = config.cacheRefs;
+        builder.collapseRefs = config.collapseRefs;
         builder.errorMessageKeyword = config.errorMessageKeyword;
         builder.executionContextCustomizer = config.executionContextCustomizer;
         builder.failFast = config.failFast;
         builder.formatAssertionsEnabled = config.formatAssertionsEnabled;
+        builder.formatCacheSize = config.formatCacheSize;
+        builder.instrumentation = config.instrumentation;
         builder.locale = config.locale;
         builder.losslessNarrowing = config.losslessNarrowing;
         builder.messageSource = config.messageSource;
@@ -324,6 +401,7 @@ public class SchemaRegistryConfig {
         builder.preloadSchema = config.preloadSchema;
         builder.regularExpressionFactory = config.regularExpressionFactory;
         builder.schemaIdValidator = config.schemaIdValidator;
+        builder.schemaOptimizer = config.schemaOptimizer;
         builder.strictness = config.strictness;
         builder.typeLoose = config.typeLoose;
         return builder;
@@ -344,10 +422,13 @@ public class SchemaRegistryConfig {
      */
     public static abstract class BuilderSupport<T> {
         protected boolean cacheRefs = true;
+        protected boolean collapseRefs = false;
         protected String errorMessageKeyword = null;
         protected ExecutionContextCustomizer executionContextCustomizer = null;
         protected boolean failFast = false;
         protected Boolean formatAssertionsEnabled = null;
+        protected int formatCacheSize = 0;
+        protected Instrumentation instrumentation = null;
         protected Locale locale = null; // This must be null to use Locale.getDefault() as the default can be changed
         protected boolean losslessNarrowing = false;
         protected MessageSource messageSource = null;
@@ -355,6 +436,7 @@ public class SchemaRegistryConfig {
         protected boolean preloadSchema = true;
         protected RegularExpressionFactory regularExpressionFactory = JDKRegularExpressionFactory.getInstance();
         protected SchemaIdValidator schemaIdValidator = SchemaIdValidator.DEFAULT;
+        protected SchemaOptimizer schemaOptimizer = null;
         protected Map<String, Boolean> strictness = new HashMap<>(0);
         protected boolean typeLoose = false;
 
@@ -372,6 +454,22 @@ public class SchemaRegistryConfig {
             this.cacheRefs = cacheRefs;
             return self();
         }
+
+        /**
+         * Sets if a $ref to a schema that only contains a $ref will be resolved to
+         * the final schema of the chain when first evaluated, so that the
+         * intermediate schemas are not evaluated. The evaluation paths in the
+         * results are unchanged.
+         * <p>
+         * This requires {@link #cacheRefs(boolean)}. Defaults to false.
+         *
+         * @param collapseRefs true to collapse chains of $ref
+         * @return the builder
+         */
+        public T collapseRefs(boolean collapseRefs) {
+            this.collapseRefs = collapseRefs;
+            return self();
+        }
         /**
          * Sets the error message keyword for setting custom messages in the schema.
          * <p>
@@ -426,6 +524,42 @@ public class SchemaRegistryConfig {
             return self();
         }
 
+        /**
+         * Sets the maximum number of results of each pure format to cache keyed by
+         * the string value. This speeds up validating the same values repeatedly
+         * such as statuses, timestamps and host names.
+         * <p>
+         * The cache is bounded and an entry may be replaced by a more recent result
+         * with a colliding hash. Values longer than 256 characters are not cached.
+         * <p>
+         * Defaults to 0 meaning that the results are not cached.
+         *
+         * @see com.networknt.schema.format.Format#isPure()
+         * @param formatCacheSize the maximum number of results to cache per format
+         * @return the builder
+         */
+        public T formatCacheSize(int formatCacheSize) {
+            this.formatCacheSize = formatCacheSize;
+            return self();
+        }
+
+        /**
+         * Sets the instrumentation that receives measurements of loading schemas and
+         * validating instances such as the validation latency, keyword evaluation
+         * time, $ref resolution time and regular expression matches.
+         * <p>
+         * Defaults to null meaning that no measurements are taken.
+         *
+         * @see com.networknt.schema.instrumentation.ValidationMetrics
+         * @see com.networknt.schema.instrumentation.MeterRegistryInstrumentation
+         * @param instrumentation the instrumentation
+         * @return the builder
+         */
+        public T instrumentation(Instrumentation instrumentation) {
+            this.instrumentation = instrumentation;
+            return self();
+        }
+
         /**
 		 * Set the locale to consider when generating localized messages.
 		 * <p>
@@ -520,6 +654,21 @@ public class SchemaRegistryConfig {
             this.schemaIdValidator = schemaIdValidator;
             return self();
         }
+
+        /**
+         * Sets the optimizer that removes keywords that cannot affect the result of
+         * the validation before the validators are created.
+         * <p>
+         * Defaults to null meaning that all keywords are evaluated.
+         *
+         * @param schemaOptimizer the schema optimizer
+         * @return the builder
+         */
+        public T schemaOptimizer(SchemaOptimizer schemaOptimizer) {
+            this.schemaOptimizer = schemaOptimizer;
+            return self();
+        }
+
         public T strict(Map<String, Boolean> strict) {
             this.strictness = strict;
             return self();
@@ -534,9 +683,9 @@ public class SchemaRegistryConfig {
         }
 
         public SchemaRegistryConfig build() {
-            return new SchemaRegistryConfig(cacheRefs, errorMessageKeyword, executionContextCustomizer, failFast,
-                    formatAssertionsEnabled, locale, losslessNarrowing, messageSource, pathType,
-                    preloadSchema, regularExpressionFactory, schemaIdValidator, strictness, typeLoose);
+            return new SchemaRegistryConfig(cacheRefs, collapseRefs, errorMessageKeyword, executionContextCustomizer, failFast,
+                    formatAssertionsEnabled, formatCacheSize, instrumentation, locale, losslessNarrowing, messageSource, pathType,
+                    preloadSchema, regularExpressionFactory, schemaIdValidator, schemaOptimizer, strictness, typeLoose);
         }
 
     }
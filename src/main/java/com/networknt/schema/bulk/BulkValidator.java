@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.bulk;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+import com.networknt.schema.Error;
+import com.networknt.schema.ExecutionContextCustomizer;
+import com.networknt.schema.Schema;
+import com.networknt.schema.serialization.JsonMapperFactory;
+import com.networknt.schema.serialization.YamlMapperFactory;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Validates each record of a stream of records against a schema.
+ * <p>
+ * The records are read one at a time so only the records that are being
+ * validated are held in memory. Without an executor the records are validated
+ * on the calling thread. With an executor the records are validated in parallel
+ * with at most {@link Builder#maxPending(int)} records read but not yet
+ * delivered, and reading blocks until a result is delivered when the limit is
+ * reached. The results are always delivered to the consumer on the calling
+ * thread, in the order of the records unless {@link Builder#ordered(boolean)}
+ * is false.
+ */
+public class BulkValidator {
+    private static final int RECORD_SEPARATOR = 0x1E;
+
+    private final Schema schema;
+    private final RecordFormat recordFormat;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int maxPending;
+    private final boolean ordered;
+    private final ExecutionContextCustomizer executionCustomizer;
+
+    BulkValidator(Schema schema, RecordFormat recordFormat, ObjectMapper objectMapper, Executor executor,
+            int maxPending, boolean ordered, ExecutionContextCustomizer executionCustomizer) {
+        this.schema = schema;
+        this.recordFormat = recordFormat;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.maxPending = maxPending;
+        this.ordered = ordered;
+        this.executionCustomizer = executionCustomizer;
+    }
+
+    /**
+     * Validates the records in the file.
+     *
+     * @param path     the file
+     * @param consumer the consumer of the results
+     * @return the number of records
+     */
+    public long validate(Path path, Consumer<RecordResult> consumer) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return validate(inputStream, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Validates the records in the input stream.
+     * <p>
+     * The input stream is closed after the records are read.
+     *
+     * @param inputStream the input stream
+     * @param consumer    the consumer of the results
+     * @return the number of records
+     */
+    public long validate(InputStream inputStream, Consumer<RecordResult> consumer) {
+        if (RecordFormat.JSON_SEQ.equals(this.recordFormat)) {
+            inputStream = new RecordSeparatorInputStream(inputStream);
+        }
+        try (MappingIterator<JsonNode> records = getObjectMapper().readerFor(JsonNode.class)
+                .readValues(inputStream)) {
+            if (this.executor == null) {
+                long index = 0;
+                while (records.hasNextValue()) {
+                    consumer.accept(validate(index++, records.nextValue()));
+                }
+                return index;
+            } else if (this.ordered) {
+                return validateOrdered(records, consumer);
+            } else {
+                return validateUnordered(records, consumer);
+            }
+        }
+    }
+
+    private long validateOrdered(MappingIterator<JsonNode> records, Consumer<RecordResult> consumer) {
+        ArrayDeque<CompletableFuture<RecordResult>> pending = new ArrayDeque<>(this.maxPending);
+        long index = 0;
+        try {
+            while (records.hasNextValue()) {
+                while (pending.size() >= this.maxPending) {
+                    consumer.accept(join(pending.poll()));
+                }
+                pending.add(submit(index++, records.nextValue()));
+                while (!pending.isEmpty() && pending.peek().isDone()) {
+                    consumer.accept(join(pending.poll()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                consumer.accept(join(pending.poll()));
+            }
+            return index;
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private long validateUnordered(MappingIterator<JsonNode> records, Consumer<RecordResult> consumer) {
+        BlockingQueue<CompletableFuture<RecordResult>> completed = new LinkedBlockingQueue<>();
+        Set<CompletableFuture<RecordResult>> pending = new HashSet<>();
+        long index = 0;
+        try {
+            while (records.hasNextValue()) {
+                while (pending.size() >= this.maxPending) {
+                    consumer.accept(join(remove(pending, take(completed))));
+                }
+                CompletableFuture<RecordResult> future = submit(index++, records.nextValue());
+                pending.add(future);
+                future.whenComplete((result, throwable) -> completed.add(future));
+                CompletableFuture<RecordResult> done;
+                while ((done = completed.poll()) != null) {
+                    consumer.accept(join(remove(pending, done)));
+                }
+            }
+            while (!pending.isEmpty()) {
+                consumer.accept(join(remove(pending, take(completed))));
+            }
+            return index;
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private CompletableFuture<RecordResult> submit(long index, JsonNode instance) {
+        return CompletableFuture.supplyAsync(() -> validate(index, instance), this.executor);
+    }
+
+    private RecordResult validate(long index, JsonNode instance) {
+        List<Error> errors = this.executionCustomizer != null
+                ? this.schema.validate(instance, this.executionCustomizer)
+                : this.schema.validate(instance);
+        return new RecordResult(index, instance, errors);
+    }
+
+    private ObjectMapper getObjectMapper() {
+        if (this.objectMapper != null) {
+            return this.objectMapper;
+        }
+        return RecordFormat.YAML.equals(this.recordFormat) ? YamlMapperFactory.getInstance()
+                : JsonMapperFactory.getInstance();
+    }
+
+    private static <T> T remove(Set<T> pending, T value) {
+        pending.remove(value);
+        return value;
+    }
+
+    private static <T> T take(BlockingQueue<T> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a result", e);
+        }
+    }
+
+    private static RecordResult join(CompletableFuture<RecordResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof java.lang.Error) {
+                throw (java.lang.Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the record separator with a line feed so that the JSON texts are
+     * read as a stream of whitespace separated values.
+     * <p>
+     * The record separator cannot occur unescaped within a JSON text.
+     */
+    static class RecordSeparatorInputStream extends FilterInputStream {
+        RecordSeparatorInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            return b == RECORD_SEPARATOR ? '\n' : b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            for (int x = off; x < off + read; x++) {
+                if (b[x] == RECORD_SEPARATOR) {
+                    b[x] = '\n';
+                }
+            }
+            return read;
+        }
+    }
+
+    /**
+     * Creates a builder for {@link BulkValidator}.
+     *
+     * @param schema the schema
+     * @return the builder
+     */
+    public static Builder builder(Schema schema) {
+        return new Builder(schema);
+    }
+
+    /**
+     * Builder for {@link BulkValidator}.
+     */
+    public static class Builder {
+        private final Schema schema;
+        private RecordFormat recordFormat = RecordFormat.NDJSON;
+        private ObjectMapper objectMapper = null;
+        private Executor executor = null;
+        private int maxPending = Runtime.getRuntime().availableProcessors() * 2;
+        private boolean ordered = true;
+        private ExecutionContextCustomizer executionCustomizer = null;
+
+        Builder(Schema schema) {
+            this.schema = schema;
+        }
+
+        /**
+         * Sets the format of the records. The default is {@link RecordFormat#NDJSON}.
+         *
+         * @param recordFormat the record format
+         * @return the builder
+         */
+        public Builder recordFormat(RecordFormat recordFormat) {
+            this.recordFormat = recordFormat;
+            return this;
+        }
+
+        /**
+         * Sets the object mapper to read the records. The default is the shared
+         * mapper for the record format.
+         *
+         * @param objectMapper the object mapper
+         * @return the builder
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Sets the executor to validate the records in parallel. The default is to
+         * validate the records on the calling thread.
+         *
+         * @param executor the executor
+         * @return the builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of records that are read but not yet delivered
+         * when validating in parallel. The default is twice the number of
+         * processors.
+         *
+         * @param maxPending the maximum number of pending records
+         * @return the builder
+         */
+        public Builder maxPending(int maxPending) {
+            if (maxPending < 1) {
+                throw new IllegalArgumentException("maxPending must be at least 1");
+            }
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        /**
+         * Sets whether the results are delivered in the order of the records when
+         * validating in parallel. The default is true.
+         *
+         * @param ordered true to deliver the results in order
+         * @return the builder
+         */
+        public Builder ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Sets the customizer of the execution context of each record.
+         *
+         * @param executionCustomizer the customizer
+         * @return the builder
+         */
+        public Builder executionCustomizer(ExecutionContextCustomizer executionCustomizer) {
+            this.executionCustomizer = executionCustomizer;
+            return this;
+        }
+
+        /**
+         * Builds the {@link BulkValidator}.
+         *
+         * @return the bulk validator
+         */
+        public BulkValidator build() {
+            return new BulkValidator(this.schema, this.recordFormat, this.objectMapper, this.executor,
+                    this.maxPending, this.ordered, this.executionCustomizer);
+        }
+    }
+}
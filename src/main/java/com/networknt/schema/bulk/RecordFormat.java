@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.bulk;
+
+/**
+ * The format of a stream of records.
+ */
+public enum RecordFormat {
+    /**
+     * Newline delimited JSON where each line is a JSON text.
+     */
+    NDJSON,
+
+    /**
+     * RFC 7464 JSON text sequence where each JSON text is preceded by the record
+     * separator.
+     */
+    JSON_SEQ,
+
+    /**
+     * YAML stream where each document is a record.
+     */
+    YAML
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.bulk;
+
+import java.util.List;
+
+import com.networknt.schema.Error;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * The result of validating a record.
+ */
+public class RecordResult {
+    private final long index;
+    private final JsonNode instance;
+    private final List<Error> errors;
+
+    /**
+     * Constructor.
+     *
+     * @param index    the index of the record in the stream starting from 0
+     * @param instance the record
+     * @param errors   the errors
+     */
+    public RecordResult(long index, JsonNode instance, List<Error> errors) {
+        this.index = index;
+        this.instance = instance;
+        this.errors = errors;
+    }
+
+    /**
+     * Gets the index of the record in the stream starting from 0.
+     *
+     * @return the index
+     */
+    public long getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Gets the record.
+     *
+     * @return the record
+     */
+    public JsonNode getInstance() {
+        return this.instance;
+    }
+
+    /**
+     * Gets the errors.
+     *
+     * @return the errors
+     */
+    public List<Error> getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Determines if the record is valid.
+     *
+     * @return true if there are no errors
+     */
+    public boolean isValid() {
+        return this.errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "RecordResult [index=" + this.index + ", errors=" + this.errors + "]";
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+
+/**
+ * {@link SchemaCache} bounded by the number of entries or their total weight
+ * that evicts the least recently used schemas.
+ * <p>
+ * The values can optionally be held by soft or weak references so that they
+ * can be reclaimed by the garbage collector.
+ * <p>
+ * Evicting a schema does not affect schemas that have already resolved a $ref
+ * to it, as they continue to hold the resolved schema and do not observe the
+ * eviction. The schema is reclaimed once no such schema remains reachable.
+ */
+public class BoundedSchemaCache implements SchemaCache {
+    /**
+     * The strength of the reference used to hold cached schemas.
+     */
+    public enum ValueStrength {
+        STRONG, SOFT, WEAK
+    }
+
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final ToLongFunction<Schema> weigher;
+    private final ValueStrength valueStrength;
+    private final SchemaCacheStats stats;
+
+    private final LinkedHashMap<SchemaLocation, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReferenceQueue<Schema> referenceQueue = new ReferenceQueue<>();
+    private long weight = 0;
+
+    public BoundedSchemaCache(long maximumSize, long maximumWeight, ToLongFunction<Schema> weigher,
+            ValueStrength valueStrength) {
+        this(maximumSize, maximumWeight, weigher, valueStrength, new SchemaCacheStats());
+    }
+
+    protected BoundedSchemaCache(long maximumSize, long maximumWeight, ToLongFunction<Schema> weigher,
+            ValueStrength valueStrength, SchemaCacheStats stats) {
+        if (maximumSize < 0 || maximumWeight < 0) {
+            throw new IllegalArgumentException("maximumSize and maximumWeight must not be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.valueStrength = valueStrength;
+        this.stats = stats;
+    }
+
+    @Override
+    public Schema get(SchemaLocation schemaLocation) {
+        Schema schema;
+        synchronized (this.entries) {
+            expungeCollected();
+            Entry entry = this.entries.get(schemaLocation);
+            schema = entry != null ? entry.get() : null;
+        }
+        if (schema != null) {
+            this.stats.recordHit();
+        } else {
+            this.stats.recordMiss();
+        }
+        return schema;
+    }
+
+    @Override
+    public Schema peek(SchemaLocation schemaLocation) {
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(schemaLocation);
+            return entry != null ? entry.get() : null;
+        }
+    }
+
+    @Override
+    public void put(SchemaLocation schemaLocation, Schema schema, long loadTimeNanos) {
+        this.stats.recordLoad(loadTimeNanos);
+        long entryWeight = this.weigher.applyAsLong(schema);
+        if (entryWeight < 0) {
+            throw new IllegalArgumentException("weight must not be negative");
+        }
+        synchronized (this.entries) {
+            expungeCollected();
+            Entry previous = this.entries.put(schemaLocation, new Entry(schemaLocation, schema, entryWeight));
+            if (previous != null) {
+                this.weight -= previous.weight;
+            }
+            this.weight += entryWeight;
+            Iterator<Entry> iterator = this.entries.values().iterator();
+            while ((this.entries.size() > this.maximumSize || this.weight > this.maximumWeight)
+                    && iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                iterator.remove();
+                this.weight -= eldest.weight;
+                this.stats.recordEviction();
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(SchemaLocation schemaLocation) {
+        synchronized (this.entries) {
+            Entry entry = this.entries.remove(schemaLocation);
+            if (entry != null) {
+                this.weight -= entry.weight;
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+            this.weight = 0;
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<SchemaLocation, Schema> action) {
+        List<Entry> snapshot;
+        synchronized (this.entries) {
+            expungeCollected();
+            snapshot = new ArrayList<>(this.entries.values());
+        }
+        for (Entry entry : snapshot) {
+            Schema schema = entry.get();
+            if (schema != null) {
+                action.accept(entry.schemaLocation, schema);
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        synchronized (this.entries) {
+            expungeCollected();
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Gets the total weight of the cached schemas.
+     *
+     * @return the weight
+     */
+    public long weight() {
+        synchronized (this.entries) {
+            expungeCollected();
+            return this.weight;
+        }
+    }
+
+    @Override
+    public SchemaCache copy() {
+        BoundedSchemaCache copy = new BoundedSchemaCache(this.maximumSize, this.maximumWeight, this.weigher,
+                this.valueStrength, this.stats);
+        synchronized (this.entries) {
+            expungeCollected();
+            // Iterates from least to most recently used to retain the order
+            for (Entry entry : this.entries.values()) {
+                Schema schema = entry.get();
+                if (schema != null) {
+                    copy.entries.put(entry.schemaLocation, copy.new Entry(entry.schemaLocation, schema,
+                            entry.weight));
+                    copy.weight += entry.weight;
+                }
+            }
+        }
+        return copy;
+    }
+
+    @Override
+    public SchemaCacheStats getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Removes the entries whose values were garbage collected.
+     * <p>
+     * This must be called holding the lock.
+     */
+    private void expungeCollected() {
+        Reference<? extends Schema> reference;
+        while ((reference = this.referenceQueue.poll()) != null) {
+            SchemaLocation schemaLocation = ((KeyedReference) reference).getSchemaLocation();
+            Entry entry = this.entries.get(schemaLocation);
+            if (entry != null && entry.reference == reference) {
+                this.entries.remove(schemaLocation);
+                this.weight -= entry.weight;
+                this.stats.recordEviction();
+            }
+        }
+    }
+
+    private interface KeyedReference {
+        SchemaLocation getSchemaLocation();
+    }
+
+    private static class SoftValue extends SoftReference<Schema> implements KeyedReference {
+        private final SchemaLocation schemaLocation;
+
+        SoftValue(SchemaLocation schemaLocation, Schema schema, ReferenceQueue<Schema> queue) {
+            super(schema, queue);
+            this.schemaLocation = schemaLocation;
+        }
+
+        @Override
+        public SchemaLocation getSchemaLocation() {
+            return this.schemaLocation;
+        }
+    }
+
+    private static class WeakValue extends WeakReference<Schema> implements KeyedReference {
+        private final SchemaLocation schemaLocation;
+
+        WeakValue(SchemaLocation schemaLocation, Schema schema, ReferenceQueue<Schema> queue) {
+            super(schema, queue);
+            this.schemaLocation = schemaLocation;
+        }
+
+        @Override
+        public SchemaLocation getSchemaLocation() {
+            return this.schemaLocation;
+        }
+    }
+
+    private class Entry {
+        private final SchemaLocation schemaLocation;
+        private final Schema schema;
+        private final Reference<Schema> reference;
+        private final long weight;
+
+        Entry(SchemaLocation schemaLocation, Schema schema, long weight) {
+            this.schemaLocation = schemaLocation;
+            this.weight = weight;
+            switch (valueStrength) {
+            case SOFT:
+                this.schema = null;
+                this.reference = new SoftValue(schemaLocation, schema, referenceQueue);
+                break;
+            case WEAK:
+                this.schema = null;
+                this.reference = new WeakValue(schemaLocation, schema, referenceQueue);
+                break;
+            default:
+                this.schema = schema;
+                this.reference = null;
+                break;
+            }
+        }
+
+        Schema get() {
+            return this.reference != null ? this.reference.get() : this.schema;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private long maximumSize = Long.MAX_VALUE;
+        private long maximumWeight = Long.MAX_VALUE;
+        private ToLongFunction<Schema> weigher = schema -> 1;
+        private ValueStrength valueStrength = ValueStrength.STRONG;
+
+        /**
+         * Sets the maximum number of cached schemas.
+         *
+         * @param maximumSize the maximum number of schemas
+         * @return the builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total weight of the cached schemas.
+         * <p>
+         * For instance to bound by the number of nodes in the schema documents use
+         * <code>maximumWeight(100_000, schema -&gt; schema.getSchemaNode().size() + 1)</code>.
+         *
+         * @param maximumWeight the maximum weight
+         * @param weigher       the function to compute the weight of a schema
+         * @return the builder
+         */
+        public Builder maximumWeight(long maximumWeight, ToLongFunction<Schema> weigher) {
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Holds the cached schemas using soft references so that they are reclaimed
+         * under memory pressure.
+         *
+         * @return the builder
+         */
+        public Builder softValues() {
+            this.valueStrength = ValueStrength.SOFT;
+            return this;
+        }
+
+        /**
+         * Holds the cached schemas using weak references so that they are reclaimed
+         * once they are no longer used elsewhere.
+         *
+         * @return the builder
+         */
+        public Builder weakValues() {
+            this.valueStrength = ValueStrength.WEAK;
+            return this;
+        }
+
+        public BoundedSchemaCache build() {
+            return new BoundedSchemaCache(this.maximumSize, this.maximumWeight, this.weigher, this.valueStrength);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+
+/**
+ * Unbounded {@link SchemaCache} that never evicts.
+ * <p>
+ * This is the default and is suitable when the set of schemas is fixed.
+ */
+public class ConcurrentSchemaCache implements SchemaCache {
+    private final ConcurrentMap<SchemaLocation, Schema> schemas = new ConcurrentHashMap<>();
+    private final SchemaCacheStats stats;
+
+    public ConcurrentSchemaCache() {
+        this(new SchemaCacheStats());
+    }
+
+    protected ConcurrentSchemaCache(SchemaCacheStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public Schema get(SchemaLocation schemaLocation) {
+        Schema schema = this.schemas.get(schemaLocation);
+        if (schema != null) {
+            this.stats.recordHit();
+        } else {
+            this.stats.recordMiss();
+        }
+        return schema;
+    }
+
+    @Override
+    public Schema peek(SchemaLocation schemaLocation) {
+        return this.schemas.get(schemaLocation);
+    }
+
+    @Override
+    public void put(SchemaLocation schemaLocation, Schema schema, long loadTimeNanos) {
+        this.schemas.put(schemaLocation, schema);
+        this.stats.recordLoad(loadTimeNanos);
+    }
+
+    @Override
+    public void invalidate(SchemaLocation schemaLocation) {
+        this.schemas.remove(schemaLocation);
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.schemas.clear();
+    }
+
+    @Override
+    public void forEach(BiConsumer<SchemaLocation, Schema> action) {
+        this.schemas.forEach(action);
+    }
+
+    @Override
+    public long size() {
+        return this.schemas.size();
+    }
+
+    @Override
+    public SchemaCache copy() {
+        ConcurrentSchemaCache copy = new ConcurrentSchemaCache(this.stats);
+        copy.schemas.putAll(this.schemas);
+        return copy;
+    }
+
+    @Override
+    public SchemaCacheStats getStats() {
+        return this.stats;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.cache;
+
+import java.util.function.BiConsumer;
+
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+
+/**
+ * Cache of the schemas loaded by a {@link com.networknt.schema.SchemaRegistry}
+ * keyed by the schema location they were loaded from.
+ * <p>
+ * Implementations must be thread-safe. The registry serializes loads so
+ * implementations need not guard against concurrent loads of the same key.
+ */
+public interface SchemaCache {
+    /**
+     * Gets the cached schema recording a hit or miss.
+     *
+     * @param schemaLocation the schema location
+     * @return the schema or null if not cached
+     */
+    Schema get(SchemaLocation schemaLocation);
+
+    /**
+     * Gets the cached schema without recording statistics.
+     *
+     * @param schemaLocation the schema location
+     * @return the schema or null if not cached
+     */
+    Schema peek(SchemaLocation schemaLocation);
+
+    /**
+     * Caches the loaded schema.
+     *
+     * @param schemaLocation the schema location
+     * @param schema         the schema
+     * @param loadTimeNanos  the time taken to load the schema in nanoseconds
+     */
+    void put(SchemaLocation schemaLocation, Schema schema, long loadTimeNanos);
+
+    /**
+     * Removes the cached schema.
+     *
+     * @param schemaLocation the schema location
+     */
+    void invalidate(SchemaLocation schemaLocation);
+
+    /**
+     * Removes all the cached schemas.
+     */
+    void invalidateAll();
+
+    /**
+     * Performs the action for each cached schema.
+     *
+     * @param action the action
+     */
+    void forEach(BiConsumer<SchemaLocation, Schema> action);
+
+    /**
+     * Gets the number of cached schemas.
+     *
+     * @return the number of cached schemas
+     */
+    long size();
+
+    /**
+     * Creates a new cache with the same configuration and entries that shares the
+     * statistics of this cache.
+     * <p>
+     * This is used to stage the next generation of the cache when reloading.
+     *
+     * @return the copy
+     */
+    SchemaCache copy();
+
+    /**
+     * Gets the statistics.
+     *
+     * @return the statistics
+     */
+    SchemaCacheStats getStats();
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a {@link SchemaCache}.
+ */
+public class SchemaCacheStats {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public void recordHit() {
+        this.hitCount.increment();
+    }
+
+    public void recordMiss() {
+        this.missCount.increment();
+    }
+
+    public void recordLoad(long loadTimeNanos) {
+        this.loadCount.increment();
+        this.totalLoadTime.add(loadTimeNanos);
+    }
+
+    public void recordEviction() {
+        this.evictionCount.increment();
+    }
+
+    /**
+     * Gets the number of lookups that returned a cached schema.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Gets the number of lookups that did not return a cached schema.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Gets the ratio of lookups that returned a cached schema.
+     *
+     * @return the hit rate or 1.0 if there were no lookups
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    /**
+     * Gets the number of schemas loaded.
+     *
+     * @return the load count
+     */
+    public long getLoadCount() {
+        return this.loadCount.sum();
+    }
+
+    /**
+     * Gets the total time spent loading schemas in nanoseconds.
+     *
+     * @return the total load time
+     */
+    public long getTotalLoadTime() {
+        return this.totalLoadTime.sum();
+    }
+
+    /**
+     * Gets the number of schemas evicted due to the size or weight bounds or
+     * because the value was garbage collected.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaCacheStats [hitCount=" + getHitCount() + ", missCount=" + getMissCount() + ", loadCount="
+                + getLoadCount() + ", totalLoadTime=" + getTotalLoadTime() + ", evictionCount="
+                + getEvictionCount() + "]";
+    }
+}
@@ -323,6 +323,7 @@ public class Dialect {
     private final Map<String, Keyword> keywords;
     private final Map<String, Boolean> vocabularies;
     private final SpecificationVersion specificationVersion;
+    private final Map<String, Integer> keywordRanks;
 
     private final Builder builder;
 
@@ -342,9 +343,55 @@ public class Dialect {
         this.keywords = keywords;
         this.specificationVersion = specification;
         this.vocabularies = vocabularies;
+        this.keywordRanks = createKeywordRanks(keywords);
         this.builder = builder;
     }
 
+    private static final int RANK_DEFAULT = 4;
+
+    private static final String[] RANKED_KEYWORDS = { "discriminator", "type", "properties", "patternProperties",
+            "unevaluatedProperties", "unevaluatedItems" };
+
+    /**
+     * Gets the rank of the keyword used to order the validators, such that
+     * 'properties' comes before 'required', so that we can apply default values
+     * before validating required.
+     *
+     * @param keyword the keyword
+     * @return the rank
+     */
+    private static int rank(String keyword) {
+        switch (keyword) {
+        case "discriminator":
+            // Discriminator needs to run first to set state in the execution context
+            return 0;
+        case "type":
+            return 1;
+        case "properties":
+            return 2;
+        case "patternProperties":
+            return 3;
+        case "unevaluatedProperties":
+            return 5;
+        case "unevaluatedItems":
+            return 6;
+        default:
+            return RANK_DEFAULT;
+        }
+    }
+
+    private static Map<String, Integer> createKeywordRanks(Map<String, Keyword> keywords) {
+        Map<String, Integer> result = new HashMap<>();
+        for (String keyword : keywords.keySet()) {
+            result.put(keyword, rank(keyword));
+        }
+        // Ranked keywords may also be created outside of the dialect keywords
+        for (String keyword : RANKED_KEYWORDS) {
+            result.put(keyword, rank(keyword));
+        }
+        return result;
+    }
+
     /**
      * Create a builder without keywords or formats.
      *
@@ -435,6 +482,21 @@ public class Dialect {
         return this.specificationVersion;
     }
 
+    /**
+     * Gets the rank used to order the validators of a schema. Validators with
+     * a lower rank are evaluated first and validators with the same rank retain
+     * the schema definition order.
+     * <p>
+     * The ranks are computed once for the keywords of the dialect.
+     *
+     * @param keyword the keyword
+     * @return the rank
+     */
+    public int getKeywordRank(String keyword) {
+        Integer rank = this.keywordRanks.get(keyword);
+        return rank != null ? rank : RANK_DEFAULT;
+    }
+
     /**
      * Creates a new validator of the keyword.
      *
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.format;
+
+import com.networknt.org.apache.commons.validator.routines.DomainValidator;
+import com.networknt.org.apache.commons.validator.routines.EmailValidator;
+import com.networknt.schema.utils.RFC1123;
+
+/**
+ * Validates ASCII email addresses in a single pass with the same result as
+ * {@link IPv6AwareEmailValidator} allowing local addresses and TLDs.
+ * <p>
+ * Addresses containing non-ASCII characters, quoted strings, escapes or
+ * address literals are not supported and should be validated by the
+ * {@link EmailValidator}.
+ */
+class AsciiEmailValidator {
+    private static final int MAX_USERNAME_LENGTH = 64;
+    private static final int MAX_DOMAIN_LENGTH = 253;
+
+    /**
+     * The characters allowed in the words of the user name which excludes
+     * control characters, whitespace and the special characters except for the
+     * apostrophe.
+     */
+    private static final boolean[] WORD = new boolean[128];
+
+    static {
+        for (char ch = '!'; ch <= '~'; ch++) {
+            WORD[ch] = "()<>@,;:\\\".[]".indexOf(ch) == -1;
+        }
+    }
+
+    private final DomainValidator domainValidator;
+
+    AsciiEmailValidator(DomainValidator domainValidator) {
+        this.domainValidator = domainValidator;
+    }
+
+    /**
+     * Determines if the value can be validated.
+     *
+     * @param value the value
+     * @return true if the value only contains ASCII characters and no quotes,
+     *         backslashes or brackets
+     */
+    static boolean isSupported(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int x = 0; x < value.length(); x++) {
+            char ch = value.charAt(x);
+            if (ch >= 128 || ch == '"' || ch == '\\' || ch == '[') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if the supported value is a valid email address.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    boolean isValid(String value) {
+        int length = value.length();
+        if (length == 0 || value.charAt(length - 1) == '.') {
+            return false;
+        }
+        int at = value.lastIndexOf('@');
+        if (at <= 0 || at == length - 1) {
+            return false;
+        }
+        return isValidUser(value, at) && isValidDomain(value, at + 1, length);
+    }
+
+    private static boolean isValidUser(String value, int end) {
+        if (end > MAX_USERNAME_LENGTH) {
+            return false;
+        }
+        int word = 0;
+        for (int x = 0; x < end; x++) {
+            char ch = value.charAt(x);
+            if (ch == '.') {
+                if (x == word) {
+                    return false;
+                }
+                word = x + 1;
+            } else if (!WORD[ch]) {
+                return false;
+            }
+        }
+        return word < end;
+    }
+
+    private boolean isValidDomain(String value, int start, int end) {
+        if (end - start <= MAX_DOMAIN_LENGTH && RFC1123.isHostname(value, start, end)) {
+            int top = value.lastIndexOf('.', end - 1) + 1;
+            if (top <= start) {
+                // Local addresses are allowed
+                return true;
+            }
+            if (isAlpha(value.charAt(top)) && this.domainValidator.isValidTld(value, top, end)) {
+                return true;
+            }
+        }
+        // The domain may also be a TLD
+        return value.charAt(start) != '.' && this.domainValidator.isValidTld(value, start, end);
+    }
+
+    private static boolean isAlpha(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+}
@@ -1,9 +1,7 @@
 package com.networknt.schema.format;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
-
 import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.utils.RFC3339;
 
 /**
  * Format for date.
@@ -11,13 +9,7 @@ import com.networknt.schema.ExecutionContext;
 public class DateFormat implements Format {
     @Override
     public boolean matches(ExecutionContext executionContext, String value) {
-        try {
-            LocalDate date = LocalDate.parse(value);
-            int year = date.getYear();
-            return 0 <= year && year <= 9999;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return RFC3339.isDate(value);
     }
 
     @Override
@@ -29,4 +21,9 @@ public class DateFormat implements Format {
     public String getMessageKey() {
         return "format.date";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
@@ -1,10 +1,8 @@
 package com.networknt.schema.format;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import com.networknt.schema.ExecutionContext;
 import com.networknt.schema.SchemaContext;
+import com.networknt.schema.utils.RFC3339;
 
 /**
  * Format for duration.
@@ -12,22 +10,13 @@ import com.networknt.schema.SchemaContext;
 public class DurationFormat implements Format {
     private static final String DURATION = "duration";
 
-    private static final Pattern STRICT = Pattern.compile("^(?:P\\d+W)|(?:P(?:\\d+Y)?(?:\\d+M)?(?:\\d+D)?(?:T(?:\\d+H)?(?:\\d+M)?(?:\\d+S)?)?)$", Pattern.CASE_INSENSITIVE);
-    private static final Pattern LAX = Pattern.compile("^(?:[-+]?)P(?:[-+]?[0-9]+Y)?(?:[-+]?[0-9]+M)?(?:[-+]?[0-9]+W)?(?:[-+]?[0-9]+D)?(?:T(?:[-+]?[0-9]+H)?(?:[-+]?[0-9]+M)?(?:[-+]?[0-9]+(?:[.,][0-9]{0,9})?S)?)?$", Pattern.CASE_INSENSITIVE);
-
     @Override
     public boolean matches(ExecutionContext executionContext, SchemaContext schemaContext, String duration) {
         if (null == duration) {
             return true;
         }
 
-        if (duration.endsWith("P") || duration.endsWith("T")) {
-            return false;
-        }
-
-        Pattern pattern = isStrictValidation(schemaContext) ? STRICT : LAX;
-        Matcher matcher = pattern.matcher(duration);
-        return matcher.matches();
+        return RFC3339.isDuration(duration, isStrictValidation(schemaContext));
     }
 
     protected boolean isStrictValidation(SchemaContext schemaContext) {
@@ -43,4 +32,9 @@ public class DurationFormat implements Format {
     public String getMessageKey() {
         return "format.duration";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
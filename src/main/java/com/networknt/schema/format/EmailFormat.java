@@ -16,6 +16,7 @@
 
 package com.networknt.schema.format;
 
+import com.networknt.org.apache.commons.validator.routines.DomainValidator;
 import com.networknt.org.apache.commons.validator.routines.EmailValidator;
 import com.networknt.schema.ExecutionContext;
 import com.networknt.schema.utils.Strings;
@@ -25,17 +26,26 @@ import com.networknt.schema.utils.Strings;
  */
 public class EmailFormat implements Format {
     private final EmailValidator emailValidator;
+    private final AsciiEmailValidator asciiEmailValidator;
 
     public EmailFormat() {
-        this(new IPv6AwareEmailValidator(true, true));
+        this(new IPv6AwareEmailValidator(true, true), new AsciiEmailValidator(DomainValidator.getInstance(true)));
     }
     
     public EmailFormat(EmailValidator emailValidator) {
+        this(emailValidator, null);
+    }
+
+    private EmailFormat(EmailValidator emailValidator, AsciiEmailValidator asciiEmailValidator) {
         this.emailValidator = emailValidator;
+        this.asciiEmailValidator = asciiEmailValidator;
     }
 
     @Override
     public boolean matches(ExecutionContext executionContext, String value) {
+        if (this.asciiEmailValidator != null && AsciiEmailValidator.isSupported(value)) {
+            return this.asciiEmailValidator.isValid(value);
+        }
         if (Strings.containsNonAsciiWhitespace(value)) {
             return false;
         }
@@ -51,4 +61,9 @@ public class EmailFormat implements Format {
     public String getMessageKey() {
         return "format.email";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
@@ -56,6 +56,25 @@ public interface Format {
     default String getMessageKey() {
         return "format";
     }
+
+    /**
+     * Determines if the format is pure.
+     * <p>
+     * The result of a pure format only depends on the string value, the dialect
+     * and the configuration of the schema registry. It must not depend on the
+     * execution context. The results of a pure format may be cached if
+     * configured using
+     * {@link com.networknt.schema.SchemaRegistryConfig#getFormatCacheSize()}.
+     * <p>
+     * This only applies to the class that declares it and not to subclasses,
+     * and the results are not cached if the class overrides the methods
+     * validating the node.
+     *
+     * @return true if pure
+     */
+    default boolean isPure() {
+        return false;
+    }
     
     /**
      * Determines if the value matches the format.
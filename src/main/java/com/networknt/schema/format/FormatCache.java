@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.format;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.SchemaContext;
+import com.networknt.schema.keyword.FormatValidator;
+import com.networknt.schema.path.NodePath;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Bounded cache of the results of a pure {@link Format} keyed by the string
+ * value.
+ * <p>
+ * Each value maps to a single slot by its hash so that lookups and updates do
+ * not lock. A result replaces the result of a previous value in the same slot.
+ */
+public class FormatCache {
+    /**
+     * Longer values are not cached to avoid retaining large strings.
+     */
+    static final int MAX_VALUE_LENGTH = 256;
+
+    private static final ClassValue<Boolean> CACHEABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                // Pure is not inherited as a subclass may change the result
+                return type.getMethod("isPure").getDeclaringClass() == type
+                        && type.getMethod("matches", ExecutionContext.class, SchemaContext.class, JsonNode.class)
+                                .getDeclaringClass() == Format.class
+                        && type.getMethod("matches", ExecutionContext.class, SchemaContext.class, JsonNode.class,
+                                JsonNode.class, NodePath.class, boolean.class, FormatValidator.class)
+                                .getDeclaringClass() == Format.class
+                        && type.getMethod("validate", ExecutionContext.class, SchemaContext.class, JsonNode.class,
+                                JsonNode.class, NodePath.class, boolean.class, Supplier.class,
+                                FormatValidator.class).getDeclaringClass() == Format.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    /**
+     * Constructor.
+     *
+     * @param size the maximum number of results which is rounded up to a power
+     *             of two
+     */
+    public FormatCache(int size) {
+        int capacity = size <= 1 ? 1 : Integer.highestOneBit(Math.min(size, 1 << 30) - 1) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Gets the cached result.
+     *
+     * @param value the value
+     * @return the result or null if not cached
+     */
+    public Boolean get(String value) {
+        Entry entry = this.entries.get(index(value));
+        if (entry != null && entry.value.equals(value)) {
+            return entry.matches;
+        }
+        return null;
+    }
+
+    /**
+     * Caches the result.
+     *
+     * @param value   the value
+     * @param matches the result
+     * @return the result
+     */
+    public boolean put(String value, boolean matches) {
+        if (value.length() <= MAX_VALUE_LENGTH) {
+            this.entries.lazySet(index(value), new Entry(value, matches));
+        }
+        return matches;
+    }
+
+    /**
+     * Determines if the results of the format can be cached.
+     * <p>
+     * The format must be pure and {@link Format#isPure()} must be declared by
+     * the class of the format itself and not inherited. The class must not
+     * override the methods validating the node as the cached results are only
+     * of {@link Format#matches(ExecutionContext, SchemaContext, String)}.
+     *
+     * @param format the format
+     * @return true if cacheable
+     */
+    public static boolean isCacheable(Format format) {
+        return format.isPure() && CACHEABLE.get(format.getClass());
+    }
+
+    private int index(String value) {
+        int hash = value.hashCode();
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+    private static class Entry {
+        private final String value;
+        private final Boolean matches;
+
+        Entry(String value, boolean matches) {
+            this.value = value;
+            this.matches = matches;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.format;
+
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.utils.RFC3986;
+
+/**
+ * Format for ipv4.
+ */
+public class IPv4Format implements Format {
+    @Override
+    public boolean matches(ExecutionContext executionContext, String value) {
+        return RFC3986.isIPv4(value, 0, value.length());
+    }
+
+    @Override
+    public String getName() {
+        return "ipv4";
+    }
+
+    @Override
+    public String getMessageKey() {
+        return "format.ipv4";
+    }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+}
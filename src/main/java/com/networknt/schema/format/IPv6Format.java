@@ -3,6 +3,7 @@ package com.networknt.schema.format;
 import java.util.regex.Pattern;
 
 import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.utils.RFC3986;
 
 /**
  * Format for ipv6.
@@ -14,14 +15,8 @@ public class IPv6Format implements Format {
 
     @Override
     public boolean matches(ExecutionContext executionContext, String value) {
-        if (!value.trim().equals(value)) {
-            // leading and trailing spaces
-            return false;
-        } else if (value.contains("%")) {
-            // zone id is not part of the ipv6
-            return false;
-        }
-        return PATTERN.matcher(value).matches();
+        // The zone id is not part of the ipv6
+        return RFC3986.isIPv6(value, 0, value.length());
     }
 
     @Override
@@ -33,4 +28,9 @@ public class IPv6Format implements Format {
     public String getMessageKey() {
         return "format.ipv6";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
@@ -22,4 +22,9 @@ public class IdnHostnameFormat implements Format {
     public String getMessageKey() {
         return "format.idn-hostname";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
@@ -1,40 +1,29 @@
 package com.networknt.schema.format;
 
-import java.net.URI;
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.utils.RFC3986;
 
 /**
  * Format for iri.
  */
-public class IriFormat extends AbstractRFC3986Format {
+public class IriFormat implements Format {
     @Override
-    protected boolean validate(URI uri) {
-        boolean result = uri.isAbsolute();
-        if (result) {
-            String authority = uri.getAuthority();
-            if (authority != null) {
-                if (IPv6Format.PATTERN.matcher(authority).matches() ) {
-                    return false;
-                }
-            }
-
-            String query = uri.getRawQuery();
-            if (query != null) {
-                // [ and ] must be percent encoded
-                if (query.indexOf('[') != -1 || query.indexOf(']') != -1) {
-                    return false;
-                }
-            }
-        }
-        return result;
+    public boolean matches(ExecutionContext executionContext, String value) {
+        return RFC3986.isIri(value);
     }
 
     @Override
     public String getName() {
         return "iri";
     }
-    
+
     @Override
     public String getMessageKey() {
         return "format.iri";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
@@ -1,35 +1,29 @@
 package com.networknt.schema.format;
 
-import java.net.URI;
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.utils.RFC3986;
 
 /**
  * Format for iri-reference.
  */
-public class IriReferenceFormat extends AbstractRFC3986Format {
+public class IriReferenceFormat implements Format {
     @Override
-    protected boolean validate(URI uri) {
-        String authority = uri.getAuthority();
-        if (authority != null) {
-            if (IPv6Format.PATTERN.matcher(authority).matches() ) {
-                return false;
-            }
-        }
-        String query = uri.getRawQuery();
-        if (query != null) {
-            // [ and ] must be percent encoded
-	        return query.indexOf('[') == -1 && query.indexOf(']') == -1;
-        }
-        return true;
+    public boolean matches(ExecutionContext executionContext, String value) {
+        return RFC3986.isIriReference(value);
     }
 
     @Override
     public String getName() {
         return "iri-reference";
     }
-    
+
     @Override
     public String getMessageKey() {
         return "format.iri-reference";
     }
 
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
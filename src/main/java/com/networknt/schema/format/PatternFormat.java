@@ -68,4 +68,9 @@ public class PatternFormat implements Format {
     public String getMessageKey() {
         return this.messageKey;
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
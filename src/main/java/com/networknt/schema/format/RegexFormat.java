@@ -15,7 +15,6 @@ package com.networknt.schema.format;
 
 import com.networknt.schema.ExecutionContext;
 import com.networknt.schema.SchemaContext;
-import com.networknt.schema.regex.RegularExpression;
 
 /**
  * Format for regex.
@@ -24,12 +23,7 @@ public class RegexFormat implements Format {
     @Override
     public boolean matches(ExecutionContext executionContext, SchemaContext schemaContext, String value) {
         if (null == value) return true;
-        try {
-            RegularExpression.compile(value, schemaContext);
-            return true;
-        } catch (RuntimeException e) {
-            return false;
-        }
+        return schemaContext.getSchemaRegistryConfig().getRegularExpressionFactory().isValid(value, schemaContext);
     }
 
     @Override
@@ -41,4 +35,9 @@ public class RegexFormat implements Format {
     public String getMessageKey() {
         return "format.regex";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
@@ -1,28 +1,15 @@
 package com.networknt.schema.format;
 
-import java.net.URI;
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.utils.RFC3986;
 
 /**
- * Format for uri. 
+ * Format for uri.
  */
-public class UriFormat extends AbstractRFC3986Format {
+public class UriFormat implements Format {
     @Override
-    protected boolean validate(URI uri) {
-        boolean result = uri.isAbsolute();
-        if (result) {
-            // Java URI accepts non ASCII characters and this is not a valid in RFC3986
-            result = uri.toString().codePoints().allMatch(ch -> ch < 0x7F);
-            if (result) {
-                String query = uri.getRawQuery();
-                if (query != null) {
-                    // [ and ] must be percent encoded
-                    if (query.indexOf('[') != -1 || query.indexOf(']') != -1) {
-                        return false;
-                    }
-                }
-            }
-        }
-        return result;
+    public boolean matches(ExecutionContext executionContext, String value) {
+        return RFC3986.isUri(value);
     }
 
     @Override
@@ -34,4 +21,9 @@ public class UriFormat extends AbstractRFC3986Format {
     public String getMessageKey() {
         return "format.uri";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
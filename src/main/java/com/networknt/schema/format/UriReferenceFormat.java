@@ -1,25 +1,15 @@
 package com.networknt.schema.format;
 
-import java.net.URI;
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.utils.RFC3986;
 
 /**
  * Format for uri-reference.
  */
-public class UriReferenceFormat extends AbstractRFC3986Format {
+public class UriReferenceFormat implements Format {
     @Override
-    protected boolean validate(URI uri) {
-        // Java URI accepts non ASCII characters and this is not a valid in RFC3986
-        boolean result = uri.toString().codePoints().allMatch(ch -> ch < 0x7F);
-        if (result) {
-            String query = uri.getRawQuery();
-            if (query != null) {
-                // [ and ] must be percent encoded
-                if (query.indexOf('[') != -1 || query.indexOf(']') != -1) {
-                    return false;
-                }
-            }
-        }
-        return result;
+    public boolean matches(ExecutionContext executionContext, String value) {
+        return RFC3986.isUriReference(value);
     }
 
     @Override
@@ -31,4 +21,9 @@ public class UriReferenceFormat extends AbstractRFC3986Format {
     public String getMessageKey() {
         return "format.uri-reference";
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.instrumentation;
+
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.keyword.KeywordValidator;
+
+/**
+ * Receives measurements of the work performed when loading schemas and
+ * validating instances.
+ * <p>
+ * This is configured using
+ * {@link com.networknt.schema.SchemaRegistryConfig.Builder#instrumentation(Instrumentation)}
+ * and can be replaced for a single run using
+ * {@link ExecutionContext#setInstrumentation(Instrumentation)}. No
+ * measurements are taken when no instrumentation is configured.
+ * <p>
+ * Implementations must be thread-safe as they are called concurrently from all
+ * the validations using the configuration. The methods are called on the
+ * validating thread and should return quickly.
+ */
+public interface Instrumentation {
+    /**
+     * Gets the instrumentation to use for a run.
+     * <p>
+     * This is called when the execution context is created and can be used to
+     * only take measurements of a sample of the runs or to keep state for the
+     * duration of the run. The returned instrumentation is only used by the
+     * thread executing the run.
+     *
+     * @param executionContext the execution context
+     * @return the instrumentation or null to not take measurements of the run
+     */
+    default Instrumentation forExecution(ExecutionContext executionContext) {
+        return this;
+    }
+
+    /**
+     * Called when the validation of an instance against a schema has completed.
+     *
+     * @param schema           the schema
+     * @param executionContext the execution context
+     * @param durationNanos    the time taken in nanoseconds
+     */
+    default void onValidation(Schema schema, ExecutionContext executionContext, long durationNanos) {
+    }
+
+    /**
+     * Called when a keyword has been evaluated against an instance location.
+     * <p>
+     * The duration includes the time taken to evaluate subschemas of the keyword,
+     * for instance the time of properties includes the time of the schemas of each
+     * of the properties. The keyword is still the last element of
+     * {@link ExecutionContext#getEvaluationSchemaPath()} when this is called.
+     *
+     * @param validator        the keyword validator
+     * @param executionContext the execution context
+     * @param durationNanos    the time taken in nanoseconds
+     */
+    default void onKeyword(KeywordValidator validator, ExecutionContext executionContext, long durationNanos) {
+    }
+
+    /**
+     * Called when a $ref has been resolved to its target schema.
+     * <p>
+     * When refs are cached this is called only the first time the $ref is used.
+     * A $ref resolved during a run is reported to the instrumentation of the run
+     * and a $ref resolved when the schema is preloaded is reported to the
+     * configured instrumentation.
+     *
+     * @param schemaLocation the location of the schema containing the $ref
+     * @param ref            the $ref value
+     * @param durationNanos  the time taken in nanoseconds
+     */
+    default void onRefResolution(SchemaLocation schemaLocation, String ref, long durationNanos) {
+    }
+
+    /**
+     * Called when a schema has been loaded by the schema registry which includes
+     * retrieving and parsing the schema resource.
+     *
+     * @param schemaLocation the schema location
+     * @param durationNanos  the time taken in nanoseconds
+     */
+    default void onSchemaLoad(SchemaLocation schemaLocation, long durationNanos) {
+    }
+
+    /**
+     * Called when a regular expression has been matched against a value.
+     *
+     * @param regex   the regular expression
+     * @param matched true if the value matched
+     */
+    default void onRegexMatch(String regex, boolean matched) {
+    }
+}
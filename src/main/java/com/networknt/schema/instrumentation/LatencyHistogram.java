@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations in nanoseconds using power of two buckets.
+ * <p>
+ * Recording is lock-free. The percentiles are estimated as the upper bound of
+ * the bucket containing the percentile and are thus accurate to within a
+ * factor of two.
+ */
+public class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a duration.
+     *
+     * @param durationNanos the duration in nanoseconds
+     */
+    public void record(long durationNanos) {
+        long value = Math.max(durationNanos, 0);
+        this.buckets.incrementAndGet(Math.max(BUCKETS - 1 - Long.numberOfLeadingZeros(value), 0));
+        this.count.increment();
+        this.totalTime.add(value);
+        this.maxTime.accumulate(value);
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Gets the sum of the recorded durations in nanoseconds.
+     *
+     * @return the total time
+     */
+    public long getTotalTime() {
+        return this.totalTime.sum();
+    }
+
+    /**
+     * Gets the longest recorded duration in nanoseconds.
+     *
+     * @return the max time
+     */
+    public long getMaxTime() {
+        return this.maxTime.get();
+    }
+
+    /**
+     * Gets the mean of the recorded durations in nanoseconds.
+     *
+     * @return the mean or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getTotalTime() / count;
+    }
+
+    /**
+     * Estimates the duration at the percentile.
+     *
+     * @param percentile the percentile between 0.0 and 1.0
+     * @return the duration in nanoseconds
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be between 0.0 and 1.0");
+        }
+        long total = 0;
+        for (int x = 0; x < BUCKETS; x++) {
+            total += this.buckets.get(x);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int x = 0; x < BUCKETS; x++) {
+            seen += this.buckets.get(x);
+            if (seen >= rank && seen > 0) {
+                long upperBound = x >= BUCKETS - 2 ? Long.MAX_VALUE : (1L << (x + 1)) - 1;
+                return Math.min(upperBound, getMaxTime());
+            }
+        }
+        return getMaxTime();
+    }
+
+    /**
+     * Gets the number of recorded durations in each bucket. The bucket at index
+     * <code>i</code> contains durations from <code>2^i</code> to
+     * <code>2^(i+1) - 1</code> nanoseconds, with bucket 0 also containing 0.
+     *
+     * @return the counts
+     */
+    public long[] getBucketCounts() {
+        long[] result = new long[BUCKETS];
+        for (int x = 0; x < BUCKETS; x++) {
+            result[x] = this.buckets.get(x);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram [count=" + getCount() + ", totalTime=" + getTotalTime() + ", maxTime="
+                + getMaxTime() + ", p50=" + getPercentile(0.5) + ", p99=" + getPercentile(0.99) + "]";
+    }
+}
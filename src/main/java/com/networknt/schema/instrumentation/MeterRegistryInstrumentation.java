@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.instrumentation;
+
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.keyword.KeywordValidator;
+
+/**
+ * {@link Instrumentation} that publishes the measurements as named timers and
+ * counters with tags to an external metrics registry.
+ * <p>
+ * This does not depend on any metrics library. For instance to publish to a
+ * Micrometer <code>MeterRegistry</code>
+ *
+ * <pre>
+ * new MeterRegistryInstrumentation(new MeterRegistryInstrumentation.Meters() {
+ *     public void record(String name, long durationNanos, String... tags) {
+ *         registry.timer(name, tags).record(durationNanos, TimeUnit.NANOSECONDS);
+ *     }
+ *
+ *     public void increment(String name, String... tags) {
+ *         registry.counter(name, tags).increment();
+ *     }
+ * });
+ * </pre>
+ * <p>
+ * The tags are alternating keys and values. The schema locations are used as
+ * tag values and schemas loaded from many distinct locations will create a
+ * correspondingly large number of meters.
+ */
+public class MeterRegistryInstrumentation implements Instrumentation {
+    public static final String VALIDATION = "jsonschema.validation";
+    public static final String KEYWORD = "jsonschema.keyword";
+    public static final String REF_RESOLUTION = "jsonschema.ref.resolution";
+    public static final String SCHEMA_LOAD = "jsonschema.schema.load";
+    public static final String REGEX_MATCH = "jsonschema.regex.match";
+
+    /**
+     * The meters of the external metrics registry.
+     */
+    public interface Meters {
+        /**
+         * Records a duration to a timer.
+         *
+         * @param name          the name of the timer
+         * @param durationNanos the duration in nanoseconds
+         * @param tags          the tags as alternating keys and values
+         */
+        void record(String name, long durationNanos, String... tags);
+
+        /**
+         * Increments a counter.
+         *
+         * @param name the name of the counter
+         * @param tags the tags as alternating keys and values
+         */
+        void increment(String name, String... tags);
+    }
+
+    private final Meters meters;
+
+    public MeterRegistryInstrumentation(Meters meters) {
+        this.meters = meters;
+    }
+
+    @Override
+    public void onValidation(Schema schema, ExecutionContext executionContext, long durationNanos) {
+        this.meters.record(VALIDATION, durationNanos, "schema", schema.getSchemaLocation().toString());
+    }
+
+    @Override
+    public void onKeyword(KeywordValidator validator, ExecutionContext executionContext, long durationNanos) {
+        this.meters.record(KEYWORD, durationNanos, "keyword", validator.getKeyword());
+    }
+
+    @Override
+    public void onRefResolution(SchemaLocation schemaLocation, String ref, long durationNanos) {
+        this.meters.record(REF_RESOLUTION, durationNanos);
+    }
+
+    @Override
+    public void onSchemaLoad(SchemaLocation schemaLocation, long durationNanos) {
+        this.meters.record(SCHEMA_LOAD, durationNanos, "schema", schemaLocation.toString());
+    }
+
+    @Override
+    public void onRegexMatch(String regex, boolean matched) {
+        this.meters.increment(REGEX_MATCH, "matched", matched ? "true" : "false");
+    }
+}
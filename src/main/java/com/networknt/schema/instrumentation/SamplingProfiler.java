@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.instrumentation;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.keyword.KeywordValidator;
+
+/**
+ * {@link Instrumentation} that attributes the time spent validating to the
+ * schema locations and keywords that were evaluated.
+ * <p>
+ * A configurable fraction of the runs is traced. For each keyword evaluated in
+ * a traced run the self time, which excludes the time spent evaluating the
+ * keywords of its subschemas, is attributed to the stack of schemas and
+ * keywords being evaluated. The stack is formed from
+ * {@link ExecutionContext#getEvaluationSchema()} and
+ * {@link ExecutionContext#getEvaluationSchemaPath()}.
+ * <p>
+ * The result can be written in the collapsed stack format used by flame graph
+ * tools, for instance
+ *
+ * <pre>
+ * https://example.org/root.json#;properties;https://example.org/root.json#/properties/code;$ref;https://example.org/code.json#;pattern 5120
+ * </pre>
+ */
+public class SamplingProfiler implements Instrumentation {
+    private final double sampleRate;
+    private final DoubleSupplier random;
+    private final ConcurrentMap<String, LongAdder> stacks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SchemaLocation, LongAdder> keywords = new ConcurrentHashMap<>();
+    private final LongAdder sampleCount = new LongAdder();
+
+    public SamplingProfiler(double sampleRate, DoubleSupplier random) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0.0 and 1.0");
+        }
+        this.sampleRate = sampleRate;
+        this.random = random;
+    }
+
+    @Override
+    public Instrumentation forExecution(ExecutionContext executionContext) {
+        if (this.sampleRate >= 1 || (this.sampleRate > 0 && this.random.getAsDouble() < this.sampleRate)) {
+            return new Trace();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of runs that were traced.
+     *
+     * @return the sample count
+     */
+    public long getSampleCount() {
+        return this.sampleCount.sum();
+    }
+
+    /**
+     * Gets the self time in nanoseconds by the schema location of the keyword.
+     *
+     * @return the self time
+     */
+    public Map<SchemaLocation, Long> getKeywordSelfTimes() {
+        Map<SchemaLocation, Long> result = new TreeMap<>(
+                (left, right) -> left.toString().compareTo(right.toString()));
+        this.keywords.forEach((key, value) -> result.put(key, value.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Gets the self time in nanoseconds by the stack of schema locations and
+     * keywords separated by semicolons.
+     *
+     * @return the self time
+     */
+    public Map<String, Long> getStacks() {
+        Map<String, Long> result = new TreeMap<>();
+        this.stacks.forEach((key, value) -> result.put(key, value.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Writes the self time in nanoseconds of each stack in the collapsed stack
+     * format.
+     *
+     * @param writer the writer
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeCollapsedStacks(Writer writer) throws IOException {
+        for (Map.Entry<String, Long> entry : getStacks().entrySet()) {
+            writer.write(entry.getKey());
+            writer.write(' ');
+            writer.write(Long.toString(entry.getValue()));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Gets the self time in nanoseconds of each stack in the collapsed stack
+     * format.
+     *
+     * @return the collapsed stacks
+     */
+    public String toCollapsedStacks() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeCollapsedStacks(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Clears the recorded samples.
+     */
+    public void reset() {
+        this.stacks.clear();
+        this.keywords.clear();
+        this.sampleCount.reset();
+    }
+
+    private static void appendFrame(StringBuilder builder, String frame) {
+        if (builder.length() > 0) {
+            builder.append(';');
+        }
+        // The semicolon separates the frames
+        builder.append(frame.indexOf(';') != -1 ? frame.replace(";", "%3B") : frame);
+    }
+
+    /**
+     * Records a single run.
+     * <p>
+     * Keywords complete in post order so the time of the keywords that have
+     * completed below a depth is accumulated until the keyword at that depth
+     * completes and subtracts it to obtain its self time.
+     */
+    private class Trace implements Instrumentation {
+        private long[] childTime = new long[16];
+
+        @Override
+        public void onKeyword(KeywordValidator validator, ExecutionContext executionContext, long durationNanos) {
+            int depth = executionContext.getEvaluationSchemaPath().size();
+            if (depth + 1 >= this.childTime.length) {
+                this.childTime = Arrays.copyOf(this.childTime, Math.max(this.childTime.length * 2, depth + 2));
+            }
+            long children = 0;
+            for (int x = depth + 1; x < this.childTime.length; x++) {
+                children += this.childTime[x];
+                this.childTime[x] = 0;
+            }
+            this.childTime[depth] += durationNanos;
+            long selfTime = Math.max(durationNanos - children, 0);
+
+            StringBuilder stack = new StringBuilder();
+            Iterator<Schema> schemas = executionContext.getEvaluationSchema().iterator();
+            Iterator<Object> keywords = executionContext.getEvaluationSchemaPath().iterator();
+            while (schemas.hasNext() || keywords.hasNext()) {
+                if (schemas.hasNext()) {
+                    appendFrame(stack, schemas.next().getSchemaLocation().toString());
+                }
+                if (keywords.hasNext()) {
+                    appendFrame(stack, String.valueOf(keywords.next()));
+                }
+            }
+            stacks.computeIfAbsent(stack.toString(), key -> new LongAdder()).add(selfTime);
+            SamplingProfiler.this.keywords.computeIfAbsent(validator.getSchemaLocation(), key -> new LongAdder())
+                    .add(selfTime);
+        }
+
+        @Override
+        public void onValidation(Schema schema, ExecutionContext executionContext, long durationNanos) {
+            sampleCount.increment();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private double sampleRate = 1.0;
+        private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+        /**
+         * Sets the fraction of the runs to trace.
+         * <p>
+         * Defaults to 1.0 which traces all the runs.
+         *
+         * @param sampleRate the sample rate between 0.0 and 1.0
+         * @return the builder
+         */
+        public Builder sampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        /**
+         * Sets the source of random numbers between 0.0 and 1.0 used to select the
+         * runs to trace.
+         *
+         * @param random the random number source
+         * @return the builder
+         */
+        public Builder random(DoubleSupplier random) {
+            this.random = random;
+            return this;
+        }
+
+        public SamplingProfiler build() {
+            return new SamplingProfiler(this.sampleRate, this.random);
+        }
+    }
+}
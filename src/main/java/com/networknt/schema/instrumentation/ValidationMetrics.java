@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.instrumentation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.keyword.KeywordValidator;
+
+/**
+ * {@link Instrumentation} that aggregates the measurements in memory.
+ * <p>
+ * The validation latency is recorded per schema, the keyword evaluations per
+ * keyword and the regular expression matches per regular expression.
+ */
+public class ValidationMetrics implements Instrumentation {
+    private final ConcurrentMap<SchemaLocation, LatencyHistogram> validations = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> keywords = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> regexMatches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> regexMismatches = new ConcurrentHashMap<>();
+    private final LatencyHistogram refResolutions = new LatencyHistogram();
+    private final LatencyHistogram schemaLoads = new LatencyHistogram();
+
+    @Override
+    public void onValidation(Schema schema, ExecutionContext executionContext, long durationNanos) {
+        this.validations.computeIfAbsent(schema.getSchemaLocation(), key -> new LatencyHistogram())
+                .record(durationNanos);
+    }
+
+    @Override
+    public void onKeyword(KeywordValidator validator, ExecutionContext executionContext, long durationNanos) {
+        this.keywords.computeIfAbsent(validator.getKeyword(), key -> new LatencyHistogram()).record(durationNanos);
+    }
+
+    @Override
+    public void onRefResolution(SchemaLocation schemaLocation, String ref, long durationNanos) {
+        this.refResolutions.record(durationNanos);
+    }
+
+    @Override
+    public void onSchemaLoad(SchemaLocation schemaLocation, long durationNanos) {
+        this.schemaLoads.record(durationNanos);
+    }
+
+    @Override
+    public void onRegexMatch(String regex, boolean matched) {
+        (matched ? this.regexMatches : this.regexMismatches).computeIfAbsent(regex, key -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * Gets the validation latency by the location of the schema validated
+     * against.
+     *
+     * @return the validation latency
+     */
+    public Map<SchemaLocation, LatencyHistogram> getValidations() {
+        return Collections.unmodifiableMap(this.validations);
+    }
+
+    /**
+     * Gets the invocation count and cumulative time by keyword.
+     * <p>
+     * Note that the time of keywords with subschemas such as properties or $ref
+     * include the time of the keywords of the subschemas.
+     *
+     * @return the keyword evaluations
+     */
+    public Map<String, LatencyHistogram> getKeywords() {
+        return Collections.unmodifiableMap(this.keywords);
+    }
+
+    /**
+     * Gets the time taken to resolve $ref.
+     *
+     * @return the ref resolutions
+     */
+    public LatencyHistogram getRefResolutions() {
+        return this.refResolutions;
+    }
+
+    /**
+     * Gets the time taken to load schemas.
+     *
+     * @return the schema loads
+     */
+    public LatencyHistogram getSchemaLoads() {
+        return this.schemaLoads;
+    }
+
+    /**
+     * Gets the number of times the regular expression matched.
+     *
+     * @param regex the regular expression
+     * @return the count
+     */
+    public long getRegexMatchCount(String regex) {
+        LongAdder count = this.regexMatches.get(regex);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * Gets the number of times the regular expression did not match.
+     *
+     * @param regex the regular expression
+     * @return the count
+     */
+    public long getRegexMismatchCount(String regex) {
+        LongAdder count = this.regexMismatches.get(regex);
+        return count != null ? count.sum() : 0;
+    }
+}
@@ -109,7 +109,7 @@ public class AdditionalPropertiesValidator extends BaseKeywordValidator {
         for (Iterator<Entry<String, JsonNode>> it = node.properties().iterator(); it.hasNext(); ) {
             Entry<String, JsonNode> entry = it.next();
             String pname = entry.getKey();
-            if (!allowedProperties.contains(pname) && !handledByPatternProperties(pname)) {
+            if (!allowedProperties.contains(pname) && !handledByPatternProperties(executionContext, pname)) {
                 if (!allowAdditionalProperties) {
                     executionContext.addError(error().instanceNode(node).property(pname)
                             .instanceLocation(instanceLocation)
@@ -152,7 +152,7 @@ public class AdditionalPropertiesValidator extends BaseKeywordValidator {
         // Else continue walking.
         for (Iterator<String> it = node.propertyNames().iterator(); it.hasNext(); ) {
             String pname = it.next();
-            if (!allowedProperties.contains(pname) && !handledByPatternProperties(pname)) {
+            if (!allowedProperties.contains(pname) && !handledByPatternProperties(executionContext, pname)) {
                 if (allowAdditionalProperties) {
                     if (additionalPropertiesSchema != null) {
                         additionalPropertiesSchema.walk(executionContext, node.get(pname), rootNode,
@@ -163,15 +163,31 @@ public class AdditionalPropertiesValidator extends BaseKeywordValidator {
         }
     }
 
-    private boolean handledByPatternProperties(String pname) {
+    private boolean handledByPatternProperties(ExecutionContext executionContext, String pname) {
         for (RegularExpression pattern : this.patternProperties) {
-            if (pattern.matches(pname)) {
+            if (pattern.matches(executionContext, pname)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Determines if the property is not matched by properties or patternProperties
+     * and is therefore validated by additionalProperties.
+     *
+     * @param executionContext the execution context
+     * @param pname the property name
+     * @return true if additional
+     */
+    public boolean isAdditionalProperty(ExecutionContext executionContext, String pname) {
+        return !allowedProperties.contains(pname) && !handledByPatternProperties(executionContext, pname);
+    }
+
+    public Schema getSchema() {
+        return this.additionalPropertiesSchema;
+    }
+
     @Override
     public void preloadSchema() {
         if(additionalPropertiesSchema != null) {
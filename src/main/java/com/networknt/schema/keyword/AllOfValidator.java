@@ -95,6 +95,10 @@ public class AllOfValidator extends BaseKeywordValidator {
         }
     }
 
+    public List<Schema> getSchemas() {
+        return this.schemas;
+    }
+
     @Override
     public void preloadSchema() {
         preloadSchemas(this.schemas);
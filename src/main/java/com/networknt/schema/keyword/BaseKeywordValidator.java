@@ -38,7 +38,7 @@ public abstract class BaseKeywordValidator extends AbstractKeywordValidator {
 
     public BaseKeywordValidator(Keyword keyword, JsonNode schemaNode, SchemaLocation schemaLocation,
             Schema parentSchema, SchemaContext schemaContext) {
-        super(keyword, schemaNode, schemaLocation);
+        super(keyword, schemaNode, intern(schemaLocation, schemaContext));
         this.schemaContext = schemaContext;
 
         this.parentSchema = parentSchema;
@@ -50,6 +50,13 @@ public abstract class BaseKeywordValidator extends AbstractKeywordValidator {
         }
     }
 
+    private static SchemaLocation intern(SchemaLocation schemaLocation, SchemaContext schemaContext) {
+        if (schemaContext == null || schemaContext.getSchemaRegistry() == null) {
+            return schemaLocation;
+        }
+        return schemaContext.getSchemaRegistry().getSchemaLocationInterner().intern(schemaLocation);
+    }
+
     /**
      * Constructor to create a copy using fields.
      * @param keyword the keyword
@@ -17,67 +17,115 @@
 package com.networknt.schema.keyword;
 
 import tools.jackson.databind.JsonNode;
+import com.networknt.schema.AbsoluteIri;
 import com.networknt.schema.Error;
 import com.networknt.schema.ExecutionContext;
 import com.networknt.schema.InvalidSchemaRefException;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaRef;
 import com.networknt.schema.path.NodePath;
-import com.networknt.schema.utils.ThreadSafeCachingSupplier;
 import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SchemaContext;
 
 import java.util.Iterator;
-import java.util.function.Supplier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * {@link KeywordValidator} that resolves $dynamicRef.
  */
 public class DynamicRefValidator extends BaseKeywordValidator {
+    private final String ref;
+
+    /**
+     * The $dynamicAnchor found in each schema resource of the dynamic scope keyed
+     * by the absolute IRI of the schema resource.
+     */
+    private final ConcurrentMap<String, DynamicAnchor> dynamicScope = new ConcurrentHashMap<>();
+
+    private SchemaRef schemaRef = null;
 
     public DynamicRefValidator(SchemaLocation schemaLocation, JsonNode schemaNode, Schema parentSchema, SchemaContext schemaContext) {
         super(KeywordType.DYNAMIC_REF, schemaNode, schemaLocation, parentSchema, schemaContext);
+        this.ref = resolve(parentSchema, schemaNode.asString());
     }
 
-    static SchemaRef getRefSchema(Schema parentSchema, String refValue,
-            ExecutionContext executionContext) {
-        String ref = resolve(parentSchema, refValue);
-        return new SchemaRef(getSupplier(() -> {
-            SchemaContext schemaContext = parentSchema.getSchemaContext();
-            Schema refSchema = parentSchema.getSchemaContext().getDynamicAnchors().get(ref);
-            if (refSchema == null) { // This is a $dynamicRef without a matching $dynamicAnchor
-                // A $dynamicRef without a matching $dynamicAnchor in the same schema resource
-                // behaves like a normal $ref to $anchor
-                // A $dynamicRef without anchor in fragment behaves identical to $ref
-                SchemaRef r = RefValidator.getRefSchema(parentSchema, schemaContext, refValue);
-                if (r != null) {
-                    refSchema = r.getSchema();
+    private Schema getRefSchema(ExecutionContext executionContext) {
+        Schema refSchema = this.parentSchema.getSchemaContext().getDynamicAnchors().get(this.ref);
+        if (refSchema == null) { // This is a $dynamicRef without a matching $dynamicAnchor
+            // A $dynamicRef without a matching $dynamicAnchor in the same schema resource
+            // behaves like a normal $ref to $anchor
+            // A $dynamicRef without anchor in fragment behaves identical to $ref
+            SchemaRef r = this.schemaRef;
+            if (r == null) {
+                r = RefValidator.getRefSchema(this.parentSchema, this.parentSchema.getSchemaContext(),
+                        this.schemaNode.asString());
+                this.schemaRef = r;
+            }
+            if (r != null) {
+                refSchema = r.getSchema();
+            }
+        } else {
+            // Check parents
+            int index = this.ref.indexOf('#');
+            String absoluteIri = this.ref.substring(0, index);
+            AbsoluteIri previous = null;
+            for (Iterator<Schema> iter = executionContext.getEvaluationSchema().descendingIterator(); iter.hasNext();) {
+                Schema base = iter.next();
+                AbsoluteIri baseIri = base.getSchemaLocation().getAbsoluteIri();
+                if (baseIri == previous && previous != null) {
+                    continue;
                 }
-            } else {
-                // Check parents
-                Schema base;
-                int index = ref.indexOf("#");
-                String anchor = ref.substring(index);
-                String absoluteIri = ref.substring(0, index);
-                for (Iterator<Schema> iter = executionContext.getEvaluationSchema().descendingIterator(); iter.hasNext();) {
-                    base = iter.next();
-                    String baseAbsoluteIri = base.getSchemaLocation().getAbsoluteIri() != null ? base.getSchemaLocation().getAbsoluteIri().toString() : "";
-                    if (!baseAbsoluteIri.equals(absoluteIri)) {
-                        absoluteIri = baseAbsoluteIri;
-                        String parentRef = SchemaLocation.resolve(base.getSchemaLocation(), anchor);
-                        Schema parentRefSchema = base.getSchemaContext().getDynamicAnchors().get(parentRef);
-                        if (parentRefSchema != null) {
-                            refSchema = parentRefSchema;
-                        }
+                previous = baseIri;
+                String baseAbsoluteIri = baseIri != null ? baseIri.toString() : "";
+                if (!baseAbsoluteIri.equals(absoluteIri)) {
+                    absoluteIri = baseAbsoluteIri;
+                    Schema parentRefSchema = getDynamicAnchor(base, baseAbsoluteIri, index);
+                    if (parentRefSchema != null) {
+                        refSchema = parentRefSchema;
                     }
                 }
             }
-            return refSchema;
-        }, false));
+        }
+        return refSchema;
     }
 
-    static <T> Supplier<T> getSupplier(Supplier<T> supplier, boolean cache) {
-        return cache ? new ThreadSafeCachingSupplier<>(supplier) : supplier;
+    /**
+     * Gets the schema with the $dynamicAnchor in the schema resource of the base
+     * schema.
+     * <p>
+     * The result is cached for the schema resource. A missing $dynamicAnchor is
+     * looked up again when more dynamic anchors have been loaded.
+     *
+     * @param base            the schema in the dynamic scope
+     * @param baseAbsoluteIri the absolute IRI of the schema resource
+     * @param index           the index of the anchor in the ref
+     * @return the schema or null if the schema resource has no matching anchor
+     */
+    private Schema getDynamicAnchor(Schema base, String baseAbsoluteIri, int index) {
+        Map<String, Schema> dynamicAnchors = base.getSchemaContext().getDynamicAnchors();
+        DynamicAnchor dynamicAnchor = this.dynamicScope.get(baseAbsoluteIri);
+        if (dynamicAnchor == null || dynamicAnchor.dynamicAnchors != dynamicAnchors
+                || (dynamicAnchor.schema == null && dynamicAnchor.size != dynamicAnchors.size())) {
+            String parentRef = SchemaLocation.resolve(base.getSchemaLocation(), this.ref.substring(index));
+            int size = dynamicAnchors.size();
+            dynamicAnchor = new DynamicAnchor(dynamicAnchors, size, dynamicAnchors.get(parentRef));
+            this.dynamicScope.put(baseAbsoluteIri, dynamicAnchor);
+        }
+        return dynamicAnchor.schema;
+    }
+
+    private static class DynamicAnchor {
+        private final Map<String, Schema> dynamicAnchors;
+        private final int size;
+        private final Schema schema;
+
+        DynamicAnchor(Map<String, Schema> dynamicAnchors, int size, Schema schema) {
+            this.dynamicAnchors = dynamicAnchors;
+            this.size = size;
+            this.schema = schema;
+        }
     }
 
     private static String resolve(Schema parentSchema, String refValue) {
@@ -91,7 +139,7 @@ public class DynamicRefValidator extends BaseKeywordValidator {
 
     @Override
     public void validate(ExecutionContext executionContext, JsonNode node, JsonNode rootNode, NodePath instanceLocation) {
-        Schema refSchema = getSchemaRef(executionContext).getSchema();
+        Schema refSchema = getRefSchema(executionContext);
         if (refSchema == null) {
             Error error = error().keyword(KeywordType.DYNAMIC_REF.getValue())
                     .messageKey("internal.unresolvedRef").message("Reference {0} cannot be resolved")
@@ -107,7 +155,7 @@ public class DynamicRefValidator extends BaseKeywordValidator {
         // This is important because if we use same JsonSchemaFactory for creating multiple JSONSchema instances,
         // these schemas will be cached along with config. We have to replace the config for cached $ref references
         // with the latest config. Reset the config.
-        Schema refSchema = getSchemaRef(executionContext).getSchema();
+        Schema refSchema = getRefSchema(executionContext);
         if (refSchema == null) {
             Error error = error().keyword(KeywordType.DYNAMIC_REF.getValue())
                     .messageKey("internal.unresolvedRef").message("Reference {0} cannot be resolved")
@@ -134,7 +182,6 @@ public class DynamicRefValidator extends BaseKeywordValidator {
     }
 
 	public SchemaRef getSchemaRef(ExecutionContext executionContext ) {
-	    String refValue = schemaNode.asString();
-		return getRefSchema(this.getParentSchema(), refValue, executionContext);
+		return new SchemaRef(() -> getRefSchema(executionContext));
 	}
 }
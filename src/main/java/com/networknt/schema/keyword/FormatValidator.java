@@ -23,7 +23,10 @@ import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SchemaContext;
 import com.networknt.schema.format.BaseFormatValidator;
 import com.networknt.schema.format.Format;
+import com.networknt.schema.format.FormatCache;
 import com.networknt.schema.path.NodePath;
+import com.networknt.schema.utils.JsonType;
+import com.networknt.schema.utils.TypeFactory;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,12 +40,16 @@ public class FormatValidator extends BaseFormatValidator implements KeywordValid
     private static final Logger logger = LoggerFactory.getLogger(FormatValidator.class);
 
     private final Format format;
+    private final FormatCache formatCache;
     
     public FormatValidator(SchemaLocation schemaLocation, JsonNode schemaNode,
             Schema parentSchema, SchemaContext schemaContext, Format format,
             Keyword keyword) {
         super(schemaLocation, schemaNode, parentSchema, keyword, schemaContext);
         this.format = format;
+        this.formatCache = format != null && schemaContext.getSchemaRegistry() != null
+                ? schemaContext.getSchemaRegistry().getFormatCache(format, schemaContext.getDialect())
+                : null;
     }
 
     /**
@@ -73,13 +80,17 @@ public class FormatValidator extends BaseFormatValidator implements KeywordValid
         boolean assertionsEnabled = isAssertionsEnabled(executionContext);
         if (this.format != null) {
             try {
-                format.validate(executionContext, schemaContext, node, rootNode, instanceLocation,
-                        assertionsEnabled,
-                        () -> this.error().instanceNode(node).instanceLocation(instanceLocation)
-                                .evaluationPath(executionContext.getEvaluationPath()).messageKey(format.getMessageKey())
-                                .locale(executionContext.getExecutionConfig().getLocale())
-                                ,
-                        this);
+                if (this.formatCache != null) {
+                    validateCached(executionContext, node, instanceLocation, assertionsEnabled);
+                } else {
+                    format.validate(executionContext, schemaContext, node, rootNode, instanceLocation,
+                            assertionsEnabled,
+                            () -> this.error().instanceNode(node).instanceLocation(instanceLocation)
+                                    .evaluationPath(executionContext.getEvaluationPath()).messageKey(format.getMessageKey())
+                                    .locale(executionContext.getExecutionConfig().getLocale())
+                                    ,
+                            this);
+                }
             } catch (PatternSyntaxException pse) {
                 // String is considered valid if pattern is invalid
                 logger.error("Failed to apply pattern on {}: Invalid RE syntax [{}]", instanceLocation,
@@ -90,6 +101,36 @@ public class FormatValidator extends BaseFormatValidator implements KeywordValid
         }
     }
 
+    /**
+     * Validates a pure format using the cached result for the value if present.
+     * <p>
+     * This is only used if the format does not override the methods validating
+     * the node so the result is the same as that of
+     * {@link Format#validate(ExecutionContext, SchemaContext, JsonNode, JsonNode, NodePath, boolean, java.util.function.Supplier, FormatValidator)}.
+     *
+     * @param executionContext the execution context
+     * @param node the node
+     * @param instanceLocation the instance location
+     * @param assertionsEnabled if assertions are enabled
+     */
+    private void validateCached(ExecutionContext executionContext, JsonNode node, NodePath instanceLocation,
+            boolean assertionsEnabled) {
+        if (!assertionsEnabled
+                || TypeFactory.getValueNodeType(node, schemaContext.getSchemaRegistryConfig()) != JsonType.STRING) {
+            return;
+        }
+        String value = node.asString();
+        Boolean cached = this.formatCache.get(value);
+        boolean matches = cached != null ? cached
+                : this.formatCache.put(value, this.format.matches(executionContext, schemaContext, value));
+        if (!matches) {
+            executionContext.addError(this.error().instanceNode(node).instanceLocation(instanceLocation)
+                    .evaluationPath(executionContext.getEvaluationPath()).messageKey(format.getMessageKey())
+                    .locale(executionContext.getExecutionConfig().getLocale())
+                    .arguments(this.format.getName(), value).build());
+        }
+    }
+
     /**
      * When the Format-Assertion vocabulary is specified, implementations MUST fail upon encountering unknown formats.
      * 
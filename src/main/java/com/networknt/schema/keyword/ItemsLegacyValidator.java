@@ -30,6 +30,7 @@ import com.networknt.schema.SchemaRef;
 import com.networknt.schema.annotation.Annotation;
 import com.networknt.schema.path.NodePath;
 import com.networknt.schema.utils.SchemaRefs;
+import com.networknt.schema.walk.WalkHandler;
 
 /**
  * {@link KeywordValidator} for items Draft 4 to Draft 2019-09.
@@ -256,6 +257,7 @@ public class ItemsLegacyValidator extends BaseKeywordValidator {
                     JsonNode n = arrayNode.get(i);
                     if (n != null) {
                         if (n.isNull() && defaultNode != null) {
+                            arrayNode = executionContext.getWritableNode(arrayNode, instanceLocation);
                             arrayNode.set(i, defaultNode);
                             n = defaultNode;
                         }
@@ -279,6 +281,7 @@ public class ItemsLegacyValidator extends BaseKeywordValidator {
                     }
                     if (n != null) {
                         if (n.isNull() && defaultNode != null) {
+                            arrayNode = executionContext.getWritableNode(arrayNode, instanceLocation);
                             arrayNode.set(i, defaultNode);
                             n = defaultNode;
                         }
@@ -316,6 +319,7 @@ public class ItemsLegacyValidator extends BaseKeywordValidator {
                         }
                         if (n != null) {
                             if (n.isNull() && defaultNode != null) {
+                                arrayNode = executionContext.getWritableNode(arrayNode, instanceLocation);
                                 arrayNode.set(i, defaultNode);
                                 n = defaultNode;
                             }
@@ -365,15 +369,19 @@ public class ItemsLegacyValidator extends BaseKeywordValidator {
             executionContext.evaluationPathAddLast(keyword);
         }
         try {
-            boolean executeWalk = executionContext.getWalkConfig().getItemWalkHandler()
-                    .preWalk(executionContext, keyword, node, rootNode, instanceLocation, walkSchema, this);
+            WalkHandler itemWalkHandler = executionContext.getWalkConfig().getItemWalkHandler();
+            boolean walkListeners = itemWalkHandler.hasWalkListeners(keyword);
+            boolean executeWalk = !walkListeners
+                    || itemWalkHandler.preWalk(executionContext, keyword, node, rootNode, instanceLocation, walkSchema, this);
             int currentErrors = executionContext.getErrors().size();
             if (executeWalk) {
                 walkSchema.walk(executionContext, node, rootNode, instanceLocation, shouldValidateSchema);
             }
-            executionContext.getWalkConfig().getItemWalkHandler().postWalk(executionContext, keyword,
-                    node, rootNode, instanceLocation, walkSchema, this,
-                    executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size()));
+            if (walkListeners) {
+                itemWalkHandler.postWalk(executionContext, keyword,
+                        node, rootNode, instanceLocation, walkSchema, this,
+                        executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size()));
+            }
         } finally {
             if (additionalItems) {
                 executionContext.evaluationPathRemoveLast();
@@ -389,6 +397,10 @@ public class ItemsLegacyValidator extends BaseKeywordValidator {
     public Schema getSchema() {
         return this.schema;
     }
+
+    public Schema getAdditionalSchema() {
+        return this.additionalSchema;
+    }
     
     @Override
     public void preloadSchema() {
@@ -26,6 +26,7 @@ import com.networknt.schema.SchemaContext;
 import com.networknt.schema.annotation.Annotation;
 import com.networknt.schema.path.NodePath;
 import com.networknt.schema.utils.SchemaRefs;
+import com.networknt.schema.walk.WalkHandler;
 
 /**
  * {@link KeywordValidator} for items from Draft 2012-12.
@@ -106,6 +107,7 @@ public class ItemsValidator extends BaseKeywordValidator {
             for (int i = this.prefixCount; i < node.size(); ++i) {
                 JsonNode n = node.get(i);
                 if (n.isNull() && defaultNode != null) {
+                    arrayNode = executionContext.getWritableNode(arrayNode, instanceLocation);
                     arrayNode.set(i, defaultNode);
                     n = defaultNode;
                 }
@@ -145,8 +147,10 @@ public class ItemsValidator extends BaseKeywordValidator {
 
     private void walkSchema(ExecutionContext executionContext, Schema walkSchema, JsonNode node, JsonNode rootNode,
             NodePath instanceLocation, boolean shouldValidateSchema) {
+        WalkHandler itemWalkHandler = executionContext.getWalkConfig().getItemWalkHandler();
+        boolean walkListeners = itemWalkHandler.hasWalkListeners(KeywordType.ITEMS.getValue());
         //@formatter:off
-        boolean executeWalk = executionContext.getWalkConfig().getItemWalkHandler().preWalk(
+        boolean executeWalk = !walkListeners || itemWalkHandler.preWalk(
             executionContext,
             KeywordType.ITEMS.getValue(),
             node,
@@ -158,15 +162,17 @@ public class ItemsValidator extends BaseKeywordValidator {
         if (executeWalk) {
             walkSchema.walk(executionContext, node, rootNode, instanceLocation, shouldValidateSchema);
         }
-        executionContext.getWalkConfig().getItemWalkHandler().postWalk(
-            executionContext,
-            KeywordType.ITEMS.getValue(),
-            node,
-            rootNode,
-            instanceLocation,
-            walkSchema,
-            this, executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size())
-        );
+        if (walkListeners) {
+            itemWalkHandler.postWalk(
+                executionContext,
+                KeywordType.ITEMS.getValue(),
+                node,
+                rootNode,
+                instanceLocation,
+                walkSchema,
+                this, executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size())
+            );
+        }
         //@formatter:on
     }
 
@@ -174,6 +180,10 @@ public class ItemsValidator extends BaseKeywordValidator {
         return this.schema;
     }
 
+    public int getPrefixCount() {
+        return this.prefixCount;
+    }
+
     @Override
     public void preloadSchema() {
         this.schema.initializeValidators();
@@ -64,7 +64,7 @@ public class PatternPropertiesValidator extends BaseKeywordValidator {
             String name = field.getKey();
             JsonNode n = field.getValue();
             for (Map.Entry<RegularExpression, Schema> entry : schemas.entrySet()) {
-                if (entry.getKey().matches(name)) {
+                if (entry.getKey().matches(executionContext, name)) {
                     NodePath path = instanceLocation.append(name);
                     int currentErrors = executionContext.getErrors().size();
                     Schema schema = entry.getValue();
@@ -96,6 +96,10 @@ public class PatternPropertiesValidator extends BaseKeywordValidator {
         }
     }
     
+    public Map<RegularExpression, Schema> getSchemas() {
+        return this.schemas;
+    }
+
     @Override
     public void preloadSchema() {
         preloadSchemas(schemas.values());
@@ -51,8 +51,8 @@ public class PatternValidator extends BaseKeywordValidator {
         }
     }
 
-    private boolean matches(String value) {
-        return this.compiledPattern.matches(value);
+    private boolean matches(ExecutionContext executionContext, String value) {
+        return this.compiledPattern.matches(executionContext, value);
     }
 
     @Override
@@ -65,7 +65,7 @@ public class PatternValidator extends BaseKeywordValidator {
         }
 
         try {
-            if (!matches(node.asString())) {
+            if (!matches(executionContext, node.asString())) {
                 executionContext.addError(error().instanceNode(node).instanceLocation(instanceLocation)
                         .evaluationPath(executionContext.getEvaluationPath()).locale(executionContext.getExecutionConfig().getLocale())
                         .arguments(this.pattern).build());
@@ -26,6 +26,7 @@ import com.networknt.schema.SchemaContext;
 import com.networknt.schema.annotation.Annotation;
 import com.networknt.schema.path.NodePath;
 import com.networknt.schema.utils.SchemaRefs;
+import com.networknt.schema.walk.WalkHandler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -102,6 +103,7 @@ public class PrefixItemsValidator extends BaseKeywordValidator {
                     if (n != null) {
                         // Defaults only set if array index is explicitly null
                         if (n.isNull() && defaultNode != null) {
+                            array = executionContext.getWritableNode(array, instanceLocation);
                             array.set(i, defaultNode);
                             n = defaultNode;
                         }
@@ -156,8 +158,10 @@ public class PrefixItemsValidator extends BaseKeywordValidator {
 
     private void walkSchema(ExecutionContext executionContext, int schemaIndex, Schema walkSchema, JsonNode node, JsonNode rootNode,
             NodePath instanceLocation, boolean shouldValidateSchema) {
+        WalkHandler itemWalkHandler = executionContext.getWalkConfig().getItemWalkHandler();
+        boolean walkListeners = itemWalkHandler.hasWalkListeners(KeywordType.PREFIX_ITEMS.getValue());
         //@formatter:off
-        boolean executeWalk = executionContext.getWalkConfig().getItemWalkHandler().preWalk(
+        boolean executeWalk = !walkListeners || itemWalkHandler.preWalk(
             executionContext,
             KeywordType.PREFIX_ITEMS.getValue(),
             node,
@@ -174,15 +178,17 @@ public class PrefixItemsValidator extends BaseKeywordValidator {
                 executionContext.evaluationPathRemoveLast();
             }
         }
-        executionContext.getWalkConfig().getItemWalkHandler().postWalk(
-            executionContext,
-            KeywordType.PREFIX_ITEMS.getValue(),
-            node,
-            rootNode,
-            instanceLocation,
-            walkSchema,
-            this, executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size())
-        );
+        if (walkListeners) {
+            itemWalkHandler.postWalk(
+                executionContext,
+                KeywordType.PREFIX_ITEMS.getValue(),
+                node,
+                rootNode,
+                instanceLocation,
+                walkSchema,
+                this, executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size())
+            );
+        }
         //@formatter:on
     }
 
@@ -121,7 +121,7 @@ public class PropertiesValidator extends BaseKeywordValidator {
     public void walk(ExecutionContext executionContext, JsonNode node, JsonNode rootNode, NodePath instanceLocation, boolean shouldValidateSchema) {
         if (executionContext.getWalkConfig().getApplyDefaultsStrategy().shouldApplyPropertyDefaults() && null != node
                 && node.getNodeType() == JsonNodeType.OBJECT) {
-            applyPropertyDefaults((ObjectNode) node, executionContext);
+            node = applyPropertyDefaults((ObjectNode) node, instanceLocation, executionContext);
         }
         if (shouldValidateSchema) {
             validate(executionContext, node == null ? MissingNode.getInstance() : node, rootNode,
@@ -139,7 +139,8 @@ public class PropertiesValidator extends BaseKeywordValidator {
         }
     }
 
-    private void applyPropertyDefaults(ObjectNode node, ExecutionContext executionContext) {
+    private ObjectNode applyPropertyDefaults(ObjectNode node, NodePath instanceLocation,
+            ExecutionContext executionContext) {
         for (Map.Entry<String, Schema> entry : this.schemas.entrySet()) {
             JsonNode propertyNode = node.get(entry.getKey());
 
@@ -150,9 +151,11 @@ public class PropertiesValidator extends BaseKeywordValidator {
             boolean applyDefault = propertyNode == null || (propertyNode.isNull() && executionContext.getWalkConfig()
                     .getApplyDefaultsStrategy().shouldApplyPropertyDefaultsIfNull());
             if (applyDefault) {
+                node = executionContext.getWritableNode(node, instanceLocation);
                 node.set(entry.getKey(), defaultNode);
             }
         }
+        return node;
     }
 
     private static JsonNode getDefaultNode(Schema schema, ExecutionContext executionContext) {
@@ -171,7 +174,8 @@ public class PropertiesValidator extends BaseKeywordValidator {
         Schema propertySchema = entry.getValue();
         JsonNode propertyNode = (node == null ? null : node.get(entry.getKey()));
         NodePath path = instanceLocation.append(entry.getKey());
-        boolean executeWalk = propertyWalkHandler.preWalk(executionContext,
+        boolean walkListeners = propertyWalkHandler.hasWalkListeners(KeywordType.PROPERTIES.getValue());
+        boolean executeWalk = !walkListeners || propertyWalkHandler.preWalk(executionContext,
                 KeywordType.PROPERTIES.getValue(), propertyNode, rootNode, path,
                 propertySchema, this);
         if (propertyNode == null && node != null) {
@@ -182,9 +186,11 @@ public class PropertiesValidator extends BaseKeywordValidator {
         if (executeWalk) {
             propertySchema.walk(executionContext, propertyNode, rootNode, path, shouldValidateSchema);
         }
-        propertyWalkHandler.postWalk(executionContext, KeywordType.PROPERTIES.getValue(),
-                propertyNode, rootNode, path, propertySchema, this,
-                executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size()));
+        if (walkListeners) {
+            propertyWalkHandler.postWalk(executionContext, KeywordType.PROPERTIES.getValue(),
+                    propertyNode, rootNode, path, propertySchema, this,
+                    executionContext.getErrors().subList(currentErrors, executionContext.getErrors().size()));
+        }
     }
 
     public Map<String, Schema> getSchemas() {
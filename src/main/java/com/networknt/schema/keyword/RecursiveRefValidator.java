@@ -28,11 +28,18 @@ import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SchemaContext;
 
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * {@link KeywordValidator} that resolves $recursiveRef.
  */
 public class RecursiveRefValidator extends BaseKeywordValidator {
+    /**
+     * The schema resource roots in the dynamic scope keyed by absolute IRI.
+     */
+    private final ConcurrentMap<String, Schema> resourceRoots = new ConcurrentHashMap<>();
 
     public RecursiveRefValidator(SchemaLocation schemaLocation, JsonNode schemaNode, Schema parentSchema, SchemaContext schemaContext) {
         super(KeywordType.RECURSIVE_REF, schemaNode, schemaLocation, parentSchema, schemaContext);
@@ -48,7 +55,17 @@ public class RecursiveRefValidator extends BaseKeywordValidator {
         }
     }
 
-    static Schema getSchema(Schema parentSchema, ExecutionContext executionContext) {
+    /**
+     * Gets the schema the $recursiveRef resolves to.
+     *
+     * @param parentSchema     the parent schema
+     * @param executionContext the execution context
+     * @param resourceRoots    the cache of the schema resource roots keyed by
+     *                         absolute IRI
+     * @return the schema
+     */
+    private static Schema getSchema(Schema parentSchema, ExecutionContext executionContext,
+            Map<String, Schema> resourceRoots) {
         Schema refSchema = parentSchema.findSchemaResourceRoot(); // Get the document
         Schema current = refSchema;
         Schema check = null;
@@ -64,7 +81,11 @@ public class RecursiveRefValidator extends BaseKeywordValidator {
                     if (!base.equals(baseCheck)) {
                         base = baseCheck;
                         // Check if it has a dynamic anchor
-                        check = current.findSchemaResourceRoot();
+                        check = resourceRoots.get(baseCheck);
+                        if (check == null) {
+                            check = current.findSchemaResourceRoot();
+                            resourceRoots.put(baseCheck, check);
+                        }
                         if (check.isRecursiveAnchor()) {
                             refSchema = check;
                         }
@@ -77,7 +98,7 @@ public class RecursiveRefValidator extends BaseKeywordValidator {
     
     @Override
     public void validate(ExecutionContext executionContext, JsonNode node, JsonNode rootNode, NodePath instanceLocation) {
-        Schema refSchema = getSchemaRef(executionContext).getSchema();
+        Schema refSchema = getSchema(this.parentSchema, executionContext, this.resourceRoots);
         if (refSchema == null) {
             Error error = error().keyword(KeywordType.RECURSIVE_REF.getValue())
                     .messageKey("internal.unresolvedRef").message("Reference {0} cannot be resolved")
@@ -94,7 +115,7 @@ public class RecursiveRefValidator extends BaseKeywordValidator {
         // This is important because if we use same JsonSchemaFactory for creating multiple JSONSchema instances,
         // these schemas will be cached along with config. We have to replace the config for cached $ref references
         // with the latest config. Reset the config.
-        Schema refSchema = getSchemaRef(executionContext).getSchema();
+        Schema refSchema = getSchema(this.parentSchema, executionContext, this.resourceRoots);
         if (refSchema == null) {
             Error error = error().keyword(KeywordType.RECURSIVE_REF.getValue())
                     .messageKey("internal.unresolvedRef").message("Reference {0} cannot be resolved")
@@ -121,6 +142,6 @@ public class RecursiveRefValidator extends BaseKeywordValidator {
     }
 
     public SchemaRef getSchemaRef(ExecutionContext executionContext) {
-        return new SchemaRef(() -> getSchema(this.parentSchema, executionContext));
+        return new SchemaRef(() -> getSchema(this.parentSchema, executionContext, this.resourceRoots));
     }
 }
@@ -17,6 +17,7 @@
 package com.networknt.schema.keyword;
 
 import tools.jackson.databind.JsonNode;
+import com.networknt.schema.AbsoluteIri;
 import com.networknt.schema.Error;
 import com.networknt.schema.ExecutionContext;
 import com.networknt.schema.InvalidSchemaRefException;
@@ -24,12 +25,15 @@ import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaException;
 import com.networknt.schema.SchemaRef;
 import com.networknt.schema.SpecificationVersion;
+import com.networknt.schema.instrumentation.Instrumentation;
 import com.networknt.schema.path.NodePath;
 import com.networknt.schema.utils.ThreadSafeCachingSupplier;
 import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SchemaContext;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
@@ -39,11 +43,124 @@ public class RefValidator extends BaseKeywordValidator {
     protected final SchemaRef schema;
 
     private static final String REF_CURRENT = "#";
+    private static final int MAX_COLLAPSED_REFS = 32;
+
+    private final boolean collapseRefs;
+
+    /**
+     * The collapsed chain of $ref which is only set if collapseRefs is enabled.
+     */
+    private Link link = null;
+
+    /**
+     * Set once the referenced schema is resolved and cached so that the
+     * resolution is only reported the first time.
+     */
+    private volatile boolean resolved = false;
 
     public RefValidator(SchemaLocation schemaLocation, JsonNode schemaNode, Schema parentSchema, SchemaContext schemaContext) {
         super(KeywordType.REF, schemaNode, schemaLocation, parentSchema, schemaContext);
         String refValue = schemaNode.asString();
         this.schema = getRefSchema(parentSchema, schemaContext, refValue);
+        this.collapseRefs = schemaContext.getSchemaRegistryConfig().isCollapseRefs()
+                && schemaContext.getSchemaRegistryConfig().isCacheRefs();
+    }
+
+    /**
+     * The final schema of a chain of $ref and the number of schemas that only
+     * contain a $ref that are skipped to reach it.
+     */
+    private static class Link {
+        private final Schema target;
+        private final int hops;
+
+        private Link(Schema target, int hops) {
+            this.target = target;
+            this.hops = hops;
+        }
+    }
+
+    /**
+     * Follows the chain of schemas that only contain a $ref.
+     * <p>
+     * A schema is only skipped if it is in the same schema resource as the schema
+     * containing this $ref or as the schema it references, so that the dynamic
+     * scope is unchanged.
+     *
+     * @param executionContext the execution context
+     * @param refSchema the schema referenced
+     * @return the link
+     */
+    private Link link(ExecutionContext executionContext, Schema refSchema) {
+        AbsoluteIri referrer = this.parentSchema.getSchemaLocation().getAbsoluteIri();
+        Schema target = refSchema;
+        int hops = 0;
+        while (hops < MAX_COLLAPSED_REFS) {
+            RefValidator next = getRefOnly(target);
+            if (next == null) {
+                break;
+            }
+            Schema nextTarget = next.getSchema(executionContext);
+            if (nextTarget == null) {
+                break;
+            }
+            AbsoluteIri absoluteIri = target.getSchemaLocation().getAbsoluteIri();
+            if (!Objects.equals(absoluteIri, referrer)
+                    && !Objects.equals(absoluteIri, nextTarget.getSchemaLocation().getAbsoluteIri())) {
+                break;
+            }
+            target = nextTarget;
+            hops++;
+        }
+        return new Link(target, hops);
+    }
+
+    /**
+     * Gets the schema referenced by the $ref.
+     * <p>
+     * The time taken to resolve the schema is reported to the instrumentation of
+     * the run.
+     *
+     * @param executionContext the execution context
+     * @return the schema or null if it cannot be resolved
+     */
+    public Schema getSchema(ExecutionContext executionContext) {
+        return resolve(executionContext.getInstrumentation());
+    }
+
+    private Schema resolve(Instrumentation instrumentation) {
+        if (instrumentation == null || this.resolved) {
+            Schema result = this.schema.getSchema();
+            this.resolved = this.schemaContext.getSchemaRegistryConfig().isCacheRefs();
+            return result;
+        }
+        long start = System.nanoTime();
+        try {
+            Schema result = this.schema.getSchema();
+            this.resolved = this.schemaContext.getSchemaRegistryConfig().isCacheRefs();
+            return result;
+        } finally {
+            instrumentation.onRefResolution(this.parentSchema.getSchemaLocation(), this.schemaNode.asString(),
+                    System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets the $ref validator if the schema only contains a $ref.
+     *
+     * @param schema the schema
+     * @return the validator or null
+     */
+    private static RefValidator getRefOnly(Schema schema) {
+        JsonNode schemaNode = schema.getSchemaNode();
+        if (!schemaNode.isObject() || schemaNode.size() != 1) {
+            return null;
+        }
+        List<KeywordValidator> validators = schema.getValidators();
+        if (validators.size() == 1 && validators.get(0).getClass() == RefValidator.class) {
+            return (RefValidator) validators.get(0);
+        }
+        return null;
     }
 
     static SchemaRef getRefSchema(Schema parentSchema, SchemaContext schemaContext, String refValue) {
@@ -131,6 +248,7 @@ public class RefValidator extends BaseKeywordValidator {
         return cache ? new ThreadSafeCachingSupplier<>(supplier) : supplier;
     }
 
+
     private static void copySchemaResources(SchemaContext schemaContext, Schema schemaResource) {
         if (!schemaResource.getSchemaContext().getSchemaResources().isEmpty()) {
             schemaContext.getSchemaResources()
@@ -184,16 +302,34 @@ public class RefValidator extends BaseKeywordValidator {
 
     @Override
     public void validate(ExecutionContext executionContext, JsonNode node, JsonNode rootNode, NodePath instanceLocation) {
-        
-        Schema refSchema = this.schema.getSchema();
-        if (refSchema == null) {
-            Error error = error().keyword(KeywordType.REF.getValue())
-                    .messageKey("internal.unresolvedRef").message("Reference {0} cannot be resolved")
-                    .instanceLocation(instanceLocation).evaluationPath(executionContext.getEvaluationPath())
-                    .arguments(schemaNode.asString()).build();
-            throw new InvalidSchemaRefException(error);
+        Link link = this.link;
+        if (link == null) {
+            Schema refSchema = getSchema(executionContext);
+            if (refSchema == null) {
+                Error error = error().keyword(KeywordType.REF.getValue())
+                        .messageKey("internal.unresolvedRef").message("Reference {0} cannot be resolved")
+                        .instanceLocation(instanceLocation).evaluationPath(executionContext.getEvaluationPath())
+                        .arguments(schemaNode.asString()).build();
+                throw new InvalidSchemaRefException(error);
+            }
+            if (!this.collapseRefs) {
+                refSchema.validate(executionContext, node, rootNode, instanceLocation);
+                return;
+            }
+            link = link(executionContext, refSchema);
+            this.link = link;
+        }
+        // The skipped schemas only contain a $ref so only the evaluation path needs to be updated
+        for (int x = 0; x < link.hops; x++) {
+            executionContext.evaluationPathAddLast(KeywordType.REF.getValue());
+        }
+        try {
+            link.target.validate(executionContext, node, rootNode, instanceLocation);
+        } finally {
+            for (int x = 0; x < link.hops; x++) {
+                executionContext.evaluationPathRemoveLast();
+            }
         }
-        refSchema.validate(executionContext, node, rootNode, instanceLocation);
     }
 
     @Override
@@ -202,7 +338,7 @@ public class RefValidator extends BaseKeywordValidator {
         // This is important because if we use same JsonSchemaFactory for creating multiple JSONSchema instances,
         // these schemas will be cached along with config. We have to replace the config for cached $ref references
         // with the latest config. Reset the config.
-        Schema refSchema = this.schema.getSchema();
+        Schema refSchema = getSchema(executionContext);
         if (refSchema == null) {
             Error error = error().keyword(KeywordType.REF.getValue())
                     .messageKey("internal.unresolvedRef").message("Reference {0} cannot be resolved")
@@ -236,7 +372,8 @@ public class RefValidator extends BaseKeywordValidator {
     public void preloadSchema() {
         Schema jsonSchema = null;
         try {
-            jsonSchema = this.schema.getSchema();
+            // Schemas are preloaded outside of a run
+            jsonSchema = resolve(this.schemaContext.getSchemaRegistryConfig().getInstrumentation());
         } catch (SchemaException e) {
             throw e;
         } catch (RuntimeException e) {
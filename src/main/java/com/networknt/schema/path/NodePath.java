@@ -29,13 +29,14 @@ public class NodePath implements Comparable<NodePath>, Path {
     private final int pathSegmentIndex;
 
     private volatile String value = null; // computed lazily
-    private int hash = 0; // computed lazily
+    private final int hash;
 
     public NodePath(PathType type) {
         this.type = type;
         this.parent = null;
         this.pathSegment = null;
         this.pathSegmentIndex = -1;
+        this.hash = hash(null, null, -1, type);
     }
 
     private NodePath(NodePath parent, String pathSegment) {
@@ -43,6 +44,7 @@ public class NodePath implements Comparable<NodePath>, Path {
         this.type = parent.type;
         this.pathSegment = pathSegment;
         this.pathSegmentIndex = -1;
+        this.hash = hash(parent, pathSegment, -1, this.type);
     }
 
     private NodePath(NodePath parent, int pathSegmentIndex) {
@@ -50,6 +52,18 @@ public class NodePath implements Comparable<NodePath>, Path {
         this.type = parent.type;
         this.pathSegment = null;
         this.pathSegmentIndex = pathSegmentIndex;
+        this.hash = hash(parent, null, pathSegmentIndex, this.type);
+    }
+
+    /**
+     * Computes the hash code from the hash code of the parent so that it does not
+     * need to walk the path.
+     */
+    private static int hash(NodePath parent, String pathSegment, int pathSegmentIndex, PathType type) {
+        int result = 31 + (parent != null ? parent.hash : 0);
+        result = 31 * result + (pathSegment != null ? pathSegment.hashCode() : 0);
+        result = 31 * result + pathSegmentIndex;
+        return 31 * result + (type != null ? type.hashCode() : 0);
     }
 
     /**
@@ -243,12 +257,7 @@ public class NodePath implements Comparable<NodePath>, Path {
 
     @Override
     public int hashCode() {
-        int h = hash;
-        if (h == 0) {
-            h = Objects.hash(parent, pathSegment, pathSegmentIndex, type);
-            hash = h;
-        }
-        return h;
+        return this.hash;
     }
 
     @Override
@@ -260,8 +269,9 @@ public class NodePath implements Comparable<NodePath>, Path {
         if (getClass() != obj.getClass())
             return false;
         NodePath other = (NodePath) obj;
-        return Objects.equals(pathSegment, other.pathSegment) && pathSegmentIndex == other.pathSegmentIndex
-                && type == other.type && Objects.equals(parent, other.parent);
+        return hash == other.hash && pathSegmentIndex == other.pathSegmentIndex
+                && Objects.equals(pathSegment, other.pathSegment) && type == other.type
+                && Objects.equals(parent, other.parent);
     }
 
     @Override
@@ -49,4 +49,9 @@ public class AllowRegularExpressionFactory implements RegularExpressionFactory {
         throw new InvalidSchemaException(Error.builder()
                 .message("Regular expression ''{0}'' is not allowed to be used.").arguments(regex).build());
     }
+
+    @Override
+    public boolean isValid(String regex, SchemaContext schemaContext) {
+        return this.allowed.test(regex) && this.delegate.isValid(regex, schemaContext);
+    }
 }
@@ -51,4 +51,9 @@ public class ECMAScriptRegularExpressionFactory implements RegularExpressionFact
     public RegularExpression getRegularExpression(String regex, SchemaContext schemaContext) {
         return DELEGATE.getRegularExpression(regex, schemaContext);
     }
+
+    @Override
+    public boolean isValid(String regex, SchemaContext schemaContext) {
+        return DELEGATE.isValid(regex, schemaContext);
+    }
 }
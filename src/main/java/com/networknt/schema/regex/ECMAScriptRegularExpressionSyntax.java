@@ -0,0 +1,812 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.networknt.schema.SchemaContext;
+import com.networknt.schema.SpecificationVersion;
+
+/**
+ * Checks the syntax of ECMA-262 regular expressions without compiling them.
+ * <p>
+ * In unicode mode the pattern is checked against the grammar used with the u
+ * flag. Otherwise the more lenient grammar of Annex B is used. The check
+ * includes capture group references, group names, quantifier bounds and
+ * character class ranges. Unicode property names are checked against the
+ * values listed by ECMA-262 with the scripts known to the Java runtime.
+ */
+public class ECMAScriptRegularExpressionSyntax {
+    private static final int INVALID = -1;
+    private static final int CLASS_ESCAPE = -2;
+    private static final int NOT_QUANTIFIER = -1;
+    private static final int OUT_OF_ORDER = -2;
+
+    private static final int ASSERTION = 1;
+    private static final int ATOM = 2;
+
+    private static final Set<String> GENERAL_CATEGORIES = new HashSet<>(Arrays.asList("C", "Cased_Letter", "Cc",
+            "Cf", "Close_Punctuation", "Cn", "Co", "Combining_Mark", "Connector_Punctuation", "Control", "Cs",
+            "Currency_Symbol", "Dash_Punctuation", "Decimal_Number", "Enclosing_Mark", "Final_Punctuation", "Format",
+            "Initial_Punctuation", "L", "LC", "Letter", "Letter_Number", "Line_Separator", "Ll", "Lm", "Lo",
+            "Lowercase_Letter", "Lt", "Lu", "M", "Mark", "Math_Symbol", "Mc", "Me", "Mn", "Modifier_Letter",
+            "Modifier_Symbol", "N", "Nd", "Nl", "No", "Nonspacing_Mark", "Number", "Open_Punctuation", "Other",
+            "Other_Letter", "Other_Number", "Other_Punctuation", "Other_Symbol", "P", "Paragraph_Separator", "Pc", "Pd",
+            "Pe", "Pf", "Pi", "Po", "Private_Use", "Ps", "Punctuation", "S", "Sc", "Separator", "Sk", "Sm", "So",
+            "Space_Separator", "Spacing_Mark", "Surrogate", "Symbol", "Titlecase_Letter", "Unassigned",
+            "Uppercase_Letter", "Z", "Zl", "Zp", "Zs", "cntrl", "digit", "punct"));
+
+    private static final Set<String> BINARY_PROPERTIES = new HashSet<>(Arrays.asList("ASCII", "ASCII_Hex_Digit",
+            "AHex", "Alphabetic", "Alpha", "Any", "Assigned", "Bidi_Control", "Bidi_C", "Bidi_Mirrored", "Bidi_M",
+            "Case_Ignorable", "CI", "Cased", "Changes_When_Casefolded", "CWCF", "Changes_When_Casemapped", "CWCM",
+            "Changes_When_Lowercased", "CWL", "Changes_When_NFKC_Casefolded", "CWKCF", "Changes_When_Titlecased", "CWT",
+            "Changes_When_Uppercased", "CWU", "Dash", "Default_Ignorable_Code_Point", "DI", "Deprecated", "Dep",
+            "Diacritic", "Dia", "Emoji", "Emoji_Component", "EComp", "Emoji_Modifier", "EMod", "Emoji_Modifier_Base",
+            "EBase", "Emoji_Presentation", "EPres", "Extended_Pictographic", "ExtPict", "Extender", "Ext",
+            "Grapheme_Base", "Gr_Base", "Grapheme_Extend", "Gr_Ext", "Hex_Digit", "Hex", "IDS_Binary_Operator", "IDSB",
+            "IDS_Trinary_Operator", "IDST", "ID_Continue", "IDC", "ID_Start", "IDS", "Ideographic", "Ideo",
+            "Join_Control", "Join_C", "Logical_Order_Exception", "LOE", "Lowercase", "Lower", "Math",
+            "Noncharacter_Code_Point", "NChar", "Pattern_Syntax", "Pat_Syn", "Pattern_White_Space", "Pat_WS",
+            "Quotation_Mark", "QMark", "Radical", "Regional_Indicator", "RI", "Sentence_Terminal", "STerm",
+            "Soft_Dotted", "SD", "Terminal_Punctuation", "Term", "Unified_Ideograph", "UIdeo", "Uppercase", "Upper",
+            "Variation_Selector", "VS", "White_Space", "space", "XID_Continue", "XIDC", "XID_Start", "XIDS"));
+
+    private final String regex;
+    private final boolean unicode;
+    private final int length;
+    private int index = 0;
+
+    /*
+     * The enclosing groups. Each group has a unique id used to determine if
+     * groups with the same name are in different alternatives.
+     */
+    private int depth = 0;
+    private int[] groupIds = new int[8];
+    private int[] groupAlternatives = new int[8];
+    private int[] groupTypes = new int[8];
+    private int nextGroupId = 1;
+
+    private int groupCount = 0;
+    private int maxBackReference = 0;
+    private Map<String, List<int[]>> groupNames = null;
+    private List<String> namedReferences = null;
+    private boolean invalidNamedReference = false;
+
+    private ECMAScriptRegularExpressionSyntax(String regex, boolean unicode) {
+        this.regex = regex;
+        this.unicode = unicode;
+        this.length = regex.length();
+    }
+
+    /**
+     * Determines if the regular expression is valid.
+     *
+     * @param regex   the regular expression without the delimiters and flags
+     * @param unicode true to check the syntax of the unicode mode
+     * @return true if valid
+     */
+    public static boolean isValid(String regex, boolean unicode) {
+        return new ECMAScriptRegularExpressionSyntax(regex, unicode).pattern();
+    }
+
+    /**
+     * Determines if the unicode mode is used for the schema. This is the case
+     * from draft 2019-09 onwards.
+     *
+     * @param schemaContext the schema context
+     * @return true if the unicode mode is used
+     */
+    static boolean isUnicode(SchemaContext schemaContext) {
+        SpecificationVersion specificationVersion = schemaContext != null
+                ? schemaContext.getDialect().getSpecificationVersion()
+                : null;
+        return specificationVersion == null
+                || specificationVersion.getOrder() >= SpecificationVersion.DRAFT_2019_09.getOrder();
+    }
+
+    private boolean pattern() {
+        while (this.index < this.length) {
+            char ch = this.regex.charAt(this.index);
+            int type;
+            if (ch == '|') {
+                this.index++;
+                this.groupAlternatives[this.depth]++;
+                continue;
+            } else if (ch == '(') {
+                if (!groupStart()) {
+                    return false;
+                }
+                continue;
+            } else if (ch == ')') {
+                if (this.depth == 0) {
+                    return false;
+                }
+                this.index++;
+                type = this.groupTypes[this.depth--];
+            } else {
+                type = atom();
+                if (type == INVALID) {
+                    return false;
+                }
+            }
+            if (type == ATOM && !quantifier()) {
+                return false;
+            }
+        }
+        if (this.depth != 0) {
+            return false;
+        }
+        if (this.unicode && this.maxBackReference > this.groupCount) {
+            return false;
+        }
+        if (this.unicode || this.groupNames != null) {
+            // Without the unicode flag \k is an identity escape unless there are named groups
+            if (this.invalidNamedReference) {
+                return false;
+            }
+            if (this.namedReferences != null) {
+                for (String name : this.namedReferences) {
+                    if (this.groupNames == null || !this.groupNames.containsKey(name)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean groupStart() {
+        this.index++; // (
+        int type = ATOM;
+        if (startsWith("?")) {
+            this.index++;
+            if (startsWith("=") || startsWith("!")) {
+                this.index++;
+                // Lookaheads can only be quantified in Annex B
+                type = this.unicode ? ASSERTION : ATOM;
+            } else if (startsWith("<=") || startsWith("<!")) {
+                this.index += 2;
+                type = ASSERTION;
+            } else if (startsWith("<")) {
+                this.index++;
+                String name = groupName();
+                if (name == null || !addGroupName(name)) {
+                    return false;
+                }
+                this.groupCount++;
+            } else if (!modifiers()) {
+                return false;
+            }
+        } else {
+            this.groupCount++;
+        }
+        if (++this.depth == this.groupIds.length) {
+            int capacity = this.groupIds.length * 2;
+            this.groupIds = Arrays.copyOf(this.groupIds, capacity);
+            this.groupAlternatives = Arrays.copyOf(this.groupAlternatives, capacity);
+            this.groupTypes = Arrays.copyOf(this.groupTypes, capacity);
+        }
+        this.groupIds[this.depth] = this.nextGroupId++;
+        this.groupAlternatives[this.depth] = 0;
+        this.groupTypes[this.depth] = type;
+        return true;
+    }
+
+    /**
+     * Parses the modifiers of a non-capturing group such as (?:, (?i: or (?-m:.
+     *
+     * @return true if valid
+     */
+    private boolean modifiers() {
+        int seen = 0;
+        boolean remove = false;
+        while (this.index < this.length) {
+            char ch = this.regex.charAt(this.index++);
+            if (ch == ':') {
+                return !remove || seen != 0;
+            } else if (ch == '-' && !remove) {
+                remove = true;
+                continue;
+            }
+            int flag = "ims".indexOf(ch);
+            if (flag == -1 || (seen & (1 << flag)) != 0) {
+                return false;
+            }
+            seen |= 1 << flag;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the name of a group. Groups may only have the same name if they are in
+     * different alternatives.
+     *
+     * @param name the name
+     * @return true if valid
+     */
+    private boolean addGroupName(String name) {
+        int[] path = new int[(this.depth + 1) * 2];
+        for (int x = 0; x <= this.depth; x++) {
+            path[x * 2] = this.groupIds[x];
+            path[x * 2 + 1] = this.groupAlternatives[x];
+        }
+        if (this.groupNames == null) {
+            this.groupNames = new HashMap<>();
+        }
+        List<int[]> paths = this.groupNames.computeIfAbsent(name, key -> new ArrayList<>());
+        for (int[] other : paths) {
+            if (!isDifferentAlternative(path, other)) {
+                return false;
+            }
+        }
+        paths.add(path);
+        return true;
+    }
+
+    private static boolean isDifferentAlternative(int[] path, int[] other) {
+        int length = Math.min(path.length, other.length);
+        for (int x = 0; x < length; x += 2) {
+            if (path[x] != other[x]) {
+                return false;
+            } else if (path[x + 1] != other[x + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int atom() {
+        char ch = this.regex.charAt(this.index);
+        switch (ch) {
+        case '^':
+        case '$':
+            this.index++;
+            return ASSERTION;
+        case '\\':
+            return atomEscape();
+        case '[':
+            return characterClass() ? ATOM : INVALID;
+        case '*':
+        case '+':
+        case '?':
+            return INVALID;
+        case '{':
+            // Annex B allows a brace that does not start a quantifier
+            if (this.unicode || bracedQuantifier() != NOT_QUANTIFIER) {
+                return INVALID;
+            }
+            this.index++;
+            return ATOM;
+        case '}':
+        case ']':
+            if (this.unicode) {
+                return INVALID;
+            }
+            this.index++;
+            return ATOM;
+        default:
+            this.index++;
+            return ATOM;
+        }
+    }
+
+    private boolean quantifier() {
+        if (this.index >= this.length) {
+            return true;
+        }
+        char ch = this.regex.charAt(this.index);
+        if (ch == '*' || ch == '+' || ch == '?') {
+            this.index++;
+        } else if (ch == '{') {
+            int end = bracedQuantifier();
+            if (end == OUT_OF_ORDER) {
+                return false;
+            } else if (end == NOT_QUANTIFIER) {
+                return true;
+            }
+            this.index = end;
+        } else {
+            return true;
+        }
+        if (startsWith("?")) {
+            this.index++;
+        }
+        return true;
+    }
+
+    /**
+     * Parses a quantifier such as {1}, {1,} or {1,2} at the current index.
+     *
+     * @return the end index, {@link #NOT_QUANTIFIER} or {@link #OUT_OF_ORDER}
+     */
+    private int bracedQuantifier() {
+        int i = this.index + 1;
+        int minStart = i;
+        while (i < this.length && isDigit(this.regex.charAt(i))) {
+            i++;
+        }
+        int minEnd = i;
+        if (minStart == minEnd) {
+            return NOT_QUANTIFIER;
+        }
+        int maxStart = -1;
+        if (i < this.length && this.regex.charAt(i) == ',') {
+            maxStart = ++i;
+            while (i < this.length && isDigit(this.regex.charAt(i))) {
+                i++;
+            }
+        }
+        if (i >= this.length || this.regex.charAt(i) != '}') {
+            return NOT_QUANTIFIER;
+        }
+        if (maxStart != -1 && maxStart != i && compareNumbers(minStart, minEnd, maxStart, i) > 0) {
+            return OUT_OF_ORDER;
+        }
+        return i + 1;
+    }
+
+    private int compareNumbers(int start, int end, int otherStart, int otherEnd) {
+        while (start < end - 1 && this.regex.charAt(start) == '0') {
+            start++;
+        }
+        while (otherStart < otherEnd - 1 && this.regex.charAt(otherStart) == '0') {
+            otherStart++;
+        }
+        int result = Integer.compare(end - start, otherEnd - otherStart);
+        for (int x = 0; result == 0 && x < end - start; x++) {
+            result = Character.compare(this.regex.charAt(start + x), this.regex.charAt(otherStart + x));
+        }
+        return result;
+    }
+
+    private int atomEscape() {
+        this.index++; // \
+        if (this.index >= this.length) {
+            return INVALID;
+        }
+        char ch = this.regex.charAt(this.index);
+        switch (ch) {
+        case 'b':
+        case 'B':
+            this.index++;
+            return ASSERTION;
+        case 'd':
+        case 'D':
+        case 's':
+        case 'S':
+        case 'w':
+        case 'W':
+            this.index++;
+            return ATOM;
+        case 'p':
+        case 'P':
+            if (this.unicode) {
+                return propertyEscape() ? ATOM : INVALID;
+            }
+            this.index++;
+            return ATOM;
+        case 'k':
+            this.index++;
+            if (startsWith("<")) {
+                int start = this.index++;
+                String name = groupName();
+                if (name != null) {
+                    if (this.namedReferences == null) {
+                        this.namedReferences = new ArrayList<>();
+                    }
+                    this.namedReferences.add(name);
+                    return ATOM;
+                }
+                this.index = start;
+            }
+            if (this.unicode) {
+                return INVALID;
+            }
+            this.invalidNamedReference = true;
+            return ATOM;
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+        case '8':
+        case '9':
+            // Without the unicode flag this is a legacy octal or identity escape if there is no such group
+            int value = 0;
+            while (this.index < this.length && isDigit(this.regex.charAt(this.index))) {
+                value = Math.min(value * 10 + (this.regex.charAt(this.index++) - '0'), Integer.MAX_VALUE / 10);
+            }
+            this.maxBackReference = Math.max(this.maxBackReference, value);
+            return ATOM;
+        default:
+            return characterEscape() == INVALID ? INVALID : ATOM;
+        }
+    }
+
+    /**
+     * Parses a character escape after the backslash.
+     *
+     * @return the code point or {@link #INVALID}
+     */
+    private int characterEscape() {
+        char ch = this.regex.charAt(this.index);
+        switch (ch) {
+        case 'f':
+            this.index++;
+            return '\f';
+        case 'n':
+            this.index++;
+            return '\n';
+        case 'r':
+            this.index++;
+            return '\r';
+        case 't':
+            this.index++;
+            return '\t';
+        case 'v':
+            this.index++;
+            return 0x0B;
+        case 'c':
+            if (this.index + 1 < this.length && isAsciiLetter(this.regex.charAt(this.index + 1))) {
+                this.index += 2;
+                return this.regex.charAt(this.index - 1) % 32;
+            } else if (this.unicode) {
+                return INVALID;
+            }
+            // Annex B treats the backslash as a literal and the c is parsed next
+            return '\\';
+        case '0':
+            if (this.index + 1 < this.length && isDigit(this.regex.charAt(this.index + 1))) {
+                return this.unicode ? INVALID : legacyOctalEscape();
+            }
+            this.index++;
+            return 0;
+        case 'x':
+            int value = hex(this.index + 1, 2);
+            if (value != INVALID) {
+                this.index += 3;
+                return value;
+            } else if (this.unicode) {
+                return INVALID;
+            }
+            this.index++;
+            return 'x';
+        case 'u':
+            this.index++;
+            value = unicodeEscape(this.unicode);
+            if (value != INVALID) {
+                return value;
+            } else if (this.unicode) {
+                return INVALID;
+            }
+            return 'u';
+        default:
+            int codePoint = this.unicode ? this.regex.codePointAt(this.index) : ch;
+            if (this.unicode && !isSyntaxCharacter(codePoint) && codePoint != '/') {
+                return INVALID;
+            }
+            this.index += Character.charCount(codePoint);
+            return codePoint;
+        }
+    }
+
+    private int legacyOctalEscape() {
+        int value = 0;
+        int start = this.index;
+        while (this.index < this.length && this.index - start < 3) {
+            char ch = this.regex.charAt(this.index);
+            if (ch < '0' || ch > '7' || value * 8 + (ch - '0') > 0377) {
+                break;
+            }
+            value = value * 8 + (ch - '0');
+            this.index++;
+        }
+        return value;
+    }
+
+    /**
+     * Parses a unicode escape after the u.
+     *
+     * @param unicode true to allow the \\u{...} form and to combine surrogate pairs
+     * @return the code point or {@link #INVALID} in which case the index is not
+     *         changed
+     */
+    private int unicodeEscape(boolean unicode) {
+        if (unicode && startsWith("{")) {
+            int i = this.index + 1;
+            int value = 0;
+            while (i < this.length && hexValue(this.regex.charAt(i)) != INVALID) {
+                value = Math.min(value * 16 + hexValue(this.regex.charAt(i++)), Character.MAX_CODE_POINT + 1);
+            }
+            if (i == this.index + 1 || i >= this.length || this.regex.charAt(i) != '}'
+                    || value > Character.MAX_CODE_POINT) {
+                return INVALID;
+            }
+            this.index = i + 1;
+            return value;
+        }
+        int value = hex(this.index, 4);
+        if (value == INVALID) {
+            return INVALID;
+        }
+        this.index += 4;
+        if (unicode && Character.isHighSurrogate((char) value) && startsWith("\\u")) {
+            int low = hex(this.index + 2, 4);
+            if (low != INVALID && Character.isLowSurrogate((char) low)) {
+                this.index += 6;
+                return Character.toCodePoint((char) value, (char) low);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Parses a group name after the &lt; including the closing &gt;.
+     *
+     * @return the name or null if invalid
+     */
+    private String groupName() {
+        StringBuilder name = new StringBuilder();
+        while (this.index < this.length) {
+            int codePoint = this.regex.codePointAt(this.index);
+            this.index += Character.charCount(codePoint);
+            if (codePoint == '>') {
+                return name.length() > 0 ? name.toString() : null;
+            } else if (codePoint == '\\') {
+                if (!startsWith("u")) {
+                    return null;
+                }
+                this.index++;
+                // Group names always allow the \\u{...} form
+                codePoint = unicodeEscape(true);
+                if (codePoint == INVALID) {
+                    return null;
+                }
+            }
+            if (!(name.length() == 0 ? isIdentifierStart(codePoint) : isIdentifierPart(codePoint))) {
+                return null;
+            }
+            name.appendCodePoint(codePoint);
+        }
+        return null;
+    }
+
+    private boolean characterClass() {
+        this.index++; // [
+        if (startsWith("^")) {
+            this.index++;
+        }
+        while (this.index < this.length) {
+            if (this.regex.charAt(this.index) == ']') {
+                this.index++;
+                return true;
+            }
+            int from = classAtom();
+            if (from == INVALID) {
+                return false;
+            }
+            if (this.index + 1 < this.length && this.regex.charAt(this.index) == '-'
+                    && this.regex.charAt(this.index + 1) != ']') {
+                this.index++;
+                int to = classAtom();
+                if (to == INVALID) {
+                    return false;
+                }
+                if (from == CLASS_ESCAPE || to == CLASS_ESCAPE) {
+                    // Annex B treats the range as a union
+                    if (this.unicode) {
+                        return false;
+                    }
+                } else if (from > to) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses an atom of a character class.
+     *
+     * @return the code point, {@link #CLASS_ESCAPE} or {@link #INVALID}
+     */
+    private int classAtom() {
+        int codePoint = this.unicode ? this.regex.codePointAt(this.index) : this.regex.charAt(this.index);
+        this.index += Character.charCount(codePoint);
+        if (codePoint != '\\') {
+            return codePoint;
+        }
+        if (this.index >= this.length) {
+            return INVALID;
+        }
+        char ch = this.regex.charAt(this.index);
+        switch (ch) {
+        case 'b':
+            this.index++;
+            return '\b';
+        case '-':
+            this.index++;
+            return '-';
+        case 'd':
+        case 'D':
+        case 's':
+        case 'S':
+        case 'w':
+        case 'W':
+            this.index++;
+            return CLASS_ESCAPE;
+        case 'p':
+        case 'P':
+            if (this.unicode) {
+                return propertyEscape() ? CLASS_ESCAPE : INVALID;
+            }
+            this.index++;
+            return ch;
+        case 'c':
+            if (!this.unicode && this.index + 1 < this.length) {
+                char next = this.regex.charAt(this.index + 1);
+                if (isDigit(next) || next == '_') {
+                    this.index += 2;
+                    return next % 32;
+                }
+            }
+            return characterEscape();
+        case 'k':
+            if (this.unicode) {
+                return INVALID;
+            }
+            this.invalidNamedReference = true;
+            this.index++;
+            return ch;
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+            return this.unicode ? INVALID : legacyOctalEscape();
+        case '8':
+        case '9':
+            if (this.unicode) {
+                return INVALID;
+            }
+            this.index++;
+            return ch;
+        default:
+            return characterEscape();
+        }
+    }
+
+    private boolean propertyEscape() {
+        this.index++; // p or P
+        if (!startsWith("{")) {
+            return false;
+        }
+        int end = this.regex.indexOf('}', this.index);
+        if (end == -1) {
+            return false;
+        }
+        String property = this.regex.substring(this.index + 1, end);
+        this.index = end + 1;
+        int separator = property.indexOf('=');
+        if (separator == -1) {
+            return GENERAL_CATEGORIES.contains(property) || BINARY_PROPERTIES.contains(property);
+        }
+        String name = property.substring(0, separator);
+        String value = property.substring(separator + 1);
+        switch (name) {
+        case "General_Category":
+        case "gc":
+            return GENERAL_CATEGORIES.contains(value);
+        case "Script":
+        case "sc":
+        case "Script_Extensions":
+        case "scx":
+            return isScript(value);
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Determines if the value is the name or alias of a script such as Old_Italic
+     * or Ital.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    private static boolean isScript(String value) {
+        Character.UnicodeScript script;
+        try {
+            script = Character.UnicodeScript.forName(value);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (script == Character.UnicodeScript.SIGNWRITING) {
+            return "SignWriting".equals(value) || "Sgnw".equals(value);
+        }
+        // The lookup ignores case but the names and aliases are title case
+        String[] words = value.split("_", -1);
+        for (String word : words) {
+            if (word.isEmpty() || !Character.isUpperCase(word.charAt(0))
+                    || !word.substring(1).equals(word.substring(1).toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean startsWith(String prefix) {
+        return this.regex.startsWith(prefix, this.index);
+    }
+
+    private int hex(int start, int digits) {
+        if (start + digits > this.length) {
+            return INVALID;
+        }
+        int value = 0;
+        for (int x = start; x < start + digits; x++) {
+            int digit = hexValue(this.regex.charAt(x));
+            if (digit == INVALID) {
+                return INVALID;
+            }
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    private static int hexValue(char ch) {
+        if (ch >= '0' && ch <= '9') {
+            return ch - '0';
+        } else if (ch >= 'a' && ch <= 'f') {
+            return ch - 'a' + 10;
+        } else if (ch >= 'A' && ch <= 'F') {
+            return ch - 'A' + 10;
+        }
+        return INVALID;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isAsciiLetter(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static boolean isSyntaxCharacter(int ch) {
+        return "^$\\.*+?()[]{}|".indexOf(ch) != -1;
+    }
+
+    private static boolean isIdentifierStart(int codePoint) {
+        return codePoint == '$' || codePoint == '_' || Character.isUnicodeIdentifierStart(codePoint);
+    }
+
+    private static boolean isIdentifierPart(int codePoint) {
+        return codePoint == '$' || codePoint == 0x200C || codePoint == 0x200D
+                || (Character.isUnicodeIdentifierPart(codePoint) && !Character.isIdentifierIgnorable(codePoint));
+    }
+}
@@ -16,7 +16,6 @@
 package com.networknt.schema.regex;
 
 import com.networknt.schema.SchemaContext;
-import com.networknt.schema.SpecificationVersion;
 
 import org.graalvm.polyglot.Context;
 
@@ -68,11 +67,13 @@ public class GraalJSRegularExpressionFactory implements RegularExpressionFactory
 
     @Override
     public RegularExpression getRegularExpression(String regex, SchemaContext schemaContext) {
-        SpecificationVersion specificationVersion = schemaContext != null
-                ? schemaContext.getDialect().getSpecificationVersion()
-                : null;
-        boolean unicode = specificationVersion == null
-                || specificationVersion.getOrder() >= SpecificationVersion.DRAFT_2019_09.getOrder();
-        return new GraalJSRegularExpression(regex, this.context, unicode);
+        return new GraalJSRegularExpression(regex, this.context,
+                ECMAScriptRegularExpressionSyntax.isUnicode(schemaContext));
+    }
+
+    @Override
+    public boolean isValid(String regex, SchemaContext schemaContext) {
+        return ECMAScriptRegularExpressionSyntax.isValid(regex,
+                ECMAScriptRegularExpressionSyntax.isUnicode(schemaContext));
     }
 }
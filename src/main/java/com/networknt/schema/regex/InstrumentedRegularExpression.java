@@ -0,0 +1,33 @@
+package com.networknt.schema.regex;
+
+import com.networknt.schema.ExecutionContext;
+import com.networknt.schema.instrumentation.Instrumentation;
+
+/**
+ * {@link RegularExpression} that reports the matches during a run to the
+ * instrumentation of the run.
+ */
+class InstrumentedRegularExpression implements RegularExpression {
+    private final String regex;
+    private final RegularExpression delegate;
+
+    InstrumentedRegularExpression(String regex, RegularExpression delegate) {
+        this.regex = regex;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean matches(String value) {
+        return this.delegate.matches(value);
+    }
+
+    @Override
+    public boolean matches(ExecutionContext executionContext, String value) {
+        boolean matched = this.delegate.matches(value);
+        Instrumentation instrumentation = executionContext.getInstrumentation();
+        if (instrumentation != null) {
+            instrumentation.onRegexMatch(this.regex, matched);
+        }
+        return matched;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.networknt.schema.regex;
 
+import com.networknt.schema.SchemaContext;
+
 /**
  * Joni {@link RegularExpressionFactory}.
  * <p>
@@ -32,4 +34,10 @@ public class JoniRegularExpressionFactory implements RegularExpressionFactory {
     public RegularExpression getRegularExpression(String regex) {
         return new JoniRegularExpression(regex);
     }
+
+    @Override
+    public boolean isValid(String regex, SchemaContext schemaContext) {
+        return ECMAScriptRegularExpressionSyntax.isValid(regex,
+                ECMAScriptRegularExpressionSyntax.isUnicode(schemaContext));
+    }
 }
@@ -1,5 +1,6 @@
 package com.networknt.schema.regex;
 
+import com.networknt.schema.ExecutionContext;
 import com.networknt.schema.SchemaContext;
 
 /**
@@ -9,10 +10,25 @@ import com.networknt.schema.SchemaContext;
 public interface RegularExpression {
     boolean matches(String value);
 
+    /**
+     * Matches the value during a run.
+     * <p>
+     * The match is reported to the instrumentation of the run if the regular
+     * expression was created using {@link #compile(String, SchemaContext)}.
+     *
+     * @param executionContext the execution context
+     * @param value the value
+     * @return true if the value matches
+     */
+    default boolean matches(ExecutionContext executionContext, String value) {
+        return matches(value);
+    }
+
     static RegularExpression compile(String regex, SchemaContext schemaContext) {
         if (null == regex) return s -> true;
-        return schemaContext.getSchemaRegistryConfig().getRegularExpressionFactory().getRegularExpression(regex,
-                schemaContext);
+        RegularExpression regularExpression = schemaContext.getSchemaRegistryConfig()
+                .getRegularExpressionFactory().getRegularExpression(regex, schemaContext);
+        return new InstrumentedRegularExpression(regex, regularExpression);
     }
 
 }
@@ -39,4 +39,24 @@ public interface RegularExpressionFactory {
     default RegularExpression getRegularExpression(String regex, SchemaContext schemaContext) {
         return getRegularExpression(regex);
     }
+
+    /**
+     * Determines if the regular expression is valid in the context of the schema
+     * being evaluated.
+     * <p>
+     * By default this compiles the regular expression. Implementations may
+     * override this to check the syntax without compiling.
+     *
+     * @param regex the regular expression text value
+     * @param schemaContext the schema context
+     * @return true if valid
+     */
+    default boolean isValid(String regex, SchemaContext schemaContext) {
+        try {
+            getRegularExpression(regex, schemaContext);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
 }
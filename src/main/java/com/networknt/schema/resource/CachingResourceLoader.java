@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.networknt.schema.AbsoluteIri;
+
+/**
+ * Resource loader that keeps the resources fetched by a delegate in a local
+ * cache directory so that they survive process restarts.
+ * <p>
+ * The resource content is stored content-addressed by its SHA-256 digest under
+ * the <code>objects</code> directory and each retrieval IRI has an entry under
+ * the <code>entries</code> directory recording the digest and the validators
+ * returned by the server.
+ * <p>
+ * Entries younger than the time to live are served without contacting the
+ * server. Older entries are revalidated using <code>If-None-Match</code> and
+ * <code>If-Modified-Since</code> when the delegate is an
+ * {@link IriResourceLoader} loading over HTTP or HTTPS, otherwise the resource
+ * is fetched again. If the fetch fails the stale entry is served. In offline mode
+ * the delegate is never used and only cached resources can be loaded, with
+ * other resources left to the resource loaders after this one.
+ * <p>
+ * By default this wraps {@link IriResourceLoader#getInstance()}.
+ */
+public class CachingResourceLoader implements ResourceLoader {
+    private static final Logger logger = LoggerFactory.getLogger(CachingResourceLoader.class);
+
+    private static final String OBJECTS = "objects";
+    private static final String ENTRIES = "entries";
+
+    private static final String IRI = "iri";
+    private static final String DIGEST = "digest";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+    private static final String VALIDATED = "validated";
+
+    private final ResourceLoader delegate;
+    private final Path cacheDirectory;
+    private final Duration timeToLive;
+    private final boolean offline;
+    private final boolean staleIfError;
+    private final Clock clock;
+
+    public CachingResourceLoader(ResourceLoader delegate, Path cacheDirectory, Duration timeToLive, boolean offline,
+            boolean staleIfError, Clock clock) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.cacheDirectory = Objects.requireNonNull(cacheDirectory, "cacheDirectory must not be null");
+        this.timeToLive = Objects.requireNonNull(timeToLive, "timeToLive must not be null");
+        this.offline = offline;
+        this.staleIfError = staleIfError;
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    @Override
+    public InputStreamSource getResource(AbsoluteIri absoluteIri) {
+        if (this.offline) {
+            Entry entry;
+            try {
+                entry = readEntry(absoluteIri);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (entry == null) {
+                // Not cached so let the next resource loader try
+                return null;
+            }
+            return () -> openEntry(entry);
+        }
+        InputStreamSource source = this.delegate.getResource(absoluteIri);
+        if (source == null) {
+            return null;
+        }
+        return () -> load(absoluteIri, source);
+    }
+
+    /**
+     * Removes the cache entry for the retrieval IRI.
+     * <p>
+     * The content is left in place as it may be shared with other entries.
+     *
+     * @param absoluteIri the retrieval IRI
+     * @throws IOException if an I/O error occurs
+     */
+    public void evict(AbsoluteIri absoluteIri) throws IOException {
+        Files.deleteIfExists(entryPath(absoluteIri));
+    }
+
+    protected InputStream load(AbsoluteIri absoluteIri, InputStreamSource source) throws IOException {
+        Entry entry = readEntry(absoluteIri);
+        if (entry != null && isFresh(entry)) {
+            return openEntry(entry);
+        }
+        try {
+            if (canRevalidate(absoluteIri)) {
+                return revalidate(absoluteIri, entry);
+            }
+            byte[] content;
+            try (InputStream inputStream = source.getInputStream()) {
+                if (inputStream == null) {
+                    throw new IOException("Cannot load resource at " + absoluteIri);
+                }
+                content = readAllBytes(inputStream);
+            }
+            writeEntry(absoluteIri, content, null, null);
+            return new ByteArrayInputStream(content);
+        } catch (IOException | UncheckedIOException | SecurityException e) {
+            if (entry != null && this.staleIfError) {
+                logger.warn("Failed to refresh {}, using cached copy validated at {}", absoluteIri,
+                        entry.validated, e);
+                return openEntry(entry);
+            }
+            throw e;
+        }
+    }
+
+    protected boolean isFresh(Entry entry) {
+        return !this.clock.instant().isAfter(entry.validated.plus(this.timeToLive));
+    }
+
+    protected boolean canRevalidate(AbsoluteIri absoluteIri) {
+        String scheme = absoluteIri.getScheme();
+        return this.delegate instanceof IriResourceLoader && ("http".equals(scheme) || "https".equals(scheme));
+    }
+
+    /**
+     * Performs a request recording the validators of the response, which is
+     * conditional if there is an existing entry.
+     *
+     * @param absoluteIri the retrieval IRI
+     * @param entry       the stale entry or null if not cached
+     * @return the input stream
+     * @throws IOException if an I/O error occurs
+     */
+    protected InputStream revalidate(AbsoluteIri absoluteIri, Entry entry) throws IOException {
+        IriResourceLoader iriResourceLoader = (IriResourceLoader) this.delegate;
+        URL url = iriResourceLoader.toURL(iriResourceLoader.toURI(absoluteIri));
+        URLConnection connection = url.openConnection();
+        if (entry != null && entry.etag != null) {
+            connection.setRequestProperty("If-None-Match", entry.etag);
+        }
+        if (entry != null && entry.lastModified != null) {
+            connection.setRequestProperty("If-Modified-Since", entry.lastModified);
+        }
+        connection = iriResourceLoader.connectCheckRedirects(connection);
+        try (InputStream inputStream = connection.getInputStream()) {
+            if (entry != null && connection instanceof HttpURLConnection
+                    && ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                writeEntry(absoluteIri, entry.digest, entry.etag, entry.lastModified);
+                return openEntry(entry);
+            }
+            byte[] content = readAllBytes(inputStream);
+            writeEntry(absoluteIri, content, connection.getHeaderField("ETag"),
+                    connection.getHeaderField("Last-Modified"));
+            return new ByteArrayInputStream(content);
+        }
+    }
+
+    protected Entry readEntry(AbsoluteIri absoluteIri) throws IOException {
+        Path path = entryPath(absoluteIri);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            properties.load(inputStream);
+        }
+        String digest = properties.getProperty(DIGEST);
+        String validated = properties.getProperty(VALIDATED);
+        if (!absoluteIri.toString().equals(properties.getProperty(IRI)) || digest == null || validated == null
+                || !Files.isRegularFile(objectPath(digest))) {
+            // Corrupt or incomplete entry
+            return null;
+        }
+        long validatedMillis;
+        try {
+            validatedMillis = Long.parseLong(validated);
+        } catch (NumberFormatException e) {
+            // Corrupt entry
+            return null;
+        }
+        return new Entry(digest, properties.getProperty(ETAG), properties.getProperty(LAST_MODIFIED),
+                Instant.ofEpochMilli(validatedMillis));
+    }
+
+    protected InputStream openEntry(Entry entry) throws IOException {
+        return Files.newInputStream(objectPath(entry.digest));
+    }
+
+    private void writeEntry(AbsoluteIri absoluteIri, byte[] content, String etag, String lastModified)
+            throws IOException {
+        String digest = digest(content);
+        Path object = objectPath(digest);
+        if (!Files.isRegularFile(object)) {
+            write(object, content);
+        }
+        writeEntry(absoluteIri, digest, etag, lastModified);
+    }
+
+    private void writeEntry(AbsoluteIri absoluteIri, String digest, String etag, String lastModified)
+            throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(IRI, absoluteIri.toString());
+        properties.setProperty(DIGEST, digest);
+        if (etag != null) {
+            properties.setProperty(ETAG, etag);
+        }
+        if (lastModified != null) {
+            properties.setProperty(LAST_MODIFIED, lastModified);
+        }
+        properties.setProperty(VALIDATED, Long.toString(this.clock.millis()));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        properties.store(outputStream, null);
+        write(entryPath(absoluteIri), outputStream.toByteArray());
+    }
+
+    /**
+     * Writes to a temporary file and moves it into place so that concurrent
+     * readers and other processes never observe a partial file.
+     *
+     * @param path    the path
+     * @param content the content
+     * @throws IOException if an I/O error occurs
+     */
+    private static void write(Path path, byte[] content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temp)) {
+                outputStream.write(content);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path objectPath(String digest) {
+        return this.cacheDirectory.resolve(OBJECTS).resolve(digest.substring(0, 2)).resolve(digest);
+    }
+
+    private Path entryPath(AbsoluteIri absoluteIri) {
+        return this.cacheDirectory.resolve(ENTRIES)
+                .resolve(digest(absoluteIri.toString().getBytes(StandardCharsets.UTF_8)) + ".properties");
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder result = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                result.append(Character.forDigit((b >> 4) & 0xF, 16));
+                result.append(Character.forDigit(b & 0xF, 16));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] readAllBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * A cache entry for a retrieval IRI.
+     */
+    protected static class Entry {
+        private final String digest;
+        private final String etag;
+        private final String lastModified;
+        private final Instant validated;
+
+        Entry(String digest, String etag, String lastModified, Instant validated) {
+            this.digest = digest;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.validated = validated;
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public Instant getValidated() {
+            return validated;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private ResourceLoader delegate = IriResourceLoader.getInstance();
+        private Path cacheDirectory = null;
+        private Duration timeToLive = Duration.ofHours(1);
+        private boolean offline = false;
+        private boolean staleIfError = true;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * Sets the resource loader used to fetch resources that are not cached.
+         * <p>
+         * Defaults to {@link IriResourceLoader#getInstance()}.
+         *
+         * @param delegate the resource loader
+         * @return the builder
+         */
+        public Builder delegate(ResourceLoader delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Sets the directory the cache is stored in.
+         *
+         * @param cacheDirectory the cache directory
+         * @return the builder
+         */
+        public Builder cacheDirectory(Path cacheDirectory) {
+            this.cacheDirectory = cacheDirectory;
+            return this;
+        }
+
+        /**
+         * Sets how long a cached resource is used before it is revalidated.
+         * <p>
+         * Defaults to 1 hour.
+         *
+         * @param timeToLive the time to live
+         * @return the builder
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets if only cached resources are used without fetching.
+         * <p>
+         * Defaults to false.
+         *
+         * @param offline true to not fetch resources
+         * @return the builder
+         */
+        public Builder offline(boolean offline) {
+            this.offline = offline;
+            return this;
+        }
+
+        /**
+         * Sets if a stale cached resource is used when fetching fails.
+         * <p>
+         * Defaults to true.
+         *
+         * @param staleIfError true to use stale resources on failure
+         * @return the builder
+         */
+        public Builder staleIfError(boolean staleIfError) {
+            this.staleIfError = staleIfError;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to determine if cached resources are fresh.
+         *
+         * @param clock the clock
+         * @return the builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public CachingResourceLoader build() {
+            return new CachingResourceLoader(this.delegate, this.cacheDirectory, this.timeToLive, this.offline,
+                    this.staleIfError, this.clock);
+        }
+    }
+}
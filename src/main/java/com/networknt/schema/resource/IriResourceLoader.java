@@ -22,6 +22,8 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLConnection;
+import java.util.List;
+import java.util.Map;
 
 import com.networknt.schema.AbsoluteIri;
 import com.networknt.schema.utils.AbsoluteIris;
@@ -79,16 +81,32 @@ public class IriResourceLoader implements ResourceLoader {
 
     // https://www.cs.mun.ca/java-api-1.5/guide/deployment/deployment-guide/upgrade-guide/article-17.html
     protected InputStream openConnectionCheckRedirects(URLConnection c) throws IOException {
+        return connectCheckRedirects(c).getInputStream();
+    }
+
+    /**
+     * Connects and follows redirects returning the connection that produced the
+     * final response.
+     * <p>
+     * Redirection is only followed for HTTP and HTTPS and is limited to 5
+     * redirections.
+     *
+     * @param c the connection
+     * @return the connection of the final response
+     * @throws IOException if an I/O error occurs
+     */
+    protected URLConnection connectCheckRedirects(URLConnection c) throws IOException {
+        // Request properties such as conditional headers are carried over redirects
+        Map<String, List<String>> requestProperties = c.getRequestProperties();
         boolean redir;
         int redirects = 0;
-        InputStream in = null;
         do {
             if (c instanceof HttpURLConnection) {
                 ((HttpURLConnection) c).setInstanceFollowRedirects(false);
             }
             // We want to open the input stream before getting headers
             // because getHeaderField() et al swallow IOExceptions.
-            in = c.getInputStream();
+            c.getInputStream();
             redir = false;
             if (c instanceof HttpURLConnection) {
                 HttpURLConnection http = (HttpURLConnection) c;
@@ -109,10 +127,15 @@ public class IriResourceLoader implements ResourceLoader {
                     }
                     redir = true;
                     c = target.openConnection();
+                    for (Map.Entry<String, List<String>> entry : requestProperties.entrySet()) {
+                        for (String value : entry.getValue()) {
+                            c.addRequestProperty(entry.getKey(), value);
+                        }
+                    }
                     redirects++;
                 }
             }
         } while (redir);
-        return in;
+        return c;
     }
 }
@@ -123,6 +123,22 @@ public class ResourceLoaders extends ArrayList<ResourceLoader> {
             return this;
         }
 
+        /**
+         * Adds a resource loader that keeps fetched resources in a local cache
+         * directory.
+         * <p>
+         * By default the resources are fetched using the {@link IriResourceLoader}.
+         * 
+         * @param customizer the customizer to set the cache directory and policy
+         * @return the builder
+         */
+        public Builder cache(Consumer<CachingResourceLoader.Builder> customizer) {
+            CachingResourceLoader.Builder builder = CachingResourceLoader.builder();
+            customizer.accept(builder);
+            this.values.add(builder.build());
+            return this;
+        }
+
         /**
          * Builds a {@link ResourceLoaders}.
          * 
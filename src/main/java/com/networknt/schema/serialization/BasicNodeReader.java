@@ -39,6 +39,9 @@ public class BasicNodeReader implements NodeReader {
 
     @Override
     public JsonNode readTree(String content, InputFormat inputFormat) {
+        if (DefaultNodeReader.isBinary(inputFormat)) {
+            throw new IllegalArgumentException("Binary input format " + inputFormat + " cannot be read from a string");
+        }
         return getObjectMapper(inputFormat).readTree(content);
     }
 
@@ -58,6 +61,10 @@ public class BasicNodeReader implements NodeReader {
             return JsonMapperFactory.getInstance();
         } else if (InputFormat.YAML.equals(inputFormat)) {
             return YamlMapperFactory.getInstance();
+        } else if (InputFormat.CBOR.equals(inputFormat)) {
+            return CborMapperFactory.getInstance();
+        } else if (InputFormat.SMILE.equals(inputFormat)) {
+            return SmileMapperFactory.getInstance();
         }
         throw new IllegalArgumentException("Unsupported input format "+inputFormat); 
     }
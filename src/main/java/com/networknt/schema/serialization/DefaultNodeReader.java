@@ -15,6 +15,8 @@ import com.networknt.schema.utils.JsonNodes;
 public class DefaultNodeReader implements NodeReader {
     protected final ObjectMapper jsonMapper;
     protected final ObjectMapper yamlMapper;
+    protected final ObjectMapper cborMapper;
+    protected final ObjectMapper smileMapper;
     protected final JsonNodeFactoryFactory jsonNodeFactoryFactory;
 
     /**
@@ -26,13 +28,32 @@ public class DefaultNodeReader implements NodeReader {
      */
     protected DefaultNodeReader(ObjectMapper jsonMapper, ObjectMapper yamlMapper,
             JsonNodeFactoryFactory jsonNodeFactoryFactory) {
+        this(jsonMapper, yamlMapper, null, null, jsonNodeFactoryFactory);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param jsonMapper the json mapper
+     * @param yamlMapper the yaml mapper
+     * @param cborMapper the cbor mapper
+     * @param smileMapper the smile mapper
+     * @param jsonNodeFactoryFactory the json node factory factory
+     */
+    protected DefaultNodeReader(ObjectMapper jsonMapper, ObjectMapper yamlMapper, ObjectMapper cborMapper,
+            ObjectMapper smileMapper, JsonNodeFactoryFactory jsonNodeFactoryFactory) {
         this.jsonMapper = jsonMapper;
         this.yamlMapper = yamlMapper;
+        this.cborMapper = cborMapper;
+        this.smileMapper = smileMapper;
         this.jsonNodeFactoryFactory = jsonNodeFactoryFactory;
     }
 
     @Override
     public JsonNode readTree(String content, InputFormat inputFormat) {
+        if (isBinary(inputFormat)) {
+            throw new IllegalArgumentException("Binary input format " + inputFormat + " cannot be read from a string");
+        }
         if (this.jsonNodeFactoryFactory == null) {
             return getObjectMapper(inputFormat).readTree(content);
         } else {
@@ -58,6 +79,24 @@ public class DefaultNodeReader implements NodeReader {
         return this.yamlMapper != null ? this.yamlMapper : YamlMapperFactory.getInstance();
     }
 
+    /**
+     * Gets the cbor mapper.
+     * 
+     * @return the cbor mapper
+     */
+    protected ObjectMapper getCborMapper() {
+        return this.cborMapper != null ? this.cborMapper : CborMapperFactory.getInstance();
+    }
+
+    /**
+     * Gets the smile mapper.
+     * 
+     * @return the smile mapper
+     */
+    protected ObjectMapper getSmileMapper() {
+        return this.smileMapper != null ? this.smileMapper : SmileMapperFactory.getInstance();
+    }
+
     /**
      * Gets the json mapper.
      * 
@@ -78,10 +117,24 @@ public class DefaultNodeReader implements NodeReader {
             return getJsonMapper();
         } else if (InputFormat.YAML.equals(inputFormat)) {
             return getYamlMapper();
+        } else if (InputFormat.CBOR.equals(inputFormat)) {
+            return getCborMapper();
+        } else if (InputFormat.SMILE.equals(inputFormat)) {
+            return getSmileMapper();
         }
         throw new IllegalArgumentException("Unsupported input format "+inputFormat); 
     }
 
+    /**
+     * Determines if the input format is a binary format.
+     * 
+     * @param inputFormat the input format
+     * @return true if binary
+     */
+    protected static boolean isBinary(InputFormat inputFormat) {
+        return InputFormat.CBOR.equals(inputFormat) || InputFormat.SMILE.equals(inputFormat);
+    }
+
     /**
      * Gets the builder for {@link DefaultNodeReader}.
      * 
@@ -99,6 +152,8 @@ public class DefaultNodeReader implements NodeReader {
     public static abstract class BuilderSupport<T> {
         protected ObjectMapper jsonMapper = null;
         protected ObjectMapper yamlMapper = null;
+        protected ObjectMapper cborMapper = null;
+        protected ObjectMapper smileMapper = null;
         protected JsonNodeFactoryFactory jsonNodeFactoryFactory = null;
 
         protected abstract T self();
@@ -125,12 +180,36 @@ public class DefaultNodeReader implements NodeReader {
             return self();
         }
 
+        /**
+         * Sets the cbor mapper.
+         * 
+         * @param cborMapper the cbor mapper
+         * @return the builder
+         */
+        public T cborMapper(ObjectMapper cborMapper) {
+            this.cborMapper = cborMapper;
+            return self();
+        }
+
+        /**
+         * Sets the smile mapper.
+         * 
+         * @param smileMapper the smile mapper
+         * @return the builder
+         */
+        public T smileMapper(ObjectMapper smileMapper) {
+            this.smileMapper = smileMapper;
+            return self();
+        }
+
         /**
          * Configures the {@link JsonNodeFactoryFactory} to use.
          * <p>
          * To get location information from {@link JsonNode} the
          * {@link com.networknt.schema.serialization.node.LocationJsonNodeFactoryFactory}
-         * can be used.
+         * can be used. This stores the location in every node. To only look up the
+         * locations of the nodes in errors {@link TokenStreamLocations} can be used
+         * instead.
          *
          * @param jsonNodeFactoryFactory the factory to create json node factories
          * @return the builder
@@ -145,6 +224,7 @@ public class DefaultNodeReader implements NodeReader {
      * Builder for {@link DefaultNodeReader}. 
      */
     public static class Builder extends BuilderSupport<Builder> {
+        private boolean lazy = false;
 
         @Override
         protected Builder self() {
@@ -160,13 +240,30 @@ public class DefaultNodeReader implements NodeReader {
             return jsonNodeFactoryFactory(LocationJsonNodeFactoryFactory.getInstance());
         }
 
+        /**
+         * Only parses the nested objects and arrays of JSON input when they are
+         * accessed.
+         *
+         * @return the builder
+         * @see LazyNodeReader
+         */
+        public Builder lazy() {
+            this.lazy = true;
+            return this;
+        }
+
         /**
          * Builds the {@link NodeReader}.
          *
          * @return the object reader
          */
         public NodeReader build() {
-            return new DefaultNodeReader(this.jsonMapper, this.yamlMapper, this.jsonNodeFactoryFactory);
+            if (this.lazy) {
+                return new LazyNodeReader(this.jsonMapper, this.yamlMapper, this.cborMapper, this.smileMapper,
+                        this.jsonNodeFactoryFactory);
+            }
+            return new DefaultNodeReader(this.jsonMapper, this.yamlMapper, this.cborMapper, this.smileMapper,
+                    this.jsonNodeFactoryFactory);
         }
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.NumericNode;
+import tools.jackson.databind.node.ValueNode;
+
+/**
+ * {@link JsonNodeFactory} that creates double nodes for floats.
+ * <p>
+ * Binary formats encode single precision floats which would otherwise be read as
+ * float nodes. The float is converted using its shortest decimal representation
+ * which is what would be written if the input was converted to JSON text, so
+ * 0.1f is read as 0.1 and not as 0.10000000149011612.
+ */
+class FloatAsDoubleJsonNodeFactory extends JsonNodeFactory {
+    private static final long serialVersionUID = 1L;
+
+    static final FloatAsDoubleJsonNodeFactory INSTANCE = new FloatAsDoubleJsonNodeFactory();
+
+    @Override
+    public NumericNode numberNode(float v) {
+        return numberNode(Double.parseDouble(Float.toString(v)));
+    }
+
+    @Override
+    public ValueNode numberNode(Float value) {
+        return value == null ? nullNode() : numberNode(value.floatValue());
+    }
+}
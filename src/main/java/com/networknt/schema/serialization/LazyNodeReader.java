@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.serialization.node.JsonNodeFactoryFactory;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * {@link NodeReader} that reads JSON into a tree where the nested objects and
+ * arrays are only parsed when they are accessed.
+ * <p>
+ * The input is scanned once to read the root and to skip over the nested
+ * objects and arrays. A nested object or array is parsed when a keyword first
+ * accesses it, so the parts of the input that are not inspected by the schema,
+ * for instance those only allowed by {@code additionalProperties: true}, are
+ * never built into nodes. The nodes are plain {@link tools.jackson.databind.node.ObjectNode}
+ * and {@link tools.jackson.databind.node.ArrayNode} instances but are not safe to
+ * access from multiple threads concurrently.
+ * <p>
+ * YAML and binary input and location aware reading are read into a complete
+ * tree as by {@link DefaultNodeReader}. A {@link MappedFileInputStream} is
+ * parsed directly from the mapped file. Schemas are always read into a complete
+ * tree.
+ * <p>
+ * Use {@code NodeReader.builder().lazy().build()} to create the reader.
+ */
+public class LazyNodeReader extends DefaultNodeReader {
+
+    /**
+     * Constructor.
+     *
+     * @param jsonMapper the json mapper
+     * @param yamlMapper the yaml mapper
+     * @param cborMapper the cbor mapper
+     * @param smileMapper the smile mapper
+     * @param jsonNodeFactoryFactory the json node factory factory
+     */
+    protected LazyNodeReader(ObjectMapper jsonMapper, ObjectMapper yamlMapper, ObjectMapper cborMapper,
+            ObjectMapper smileMapper, JsonNodeFactoryFactory jsonNodeFactoryFactory) {
+        super(jsonMapper, yamlMapper, cborMapper, smileMapper, jsonNodeFactoryFactory);
+    }
+
+    @Override
+    public JsonNode readTree(String content, InputFormat inputFormat) {
+        if (!isLazy(inputFormat)) {
+            return super.readTree(content, inputFormat);
+        }
+        return new LazyTree(getJsonMapper(), content.getBytes(StandardCharsets.UTF_8)).readRoot();
+    }
+
+    @Override
+    public JsonNode readTree(InputStream content, InputFormat inputFormat) {
+        if (!isLazy(inputFormat)) {
+            return super.readTree(content, inputFormat);
+        }
+        try {
+            if (content instanceof MappedFileInputStream) {
+                // Read from the mapped file instead of copying it to the heap
+                return new LazyTree(getJsonMapper(), ((MappedFileInputStream) content).mapRemaining()).readRoot();
+            }
+            return new LazyTree(getJsonMapper(), content.readAllBytes()).readRoot();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets a reader with the same configuration that reads complete trees.
+     * <p>
+     * This is used by the {@link com.networknt.schema.SchemaRegistry} to read the
+     * schemas as these are shared by concurrent validations.
+     *
+     * @return the reader
+     */
+    public NodeReader eager() {
+        return new DefaultNodeReader(this.jsonMapper, this.yamlMapper, this.cborMapper, this.smileMapper,
+                this.jsonNodeFactoryFactory);
+    }
+
+    private boolean isLazy(InputFormat inputFormat) {
+        return InputFormat.JSON.equals(inputFormat) && this.jsonNodeFactoryFactory == null;
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.util.ClassUtil;
+
+/**
+ * Builds a tree where the nested objects and arrays are only parsed when they
+ * are accessed.
+ * <p>
+ * Each object or array is parsed one level at a time. The scalar members are
+ * created immediately while the nested objects and arrays are skipped and only
+ * their start offsets in the source are recorded. A nested object or array is
+ * parsed from its offset and replaces the offset when it is first accessed.
+ * <p>
+ * The source is either an array or the regions of a memory-mapped file so that
+ * the offsets are longs.
+ */
+class LazyTree {
+    private final ObjectMapper objectMapper;
+    private final JsonNodeFactory nodeFactory;
+    private final Source source;
+    private final boolean bigDecimalForFloats;
+    private final boolean bigIntegerForInts;
+
+    /**
+     * Creates parsers of the source.
+     */
+    @FunctionalInterface
+    interface Source {
+        /**
+         * Creates a parser of the source starting at the offset.
+         *
+         * @param objectMapper the object mapper
+         * @param offset       the offset
+         * @return the parser
+         */
+        JsonParser createParser(ObjectMapper objectMapper, long offset);
+    }
+
+    LazyTree(ObjectMapper objectMapper, byte[] source) {
+        this(objectMapper, (mapper, offset) -> mapper.createParser(source, (int) offset, source.length - (int) offset));
+    }
+
+    LazyTree(ObjectMapper objectMapper, MappedRegions source) {
+        this(objectMapper, (mapper, offset) -> mapper.createParser(source.open(offset)));
+    }
+
+    private LazyTree(ObjectMapper objectMapper, Source source) {
+        this.objectMapper = objectMapper;
+        this.nodeFactory = objectMapper.getNodeFactory();
+        this.source = source;
+        this.bigDecimalForFloats = objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.bigIntegerForInts = objectMapper.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS);
+    }
+
+    /**
+     * Reads the root node.
+     *
+     * @return the root node or the missing node if the source is empty
+     * @throws MismatchedInputException if there is content after the root node
+     *         and {@link DeserializationFeature#FAIL_ON_TRAILING_TOKENS} is enabled
+     */
+    JsonNode readRoot() {
+        try (JsonParser parser = this.source.createParser(this.objectMapper, 0)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return this.nodeFactory.missingNode();
+            }
+            JsonNode root = readValue(parser, token, 0);
+            if (this.objectMapper.isEnabled(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)) {
+                JsonToken trailing = parser.nextToken();
+                if (trailing != null) {
+                    throw MismatchedInputException.from(parser, JsonNode.class, String.format(
+                            "Trailing token (`JsonToken.%s`) found after value (bound as %s): not allowed as per `DeserializationFeature.FAIL_ON_TRAILING_TOKENS`",
+                            trailing, ClassUtil.nameOf(JsonNode.class)));
+                }
+            }
+            return root;
+        }
+    }
+
+    /**
+     * Reads the object or array starting at the offset.
+     *
+     * @param offset the offset of the start of the object or array
+     * @return the node
+     */
+    private JsonNode read(long offset) {
+        try (JsonParser parser = this.source.createParser(this.objectMapper, offset)) {
+            return readValue(parser, parser.nextToken(), offset);
+        }
+    }
+
+    /**
+     * Reads the value at the current token.
+     *
+     * @param parser the parser
+     * @param token  the current token
+     * @param base   the offset of the parser's input in the source
+     * @return the node
+     */
+    private JsonNode readValue(JsonParser parser, JsonToken token, long base) {
+        switch (token) {
+        case START_OBJECT: {
+            LinkedHashMap<String, Object> members = new LinkedHashMap<>();
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = parser.currentName();
+                members.put(name, readMember(parser, parser.nextToken(), base));
+            }
+            return new ObjectNode(this.nodeFactory, new LazyMembers(members));
+        }
+        case START_ARRAY: {
+            ArrayList<Object> elements = new ArrayList<>();
+            JsonToken next;
+            while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+                elements.add(readMember(parser, next, base));
+            }
+            return new ArrayNode(this.nodeFactory, new LazyElements(elements));
+        }
+        case VALUE_STRING:
+            return this.nodeFactory.stringNode(parser.getString());
+        case VALUE_NUMBER_INT:
+            switch (parser.getNumberType()) {
+            case INT:
+                return this.bigIntegerForInts ? this.nodeFactory.numberNode(parser.getBigIntegerValue())
+                        : this.nodeFactory.numberNode(parser.getIntValue());
+            case LONG:
+                return this.bigIntegerForInts ? this.nodeFactory.numberNode(parser.getBigIntegerValue())
+                        : this.nodeFactory.numberNode(parser.getLongValue());
+            default:
+                return this.nodeFactory.numberNode(parser.getBigIntegerValue());
+            }
+        case VALUE_NUMBER_FLOAT:
+            return this.bigDecimalForFloats ? this.nodeFactory.numberNode(parser.getDecimalValue())
+                    : this.nodeFactory.numberNode(parser.getDoubleValue());
+        case VALUE_TRUE:
+            return this.nodeFactory.booleanNode(true);
+        case VALUE_FALSE:
+            return this.nodeFactory.booleanNode(false);
+        case VALUE_NULL:
+            return this.nodeFactory.nullNode();
+        default:
+            return this.nodeFactory.pojoNode(parser.getEmbeddedObject());
+        }
+    }
+
+    /**
+     * Reads the scalar member or skips the object or array member.
+     *
+     * @param parser the parser
+     * @param token  the current token
+     * @param base   the offset of the parser's input in the source
+     * @return the node or the offset of the object or array
+     */
+    private Object readMember(JsonParser parser, JsonToken token, long base) {
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            long offset = base + parser.currentTokenLocation().getByteOffset();
+            parser.skipChildren();
+            return offset;
+        }
+        return readValue(parser, token, base);
+    }
+
+    private JsonNode materialize(Object value) {
+        return value instanceof Long ? read((Long) value) : (JsonNode) value;
+    }
+
+    /**
+     * The members of an object.
+     */
+    class LazyMembers extends AbstractMap<String, JsonNode> {
+        final LinkedHashMap<String, Object> members;
+        private final Set<Map.Entry<String, JsonNode>> entrySet = new AbstractSet<Map.Entry<String, JsonNode>>() {
+            @Override
+            public Iterator<Map.Entry<String, JsonNode>> iterator() {
+                Iterator<Map.Entry<String, Object>> iterator = LazyMembers.this.members.entrySet().iterator();
+                return new Iterator<Map.Entry<String, JsonNode>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, JsonNode> next() {
+                        Map.Entry<String, Object> entry = iterator.next();
+                        return new Map.Entry<String, JsonNode>() {
+                            @Override
+                            public String getKey() {
+                                return entry.getKey();
+                            }
+
+                            @Override
+                            public JsonNode getValue() {
+                                Object value = entry.getValue();
+                                if (value instanceof JsonNode) {
+                                    return (JsonNode) value;
+                                }
+                                JsonNode node = materialize(value);
+                                entry.setValue(node);
+                                return node;
+                            }
+
+                            @Override
+                            public JsonNode setValue(JsonNode value) {
+                                return materialize(entry.setValue(value));
+                            }
+
+                            @Override
+                            public boolean equals(Object o) {
+                                if (!(o instanceof Map.Entry)) {
+                                    return false;
+                                }
+                                Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                                return getKey().equals(e.getKey()) && getValue().equals(e.getValue());
+                            }
+
+                            @Override
+                            public int hashCode() {
+                                return getKey().hashCode() ^ getValue().hashCode();
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return LazyMembers.this.members.size();
+            }
+        };
+
+        LazyMembers(LinkedHashMap<String, Object> members) {
+            this.members = members;
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            Object value = this.members.get(key);
+            if (value == null || value instanceof JsonNode) {
+                return (JsonNode) value;
+            }
+            JsonNode node = materialize(value);
+            this.members.put((String) key, node);
+            return node;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.members.containsKey(key);
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            Object previous = this.members.put(key, value);
+            return previous == null ? null : materialize(previous);
+        }
+
+        @Override
+        public JsonNode remove(Object key) {
+            Object previous = this.members.remove(key);
+            return previous == null ? null : materialize(previous);
+        }
+
+        @Override
+        public void clear() {
+            this.members.clear();
+        }
+
+        @Override
+        public int size() {
+            return this.members.size();
+        }
+
+        @Override
+        public Set<Map.Entry<String, JsonNode>> entrySet() {
+            return this.entrySet;
+        }
+    }
+
+    /**
+     * The elements of an array.
+     */
+    class LazyElements extends AbstractList<JsonNode> {
+        private final List<Object> elements;
+
+        LazyElements(List<Object> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            Object value = this.elements.get(index);
+            if (value instanceof JsonNode) {
+                return (JsonNode) value;
+            }
+            JsonNode node = materialize(value);
+            this.elements.set(index, node);
+            return node;
+        }
+
+        @Override
+        public JsonNode set(int index, JsonNode element) {
+            return materialize(this.elements.set(index, element));
+        }
+
+        @Override
+        public void add(int index, JsonNode element) {
+            this.elements.add(index, element);
+            this.modCount++;
+        }
+
+        @Override
+        public JsonNode remove(int index) {
+            JsonNode previous = materialize(this.elements.remove(index));
+            this.modCount++;
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            this.elements.clear();
+            this.modCount++;
+        }
+
+        @Override
+        public int size() {
+            return this.elements.size();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file by mapping it into memory instead of reading it through a
+ * buffered stream.
+ * <p>
+ * The file is mapped in regions of at most 1 GiB so that files larger than 2 GiB
+ * can be read. Each region is mapped when the previous region is exhausted and
+ * the bytes are copied directly from the mapped region to the parser's buffer.
+ * The mapped regions are released when they are garbage collected.
+ */
+public class MappedFileInputStream extends InputStream {
+    static final long MAX_REGION_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long regionSize;
+    private long position = 0;
+    private MappedByteBuffer region = null;
+
+    /**
+     * Constructor.
+     *
+     * @param path the file
+     * @throws IOException if the file cannot be opened
+     */
+    public MappedFileInputStream(Path path) throws IOException {
+        this(path, MAX_REGION_SIZE);
+    }
+
+    MappedFileInputStream(Path path, long regionSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = this.channel.size();
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * Gets the current region or maps the next region if the current region is
+     * exhausted.
+     *
+     * @return the region or null at the end of the file
+     * @throws IOException if the region cannot be mapped
+     */
+    private MappedByteBuffer region() throws IOException {
+        if (this.region != null && this.region.hasRemaining()) {
+            return this.region;
+        }
+        if (this.position >= this.size) {
+            return null;
+        }
+        long length = Math.min(this.regionSize, this.size - this.position);
+        this.region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, length);
+        this.position += length;
+        return this.region;
+    }
+
+    /**
+     * Maps the content of the file that has not been read yet.
+     * <p>
+     * The mappings remain valid after this stream is closed.
+     *
+     * @return the mapped regions
+     * @throws IOException if the content cannot be mapped
+     */
+    MappedRegions mapRemaining() throws IOException {
+        long position = this.position - (this.region != null ? this.region.remaining() : 0);
+        return MappedRegions.map(this.channel, position, this.size - position, this.regionSize);
+    }
+
+    @Override
+    public int read() throws IOException {
+        MappedByteBuffer buffer = region();
+        return buffer == null ? -1 : buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        MappedByteBuffer buffer = region();
+        if (buffer == null) {
+            return -1;
+        }
+        int read = Math.min(len, buffer.remaining());
+        buffer.get(b, off, read);
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n) {
+            MappedByteBuffer buffer = region();
+            if (buffer == null) {
+                break;
+            }
+            int skip = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + skip);
+            skipped += skip;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        long remaining = this.size - this.position + (this.region != null ? this.region.remaining() : 0);
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.region = null;
+        this.channel.close();
+    }
+}
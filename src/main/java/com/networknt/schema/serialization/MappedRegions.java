@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * The content of a file mapped into memory in regions of at most 1 GiB.
+ * <p>
+ * The mappings remain valid after the file is closed so that the content can be
+ * read again from any offset, for instance by {@link LazyNodeReader}.
+ */
+class MappedRegions {
+    private final ByteBuffer[] regions;
+    private final long regionSize;
+
+    private MappedRegions(ByteBuffer[] regions, long regionSize) {
+        this.regions = regions;
+        this.regionSize = regionSize;
+    }
+
+    /**
+     * Maps the content of the file.
+     *
+     * @param channel    the file
+     * @param position   the position of the content in the file
+     * @param size       the size of the content
+     * @param regionSize the maximum size of a region
+     * @return the mapped regions
+     * @throws IOException if the content cannot be mapped
+     */
+    static MappedRegions map(FileChannel channel, long position, long size, long regionSize) throws IOException {
+        int count = (int) ((size + regionSize - 1) / regionSize);
+        ByteBuffer[] regions = new ByteBuffer[count];
+        for (int x = 0; x < count; x++) {
+            long offset = x * regionSize;
+            regions[x] = channel.map(FileChannel.MapMode.READ_ONLY, position + offset,
+                    Math.min(regionSize, size - offset));
+        }
+        return new MappedRegions(regions, regionSize);
+    }
+
+    /**
+     * Opens a stream reading the content from the offset.
+     *
+     * @param offset the offset
+     * @return the stream
+     */
+    InputStream open(long offset) {
+        return new InputStream() {
+            private int index = (int) (offset / regionSize);
+            private ByteBuffer region = index < regions.length
+                    ? regions[index].duplicate().position((int) (offset % regionSize))
+                    : null;
+
+            /**
+             * Gets the current region or the next region if the current region is
+             * exhausted.
+             *
+             * @return the region or null at the end of the content
+             */
+            private ByteBuffer region() {
+                while (this.region != null && !this.region.hasRemaining()) {
+                    this.index++;
+                    this.region = this.index < regions.length ? regions[this.index].duplicate() : null;
+                }
+                return this.region;
+            }
+
+            @Override
+            public int read() {
+                ByteBuffer buffer = region();
+                return buffer == null ? -1 : buffer.get() & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                ByteBuffer buffer = region();
+                if (buffer == null) {
+                    return -1;
+                }
+                int read = Math.min(len, buffer.remaining());
+                buffer.get(b, off, read);
+                return read;
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Smile Mapper Factory.
+ * <p>
+ * The mapper reads floats as the double of their shortest decimal
+ * representation so that the numbers are the same as when the input is
+ * converted to JSON text.
+ */
+public class SmileMapperFactory {
+
+    /**
+     * The holder defers the classloading until it is used.
+     */
+    private static class Holder {
+        private static final ObjectMapper INSTANCE = SmileMapper.builder()
+                .nodeFactory(FloatAsDoubleJsonNodeFactory.INSTANCE).build();
+    }
+
+    /**
+     * Gets the singleton instance of the SmileMapper.
+     * 
+     * @return the SmileMapper
+     */
+    public static ObjectMapper getInstance() {
+        return Holder.INSTANCE;
+    }
+}
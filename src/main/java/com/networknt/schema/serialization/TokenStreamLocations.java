@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.networknt.schema.Error;
+import com.networknt.schema.path.NodePath;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.TokenStreamLocation;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Looks up the token location of the node at a path in the content.
+ * <p>
+ * Unlike the
+ * {@link com.networknt.schema.serialization.node.LocationJsonNodeFactoryFactory}
+ * which stores the location in every node when the content is read, this only
+ * retains the content. The location of a path is found when requested by
+ * scanning the content with a streaming parser that skips the subtrees not on
+ * the path, and is then cached. This is intended for looking up the locations
+ * of the few nodes that end up in an {@link Error}.
+ */
+public class TokenStreamLocations {
+    private final ObjectMapper objectMapper;
+    private final String content;
+    private final byte[] bytes;
+    private final ConcurrentMap<NodePath, TokenStreamLocation> locations = new ConcurrentHashMap<>();
+
+    private TokenStreamLocations(ObjectMapper objectMapper, String content, byte[] bytes) {
+        this.objectMapper = objectMapper;
+        this.content = content;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates the token locations of the content.
+     *
+     * @param objectMapper the object mapper used to read the content
+     * @param content      the content
+     * @return the token locations
+     */
+    public static TokenStreamLocations of(ObjectMapper objectMapper, String content) {
+        return new TokenStreamLocations(objectMapper, content, null);
+    }
+
+    /**
+     * Creates the token locations of the content.
+     *
+     * @param objectMapper the object mapper used to read the content
+     * @param content      the content
+     * @return the token locations
+     */
+    public static TokenStreamLocations of(ObjectMapper objectMapper, byte[] content) {
+        return new TokenStreamLocations(objectMapper, null, content);
+    }
+
+    /**
+     * Gets the token location of the instance node of the error.
+     *
+     * @param error the error
+     * @return the token location or null if not found
+     */
+    public TokenStreamLocation getTokenStreamLocation(Error error) {
+        return getTokenStreamLocation(error.getInstanceLocation());
+    }
+
+    /**
+     * Gets the token location of the node at the path.
+     *
+     * @param path the path
+     * @return the token location or null if not found
+     */
+    public TokenStreamLocation getTokenStreamLocation(NodePath path) {
+        TokenStreamLocation location = this.locations.get(path);
+        if (location != null) {
+            return location;
+        }
+        NodePath[] segments = new NodePath[path.getNameCount() + 1];
+        NodePath current = path;
+        for (int x = segments.length - 1; x >= 0; x--) {
+            segments[x] = current;
+            current = current.getParent();
+        }
+        try (JsonParser parser = createParser()) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            for (int x = 0; x < segments.length; x++) {
+                if (x > 0 && !next(parser, segments[x].getElement(-1))) {
+                    return null;
+                }
+                location = parser.currentTokenLocation();
+                this.locations.putIfAbsent(segments[x], location);
+            }
+        }
+        return location;
+    }
+
+    private JsonParser createParser() {
+        return this.content != null ? this.objectMapper.createParser(this.content)
+                : this.objectMapper.createParser(this.bytes);
+    }
+
+    /**
+     * Moves the parser from the start of the current container to the value of
+     * the property or index.
+     *
+     * @param parser          the parser
+     * @param propertyOrIndex the property or index
+     * @return true if found
+     */
+    private static boolean next(JsonParser parser, Object propertyOrIndex) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            String name = propertyOrIndex.toString();
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                boolean found = name.equals(parser.currentName());
+                parser.nextToken();
+                if (found) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            int index = propertyOrIndex instanceof Integer ? (Integer) propertyOrIndex
+                    : toIndex(propertyOrIndex.toString());
+            for (int x = 0; parser.nextToken() != JsonToken.END_ARRAY; x++) {
+                if (x == index) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+        }
+        return false;
+    }
+
+    private static int toIndex(String value) {
+        if (value.isEmpty() || value.length() > 9) {
+            return -1;
+        }
+        for (int x = 0; x < value.length(); x++) {
+            char ch = value.charAt(x);
+            if (ch < '0' || ch > '9') {
+                return -1;
+            }
+        }
+        return Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.utils;
+
+/**
+ * Validates ASCII host names against the RFC 1123 grammar.
+ * <p>
+ * A host name is a sequence of labels separated by dots. Each label has 1 to
+ * 63 letters, digits or hyphens and cannot start or end with a hyphen.
+ */
+public class RFC1123 {
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    private RFC1123() {
+    }
+
+    /**
+     * Determines if the value is a host name.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    public static boolean isHostname(String value) {
+        return isHostname(value, 0, value.length());
+    }
+
+    /**
+     * Determines if the range of the value is a host name.
+     *
+     * @param value the value
+     * @param start the start index
+     * @param end   the end index
+     * @return true if valid
+     */
+    public static boolean isHostname(String value, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        int label = start;
+        for (int index = start; index < end; index++) {
+            if (value.charAt(index) == '.') {
+                if (!isLabel(value, label, index)) {
+                    return false;
+                }
+                label = index + 1;
+            }
+        }
+        return isLabel(value, label, end);
+    }
+
+    /**
+     * Determines if the range of the value is a label.
+     *
+     * @param value the value
+     * @param start the start index
+     * @param end   the end index
+     * @return true if valid
+     */
+    public static boolean isLabel(String value, int start, int end) {
+        int length = end - start;
+        if (length < 1 || length > MAX_LABEL_LENGTH || value.charAt(start) == '-' || value.charAt(end - 1) == '-') {
+            return false;
+        }
+        for (int index = start; index < end; index++) {
+            char ch = value.charAt(index);
+            if (!isAlphaDigit(ch) && ch != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlphaDigit(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9');
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.utils;
+
+/**
+ * Validates values against the RFC 3339 date and time grammars and the ISO
+ * 8601 duration grammar.
+ * <p>
+ * The value is checked in a single pass without creating temporal objects or
+ * throwing exceptions.
+ */
+public class RFC3339 {
+    private static final int INVALID = Integer.MIN_VALUE;
+    private static final int NOT_LEAP_SECOND = Integer.MAX_VALUE;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MAX_DATE_TIME_OFFSET = 18 * 60;
+
+    private RFC3339() {
+    }
+
+    /**
+     * Determines if the value is a full-date such as 1963-06-19.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    public static boolean isDate(String value) {
+        return value.length() == 10 && isFullDate(value);
+    }
+
+    /**
+     * Determines if the value is a full-time such as 08:30:06.283185Z.
+     * <p>
+     * A leap second is valid when the time is 23:59:60 in UTC.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    public static boolean isTime(String value) {
+        return time(value, 0, false) != INVALID;
+    }
+
+    /**
+     * Determines if the value is a date-time such as 1963-06-19T08:30:06Z.
+     * <p>
+     * The date and time may also be separated by a space. For compatibility with
+     * ISO 8601 the offset cannot be -00:00 or exceed 18 hours. A leap second is valid
+     * when the time is 23:59:60 in UTC on the last day of June or December which
+     * are the dates that leap seconds are scheduled on.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    public static boolean isDateTime(String value) {
+        if (value.length() < 20 || !isFullDate(value)) {
+            return false;
+        }
+        char separator = value.charAt(10);
+        if (separator != 'T' && separator != 't' && separator != ' ') {
+            return false;
+        }
+        int dayOffset = time(value, 11, true);
+        if (dayOffset == INVALID) {
+            return false;
+        } else if (dayOffset == NOT_LEAP_SECOND) {
+            return true;
+        }
+        int month = twoDigits(value, 5);
+        int day = twoDigits(value, 8);
+        switch (dayOffset) {
+        case -1: // The UTC date is the day before
+            return (month == 7 || month == 1) && day == 1;
+        case 1: // The UTC date is the day after
+            return (month == 6 && day == 29) || (month == 12 && day == 30);
+        default:
+            return (month == 6 && day == 30) || (month == 12 && day == 31);
+        }
+    }
+
+    /**
+     * Determines if the value is a duration such as P4DT12H30M5S.
+     * <p>
+     * The strict grammar only allows unsigned integer values with the weeks not
+     * combined with other units. Otherwise the value and each unit may be signed,
+     * weeks may be combined with other units and the seconds may have a fraction
+     * of up to 9 digits.
+     *
+     * @param value  the value
+     * @param strict true to use the strict grammar
+     * @return true if valid
+     */
+    public static boolean isDuration(String value, boolean strict) {
+        int length = value.length();
+        int index = 0;
+        if (!strict && index < length && isSign(value.charAt(index))) {
+            index++;
+        }
+        if (index >= length || Character.toUpperCase(value.charAt(index)) != 'P') {
+            return false;
+        }
+        index++;
+        boolean time = false;
+        boolean week = false;
+        int next = 0;
+        int dateUnits = 0;
+        int timeUnits = 0;
+        while (index < length) {
+            if (week) {
+                return false;
+            }
+            char ch = Character.toUpperCase(value.charAt(index));
+            if (ch == 'T') {
+                if (time) {
+                    return false;
+                }
+                time = true;
+                next = 0;
+                index++;
+                continue;
+            }
+            if (!strict && isSign(ch)) {
+                index++;
+            }
+            int digits = index;
+            while (index < length && isDigit(value.charAt(index))) {
+                index++;
+            }
+            if (index == digits) {
+                return false;
+            }
+            boolean fraction = false;
+            if (!strict && index < length && (value.charAt(index) == '.' || value.charAt(index) == ',')) {
+                int fractionDigits = ++index;
+                while (index < length && isDigit(value.charAt(index))) {
+                    index++;
+                }
+                if (index - fractionDigits > 9) {
+                    return false;
+                }
+                fraction = true;
+            }
+            if (index >= length) {
+                return false;
+            }
+            char unit = Character.toUpperCase(value.charAt(index++));
+            int position = time ? "HMS".indexOf(unit) : "YMWD".indexOf(unit);
+            if (position < next || (fraction && unit != 'S')) {
+                return false;
+            }
+            if (time) {
+                timeUnits++;
+            } else {
+                if (unit == 'W' && strict) {
+                    if (dateUnits > 0) {
+                        return false;
+                    }
+                    week = true;
+                }
+                dateUnits++;
+            }
+            next = position + 1;
+        }
+        return time ? timeUnits > 0 : dateUnits > 0;
+    }
+
+    private static boolean isFullDate(String value) {
+        if (value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return false;
+        }
+        int century = twoDigits(value, 0);
+        int yearOfCentury = twoDigits(value, 2);
+        int month = twoDigits(value, 5);
+        int day = twoDigits(value, 8);
+        if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return day <= daysInMonth(century * 100 + yearOfCentury, month);
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Validates a full-time.
+     *
+     * @param value    the value
+     * @param index    the start index
+     * @param dateTime true to restrict the offset to the range allowed by ISO 8601
+     * @return {@link #INVALID} if invalid, {@link #NOT_LEAP_SECOND} if valid and
+     *         not a leap second, otherwise the number of days to add to the local
+     *         date to get the UTC date of the leap second
+     */
+    private static int time(String value, int index, boolean dateTime) {
+        int length = value.length();
+        if (length - index < 9 || value.charAt(index + 2) != ':' || value.charAt(index + 5) != ':') {
+            return INVALID;
+        }
+        int hour = twoDigits(value, index);
+        int minute = twoDigits(value, index + 3);
+        int second = twoDigits(value, index + 6);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 60) {
+            return INVALID;
+        }
+        index += 8;
+        if (value.charAt(index) == '.') {
+            int digits = ++index;
+            while (index < length && isDigit(value.charAt(index))) {
+                index++;
+            }
+            if (index == digits || index >= length) {
+                return INVALID;
+            }
+        }
+        int offset;
+        char ch = value.charAt(index);
+        if (ch == 'Z' || ch == 'z') {
+            offset = 0;
+            index++;
+        } else if (isSign(ch)) {
+            if (length - index != 6 || value.charAt(index + 3) != ':') {
+                return INVALID;
+            }
+            int offsetHour = twoDigits(value, index + 1);
+            int offsetMinute = twoDigits(value, index + 4);
+            if (offsetHour < 0 || offsetHour > 23 || offsetMinute < 0 || offsetMinute > 59) {
+                return INVALID;
+            }
+            offset = offsetHour * 60 + offsetMinute;
+            if (dateTime && (offset > MAX_DATE_TIME_OFFSET || (offset == 0 && ch == '-'))) {
+                return INVALID;
+            }
+            offset = ch == '-' ? -offset : offset;
+            index += 6;
+        } else {
+            return INVALID;
+        }
+        if (index != length) {
+            return INVALID;
+        }
+        if (second != 60) {
+            return NOT_LEAP_SECOND;
+        }
+        int utc = hour * 60 + minute - offset;
+        if (Math.floorMod(utc, MINUTES_PER_DAY) != MINUTES_PER_DAY - 1) {
+            return INVALID;
+        }
+        return Math.floorDiv(utc, MINUTES_PER_DAY);
+    }
+
+    private static int twoDigits(String value, int index) {
+        char tens = value.charAt(index);
+        char ones = value.charAt(index + 1);
+        if (!isDigit(tens) || !isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isSign(char ch) {
+        return ch == '+' || ch == '-';
+    }
+}
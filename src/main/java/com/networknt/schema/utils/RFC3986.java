@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.utils;
+
+/**
+ * Validates values against the RFC 3986 URI and RFC 3987 IRI grammars.
+ * <p>
+ * The value is checked in a single pass without allocating or throwing
+ * exceptions. The components are not decoded or normalized.
+ */
+public class RFC3986 {
+    private static final int PATH = 0;
+    private static final int QUERY = 1;
+    private static final int FRAGMENT = 2;
+
+    private static final boolean[] SCHEME = ascii("+-.", true);
+    private static final boolean[] REG_NAME = ascii("-._~!$&'()*+,;=", true);
+    private static final boolean[] USERINFO = ascii("-._~!$&'()*+,;=:", true);
+    private static final boolean[] PCHAR = ascii("-._~!$&'()*+,;=:@", true);
+    private static final boolean[] IP_FUTURE = USERINFO;
+
+    private RFC3986() {
+    }
+
+    private static boolean[] ascii(String chars, boolean alphaDigit) {
+        boolean[] result = new boolean[128];
+        for (int x = 0; x < chars.length(); x++) {
+            result[chars.charAt(x)] = true;
+        }
+        if (alphaDigit) {
+            for (char ch = 'a'; ch <= 'z'; ch++) {
+                result[ch] = true;
+                result[Character.toUpperCase(ch)] = true;
+            }
+            for (char ch = '0'; ch <= '9'; ch++) {
+                result[ch] = true;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Determines if the value is a URI.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    public static boolean isUri(String value) {
+        return matches(value, true, false);
+    }
+
+    /**
+     * Determines if the value is a URI reference which is either a URI or a
+     * relative reference.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    public static boolean isUriReference(String value) {
+        return matches(value, false, false);
+    }
+
+    /**
+     * Determines if the value is an IRI.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    public static boolean isIri(String value) {
+        return matches(value, true, true);
+    }
+
+    /**
+     * Determines if the value is an IRI reference which is either an IRI or a
+     * relative reference.
+     *
+     * @param value the value
+     * @return true if valid
+     */
+    public static boolean isIriReference(String value) {
+        return matches(value, false, true);
+    }
+
+    private static boolean matches(String value, boolean absolute, boolean iri) {
+        int length = value.length();
+        int index = scheme(value);
+        if (index == 0 && absolute) {
+            // For compatibility an empty network-path reference has always been accepted
+            return length == 2 && value.startsWith("//");
+        }
+        if (value.startsWith("//", index)) {
+            index = authority(value, index + 2, iri);
+            if (index < 0) {
+                return false;
+            }
+        } else if (index == 0) {
+            // The first segment of a relative-path reference cannot contain a colon
+            for (int x = 0; x < length; x++) {
+                char ch = value.charAt(x);
+                if (ch == '/' || ch == '?' || ch == '#') {
+                    break;
+                } else if (ch == ':') {
+                    return false;
+                }
+            }
+        }
+        index = scan(value, index, PATH, iri);
+        if (index >= 0 && index < length && value.charAt(index) == '?') {
+            index = scan(value, index + 1, QUERY, iri);
+        }
+        if (index >= 0 && index < length && value.charAt(index) == '#') {
+            index = scan(value, index + 1, FRAGMENT, iri);
+        }
+        return index == length;
+    }
+
+    /**
+     * Gets the index after the scheme and colon.
+     *
+     * @param value the value
+     * @return the index or 0 if there is no scheme
+     */
+    private static int scheme(String value) {
+        int length = value.length();
+        if (length == 0 || !isAlpha(value.charAt(0))) {
+            return 0;
+        }
+        for (int x = 1; x < length; x++) {
+            char ch = value.charAt(x);
+            if (ch == ':') {
+                return x + 1;
+            } else if (ch >= 128 || !SCHEME[ch]) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Scans a path, query or fragment.
+     *
+     * @param value     the value
+     * @param index     the start index
+     * @param component the component
+     * @param iri       true to allow the IRI characters
+     * @return the index of the delimiter ending the component or -1 if invalid
+     */
+    private static int scan(String value, int index, int component, boolean iri) {
+        int length = value.length();
+        while (index < length) {
+            char ch = value.charAt(index);
+            if (ch < 128) {
+                if (PCHAR[ch] || ch == '/') {
+                    index++;
+                } else if (ch == '%') {
+                    if (!isPercentEncoded(value, index)) {
+                        return -1;
+                    }
+                    index += 3;
+                } else if (ch == '?') {
+                    if (component == PATH) {
+                        return index;
+                    }
+                    index++;
+                } else if (ch == '#' && component != FRAGMENT) {
+                    return index;
+                } else {
+                    return -1;
+                }
+            } else {
+                int codePoint = value.codePointAt(index);
+                if (!iri || !(isUcschar(codePoint) || (component == QUERY && isIprivate(codePoint)))) {
+                    return -1;
+                }
+                index += Character.charCount(codePoint);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Scans the characters allowed in the userinfo or host.
+     *
+     * @param value   the value
+     * @param index   the start index
+     * @param end     the end index
+     * @param allowed the allowed ASCII characters
+     * @param iri     true to allow the IRI characters
+     * @return the index of the first character that is not allowed or the end
+     */
+    private static int scan(String value, int index, int end, boolean[] allowed, boolean iri) {
+        while (index < end) {
+            char ch = value.charAt(index);
+            if (ch < 128) {
+                if (allowed[ch]) {
+                    index++;
+                } else if (ch == '%' && isPercentEncoded(value, index)) {
+                    index += 3;
+                } else {
+                    return index;
+                }
+            } else {
+                int codePoint = value.codePointAt(index);
+                if (!iri || !isUcschar(codePoint)) {
+                    return index;
+                }
+                index += Character.charCount(codePoint);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Validates the authority.
+     *
+     * @param value the value
+     * @param index the index after the //
+     * @param iri   true to allow the IRI characters
+     * @return the index after the authority or -1 if invalid
+     */
+    private static int authority(String value, int index, boolean iri) {
+        int length = value.length();
+        int end = index;
+        while (end < length) {
+            char ch = value.charAt(end);
+            if (ch == '/' || ch == '?' || ch == '#') {
+                break;
+            }
+            end++;
+        }
+        int host = index;
+        int at = value.indexOf('@', index);
+        if (at != -1 && at < end) {
+            if (scan(value, index, at, USERINFO, iri) != at) {
+                return -1;
+            }
+            host = at + 1;
+        }
+        int port;
+        if (host < end && value.charAt(host) == '[') {
+            int close = value.indexOf(']', host);
+            if (close == -1 || close >= end || !isIpLiteral(value, host + 1, close)) {
+                return -1;
+            }
+            port = close + 1;
+        } else {
+            // An IPv4 address is also a valid reg-name
+            port = scan(value, host, end, REG_NAME, iri);
+        }
+        if (port < end) {
+            if (value.charAt(port) != ':') {
+                return -1;
+            }
+            for (int x = port + 1; x < end; x++) {
+                if (!isDigit(value.charAt(x))) {
+                    return -1;
+                }
+            }
+        }
+        return end;
+    }
+
+    private static boolean isIpLiteral(String value, int start, int end) {
+        if (start < end && (value.charAt(start) == 'v' || value.charAt(start) == 'V')) {
+            // IPvFuture
+            int index = start + 1;
+            while (index < end && isHexDigit(value.charAt(index))) {
+                index++;
+            }
+            if (index == start + 1 || index >= end || value.charAt(index) != '.' || index + 1 >= end) {
+                return false;
+            }
+            for (int x = index + 1; x < end; x++) {
+                char ch = value.charAt(x);
+                if (ch >= 128 || !IP_FUTURE[ch]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return isIPv6(value, start, end);
+    }
+
+    /**
+     * Determines if the range of the value is an IPv6 address without a zone
+     * identifier.
+     *
+     * @param value the value
+     * @param start the start index
+     * @param end   the end index
+     * @return true if valid
+     */
+    public static boolean isIPv6(String value, int start, int end) {
+        if (end - start < 2) {
+            return false;
+        }
+        int index = start;
+        int groups = 0;
+        boolean compressed = false;
+        if (value.charAt(index) == ':') {
+            if (value.charAt(index + 1) != ':') {
+                return false;
+            }
+            compressed = true;
+            index += 2;
+        }
+        while (index < end) {
+            int groupStart = index;
+            while (index < end && isHexDigit(value.charAt(index))) {
+                index++;
+            }
+            if (index < end && value.charAt(index) == '.') {
+                // Trailing dotted IPv4 address takes the space of two groups
+                if (!isIPv4(value, groupStart, end)) {
+                    return false;
+                }
+                groups += 2;
+                index = end;
+                break;
+            }
+            int digits = index - groupStart;
+            if (digits == 0 || digits > 4) {
+                return false;
+            }
+            groups++;
+            if (index == end) {
+                break;
+            }
+            if (value.charAt(index) != ':') {
+                return false;
+            }
+            index++;
+            if (index < end && value.charAt(index) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                index++;
+            } else if (index == end) {
+                return false;
+            }
+        }
+        return compressed ? groups <= 7 : groups == 8;
+    }
+
+    /**
+     * Determines if the range of the value is an IPv4 address in dotted decimal
+     * notation without leading zeros.
+     *
+     * @param value the value
+     * @param start the start index
+     * @param end   the end index
+     * @return true if valid
+     */
+    public static boolean isIPv4(String value, int start, int end) {
+        int index = start;
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                if (index >= end || value.charAt(index) != '.') {
+                    return false;
+                }
+                index++;
+            }
+            int octetStart = index;
+            int number = 0;
+            while (index < end && isDigit(value.charAt(index)) && index - octetStart < 3) {
+                number = number * 10 + (value.charAt(index) - '0');
+                index++;
+            }
+            int digits = index - octetStart;
+            if (digits == 0 || number > 255 || (digits > 1 && value.charAt(octetStart) == '0')) {
+                return false;
+            }
+        }
+        return index == end;
+    }
+
+    private static boolean isPercentEncoded(String value, int index) {
+        return index + 2 < value.length() && isHexDigit(value.charAt(index + 1))
+                && isHexDigit(value.charAt(index + 2));
+    }
+
+    private static boolean isAlpha(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isHexDigit(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F');
+    }
+
+    private static boolean isUcschar(int codePoint) {
+        if (codePoint < 0x10000) {
+            return (codePoint >= 0xA0 && codePoint <= 0xD7FF) || (codePoint >= 0xF900 && codePoint <= 0xFDCF)
+                    || (codePoint >= 0xFDF0 && codePoint <= 0xFFEF);
+        }
+        // Each plane from 1 to 14 except for the last two code points and the tags in
+        // plane 14
+        return codePoint <= 0xEFFFD && (codePoint & 0xFFFF) <= 0xFFFD
+                && (codePoint < 0xE0000 || codePoint >= 0xE1000);
+    }
+
+    private static boolean isIprivate(int codePoint) {
+        return (codePoint >= 0xE000 && codePoint <= 0xF8FF)
+                || (codePoint >= 0xF0000 && (codePoint & 0xFFFF) <= 0xFFFD);
+    }
+}
@@ -3,7 +3,6 @@ package com.networknt.schema.utils;
 import java.net.IDN;
 import java.text.Normalizer;
 import java.text.ParseException;
-import java.util.BitSet;
 import java.util.function.BiPredicate;
 
 import static com.networknt.schema.utils.UnicodeDatabase.*;
@@ -31,11 +30,6 @@ public class RFC5892 {
     private static final int ZERO_WIDTH_JOINER = 0x200D;
     private static final int ZERO_WIDTH_NON_JOINER = 0x200C;
 
-    private static final BitSet CONTEXTJ = new BitSet(0x110000);
-    private static final BitSet CONTEXTO = new BitSet(0x110000);
-    private static final BitSet DISALLOWED = new BitSet(0x110000);
-    private static final BitSet UNASSIGNED = new BitSet(0x110000);
-
     private static final BiPredicate<String, Integer> RULE_ARABIC_INDIC_DIGITS_RULE = RFC5892::testArabicIndicDigit;
     private static final BiPredicate<String, Integer> RULE_EXTENDED_ARABIC_INDIC_DIGITS_RULE = RFC5892::testExtendedArabicIndicDigit;
     private static final BiPredicate<String, Integer> RULE_GREEK_LOWER_NUMERAL_SIGN = RFC5892::testGreekLowerNumeralSign;
@@ -62,30 +56,38 @@ public class RFC5892 {
         .and(RULE_ZERO_WIDTH_NON_JOINER)
         ;
 
-    private static boolean isContextJ(int codepoint) {
-        if (CONTEXTJ.isEmpty()) loadDerivedProperties();
-        return CONTEXTJ.get(codepoint);
-    }
-
-    private static boolean isContextO(int codepoint) {
-        if (CONTEXTO.isEmpty()) loadDerivedProperties();
-        return CONTEXTO.get(codepoint);
-    }
-
-    private static boolean isDisallowed(int codepoint) {
-        if (DISALLOWED.isEmpty()) loadDerivedProperties();
-        return DISALLOWED.get(codepoint);
-    }
-
-    private static boolean isUnassigned(int codepoint) {
-        if (UNASSIGNED.isEmpty()) loadDerivedProperties();
-        return UNASSIGNED.get(codepoint);
-    }
-
     private static boolean testAllowedCharacter(String s, int i) {
         int c = s.codePointAt(i);
-        return !isDisallowed(c) && !isUnassigned(c) // RFC 5891 4.2.2.  Rejection of Characters That Are Not Permitted
-            && !isContextJ(c)   && !isContextO(c);  // RFC 5891 4.2.3.3.  Contextual Rules
+        switch (UnicodeTables.getDerivedProperty(c)) {
+            case UnicodeTables.PVALID:
+                return true;
+            case UnicodeTables.CONTEXTJ:
+            case UnicodeTables.CONTEXTO:
+                return hasContextRule(c); // RFC 5891 4.2.3.3.  Contextual Rules
+            default:
+                return false; // RFC 5891 4.2.2.  Rejection of Characters That Are Not Permitted
+        }
+    }
+
+    /**
+     * Determines whether there is an IDNA rule for the contextual character.
+     *
+     * @param codepoint the code point
+     * @return {@code true} if the character is validated by one of the IDNA rules
+     */
+    private static boolean hasContextRule(int codepoint) {
+        switch (codepoint) {
+            case GREEK_LOWER_NUMERAL_SIGN:
+            case HEBREW_GERESH:
+            case HEBREW_GERSHAYIM:
+            case KATAKANA_MIDDLE_DOT:
+            case MIDDLE_DOT:
+            case ZERO_WIDTH_JOINER:
+            case ZERO_WIDTH_NON_JOINER:
+                return true;
+            default:
+                return isArabicIndicDigit(codepoint) || isExtendedArabicIndicDigit(codepoint);
+        }
     }
 
     /**
@@ -385,29 +387,4 @@ public class RFC5892 {
         return true;
     }
 
-    private static synchronized void loadDerivedProperties() {
-        if (DISALLOWED.isEmpty()) {
-            UCDLoader.loadMapping("/ucd/RFC5892-appendix-B.txt", v -> {
-                switch (v) {
-                    case "CONTEXTJ": return CONTEXTJ;
-                    case "CONTEXTO": return CONTEXTO;
-                    case "DISALLOWED": return DISALLOWED;
-                    case "UNASSIGNED": return UNASSIGNED;
-                    default: return null;
-                }
-            });
-
-            // We have IDNA rules for these.
-            CONTEXTJ.clear(ZERO_WIDTH_JOINER);
-            CONTEXTJ.clear(ZERO_WIDTH_NON_JOINER);
-            CONTEXTO.clear(0x660, 0x066A); // ARABIC-INDIC DIGITS
-            CONTEXTO.clear(0x6F0, 0x06FA); // EXTENDED ARABIC-INDIC DIGITS
-            CONTEXTO.clear(GREEK_LOWER_NUMERAL_SIGN);
-            CONTEXTO.clear(HEBREW_GERESH);
-            CONTEXTO.clear(HEBREW_GERSHAYIM);
-            CONTEXTO.clear(KATAKANA_MIDDLE_DOT);
-            CONTEXTO.clear(MIDDLE_DOT);
-        }
-    }
-
 }
@@ -9,12 +9,6 @@ public class UnicodeDatabase {
     private static final BitSet HEBREW_CHARACTERS = new BitSet(0x0600);
     private static final BitSet KATAKANA_CHARACTERS = new BitSet(0x33000);
 
-    private static final BitSet JOIN_TYPE_CAUSING = new BitSet(0x110000);
-    private static final BitSet JOIN_TYPE_DUAL = new BitSet(0x110000);
-    private static final BitSet JOIN_TYPE_LEFT = new BitSet(0x110000);
-    private static final BitSet JOIN_TYPE_RIGHT = new BitSet(0x110000);
-    private static final BitSet JOIN_TYPE_TRANSPARENT = new BitSet(0x110000);
-
     static {
         // TODO: Should we initialize this lazily?
         ARABIC_INDIC_DIGITS.set(0x0660, 0x066A);
@@ -62,43 +56,23 @@ public class UnicodeDatabase {
     }
 
     public static boolean isJoinTypeCausing(int codepoint) {
-        if (JOIN_TYPE_CAUSING.isEmpty()) loadJoiningTypes();
-        return JOIN_TYPE_CAUSING.get(codepoint);
+        return UnicodeTables.getJoiningType(codepoint) == UnicodeTables.JOIN_TYPE_CAUSING;
     }
 
     public static boolean isJoinTypeDual(int codepoint) {
-        if (JOIN_TYPE_DUAL.isEmpty()) loadJoiningTypes();
-        return JOIN_TYPE_DUAL.get(codepoint);
+        return UnicodeTables.getJoiningType(codepoint) == UnicodeTables.JOIN_TYPE_DUAL;
     }
 
     public static boolean isJoinTypeLeft(int codepoint) {
-        if (JOIN_TYPE_LEFT.isEmpty()) loadJoiningTypes();
-        return JOIN_TYPE_LEFT.get(codepoint);
+        return UnicodeTables.getJoiningType(codepoint) == UnicodeTables.JOIN_TYPE_LEFT;
     }
 
     public static boolean isJoinTypeRight(int codepoint) {
-        if (JOIN_TYPE_RIGHT.isEmpty()) loadJoiningTypes();
-        return JOIN_TYPE_RIGHT.get(codepoint);
+        return UnicodeTables.getJoiningType(codepoint) == UnicodeTables.JOIN_TYPE_RIGHT;
     }
 
     public static boolean isJoinTypeTransparent(int codepoint) {
-        if (JOIN_TYPE_TRANSPARENT.isEmpty()) loadJoiningTypes();
-        return JOIN_TYPE_TRANSPARENT.get(codepoint);
-    }
-
-    private static synchronized void loadJoiningTypes() {
-        if (JOIN_TYPE_DUAL.isEmpty()) {
-            UCDLoader.loadMapping("/ucd/extracted/DerivedJoiningType.txt", v -> {
-                switch (v) {
-                    case "C": return JOIN_TYPE_CAUSING;
-                    case "D": return JOIN_TYPE_DUAL;
-                    case "L": return JOIN_TYPE_LEFT;
-                    case "R": return JOIN_TYPE_RIGHT;
-                    case "T": return JOIN_TYPE_TRANSPARENT;
-                    default: return null;
-                }
-            });
-        }
+        return UnicodeTables.getJoiningType(codepoint) == UnicodeTables.JOIN_TYPE_TRANSPARENT;
     }
 
 }
@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.utils;
+
+/**
+ * Two-stage lookup tables of the RFC 5892 derived properties and the Unicode
+ * joining types.
+ * <p>
+ * The code point is split into a block number and an offset. The block number
+ * indexes the block in the data which is shared by all blocks with the same
+ * values. Each value is offset by a bias to keep the characters printable.
+ * <p>
+ * Generated by UnicodeTablesGenerator from ucd/RFC5892-appendix-B.txt and
+ * ucd/extracted/DerivedJoiningType.txt. Do not edit.
+ */
+final class UnicodeTables {
+    static final int PVALID = 0;
+    static final int CONTEXTJ = 1;
+    static final int CONTEXTO = 2;
+    static final int DISALLOWED = 3;
+    static final int UNASSIGNED = 4;
+
+    static final int JOIN_TYPE_NONE = 0;
+    static final int JOIN_TYPE_CAUSING = 1;
+    static final int JOIN_TYPE_DUAL = 2;
+    static final int JOIN_TYPE_LEFT = 3;
+    static final int JOIN_TYPE_RIGHT = 4;
+    static final int JOIN_TYPE_TRANSPARENT = 5;
+
+    static final int JOIN_TYPE_SHIFT = 3;
+    static final int BLOCK_SHIFT = 7;
+    static final int BIAS = 32;
+
+    private static final int DERIVED_PROPERTY_MASK = (1 << JOIN_TYPE_SHIFT) - 1;
+    private static final int OFFSET_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    private static final String INDEX =
+            " !\"#$%&'()*+,-./0123456789:;<=>?@ABBCDEFGHHHIJKLMNOPQRSTUVWXYZ[\\]^_`BBBabBBB"
+            + "BcdeBBBBBBfghijklmBnopqrstBBHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HuHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HHHHHHHHHvHHHHHHHHHwHHxyz{|}~\u007F\u0080\u0081g\u0082HHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH\u0083BBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB\u0084\u0085\u0086\u0087"
+            + "BB\u0088\u0089\u008A\u008B\u008C\u008D\u008E\u008F\u0090\u0091g\u0092\u0093\u0094"
+            + "\u0095\u0096gggggg\u0097g\u0098g\u0099\u009A\u009B\u009C\u009Dg\u009Eg\u009F\u00A0"
+            + "\u00A1\u00A2\u00A3\u00A4\u00A5\u00A6\u00A7\u00A8\u00A9g\u00AA\u00ABg\u00AC\u00AD"
+            + "\u00AE\u00AFg\u00B0g\u00B1\u00B2\u00B3\u00B4gg\u00B5\u00B6\u00B7\u00B8g\u00B9\u00BA"
+            + "gHHHHHH\u00BBg\u00BCgggggggggggggggggggggggHHHHHHHH\u00BDggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggggggg\u00BE\u00BFggggggg\u00C0\u00C1gggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggggggggggggggggggggggggggggggggggg\u00C2ggggggggggggggggggggggggggggggggggg"
+            + "g\u00C3gB\u00C4\u00C5\u00C6\u00C7g\u00C8g\u00C9\u00CA\u00CBBB\u00CCB\u00CDgggg"
+            + "\u00CE\u00CFgggggggggg\u00D0\u00D1\u00BFgg\u00D2ggg\u00D3ggggggg\u00D4\u00D5gg"
+            + "ggggggggggg\u00D6\u00D7\u00D8\u00D9\u00DAgggggggggggggggggggggggggg\u00DBHHHHH"
+            + "HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HHHHHHHHHHHHHHHH\u00DCHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH\u00DDgggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggBBBB\u00DEgggggggggg\u00DBggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggg\u00DBgggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg\u00DB"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggggggggggggggggggggggggggggggggggggggggg\u00DBggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggg\u00DBgggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg\u00DBggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggg\u00DBgggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggg\u00DBggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggg\u00DBgggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggggggggggggggggggggggg\u00DBggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg\u00DB"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggggggggggggggggggggggggggggggggggggggggg\u00DB\u00DFg\u00E0\u00E1gggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "gggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggggg"
+            + "ggggggggggggggggggggggggggggg\u00DBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB"
+            + "BBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBBB";
+
+    private static final String DATA =
+            "############################################# ##          ####################"
+            + "###################                          #################################"
+            + "#################K#########\"#######################################          "
+            + "              #        # # # # # # # # # # # # # # # # # # # # # # # # # ### #"
+            + "  # # # ### # # # ## # # # # # # # # # # # # # # # # # # # # # # ## # # # ## #"
+            + " ## ###  #### ## ###   ## ## # # ## #  # ## ### # ##   #       ########## # # "
+            + "# # # # #  # # # # # # # # #  #### ### # # # # # # # # # # # # # # # # # # # #"
+            + " # # # # # # # # #       ## ##  # #### # # # #                                "
+            + "                                                                 #########    "
+            + "     ####            ########################## # #################HHHHHHHHHHH"
+            + "HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHKKHKKKHHHHHHHHHKHHHHHHHHH"
+            + "HHHHHHHHHHHHHHHHHHHHHHH# # #\"# $$#   #$$$$$#######$#$## #################$###"
+            + "######                                   ######## # # # # # # # # # # # # ### "
+            + "#### ##  ###################################################                  "
+            + "                              # # # # # # # # # # # # # # # # # #HHHHHKK# # # "
+            + "# # # # # # # # # # # # # # # # # # # # # # # # ## # # # # # #  # # # # # # # "
+            + "# # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # $$$$$$"
+            + "$$$$$######################################$$ ######$                         "
+            + "             #$##$$$$$$HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHH#H#HH#HH#H"
+            + "$$$$$$$$                           $$$$$   \"\"$$$$$$$$$$$####$$##########HHHH"
+            + "HHHHHHH#L$##4 @@@@0@0@00000@@@@0000000000000+0000000@00HHHHHHHHHHHHHHHHHHHHL\""
+            + "\"\"\"\"\"\"\"\"\"####00H@@@ CCC3000000000000000@@@@@@@@@@@@@@@@@@000000000000"
+            + "00000000000000000000000000@00@@@@@@@@@0@0@00@@#@HHHHHHH##HHHHHH  HH#HHHH@@\"\""
+            + "\"\"\"\"\"\"\"\"000  0##############$K@H000@@@@@0000@000000000@0@0@00@HHHHHHHH"
+            + "HHHHHHHHHHHHHHHHHHH$$@00000000000@@@000000000000000@@0000@0@@000@@000000      "
+            + "                                HHHHHHHHHHH $$$$$$$$$$$$$$          0000000000"
+            + "00000000000000000000000HHHHHHHHH  ####+$$L$$                      HHHH HHHHHHH"
+            + "HH HHH HHHHH$$###############$D44444DD4D4444444444D4DDDLLL$$$$4$4444$D4DD$$$$$"
+            + "DDDDDDDDDDDDDDDDDDD,,,4$$44444D$$$$$$$$$LLLLLLLL4444444444DDD$D44DD444444D4444"
+            + "44444444444$LLLLLLLLLLLLLLLLLLLLLLLL$LLLLLLLLLLLLLLLLLLLLLLLLLLLLLHHH         "
+            + "                                              L$H    HHHHHHHH    H $ HHHHHLL##"
+            + "######  HH##          #  $$$$$$       $H  $        $$  $$                     "
+            + " $       $ $$$    $$H    HHHH$$  $$  H $$$$$$$$ $$$$##$#  HH$$            ####"
+            + "######$$L$$HH $      $$$$  $$                      $       $ #$ #$  $$H$   HH$"
+            + "$$$HH$$HHH$$$H$$$$$$$### $#$$$$$$$          HH   H$$$$$$$$$$$HH $         $   "
+            + "$                      $       $  $     $$H    HHHHH$HH $  H$$ $$$$$$$$$$$$$$$"
+            + "  HH$$          $#$$$$$$$$LLLLLL$H  $        $$  $$                      $    "
+            + "   $  $     $$H  H HHHH$$  $$  H$$$$$$$LH $$$$##$   HH$$          # $$$$$$$$$$"
+            + "$$$$$$H $      $$$   $    $$$  $ $  $$$  $$$   $$$            $$$$  H  $$$   $"
+            + "   H$$ $$$$$$ $$$$$$$$$$$$$$          ###########$$$$$L   L        $   $      "
+            + "                 $          $     $$L HHH    $HHH$HHHH$$$$$$$HH$  $$$$$$  HH$$"
+            + "          $$$$$$$$########$L  $        $   $                       $          "
+            + "$     $$H  H     $H  $  HH$$$$$$$  $$$$$$$ $  HH$$          $##$$$$$$$$$$$$$LL"
+            + "  $        $   $                       $                $LL    HHHH$   $   H$$"
+            + "$$$$$$$ $$$$$$$$  HH$$          ######$$$#      $L  $                  $$$    "
+            + "                    $         $ $$       $$$H$$$$   HHH$H$        $$$$$$$$$$$$"
+            + "$$$$$$  #$$$$$$$$$$$$                                                H #HHHHHH"
+            + "H$$$$#       HHHHHHHH#          ##$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$  $ $$ "
+            + " $ $$ $$$$$$    $       $   $ $ $$  $    H #HHHHHHLHH $$     $ $HHHHHHL$      "
+            + "    $$##$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$ ########## ############HH######    "
+            + "      ###########H#H#H####     #    $    #    #    #    #            #   $$$$H"
+            + "HKHKKKKKHHHHH HKHHH#HH    $LLLHHHKHHHH$HHHHKHHHHKHHHHKHHHHKHHHHHHHHHHHHKHHH$##"
+            + "######H######$###########$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$              "
+            + "                               HHHH HHHHHH HH  HH           ######        HH  "
+            + "  HHH                HHHH             H  HH      H               H############"
+            + "############################$$$$$$$$$$                                        "
+            + "   ##$$$######################################################################"
+            + "##########################################################                    "
+            + "                                                     $    $$       $ $    $$  "
+            + "                                       $    $$                                "
+            + " $    $$       $ $    $$               $                                      "
+            + "                   $    $$                                                    "
+            + "               $$LLH#############################$$$                ##########"
+            + "$$$$$$                                                                        "
+            + "             $$$$$$$$$$$#                                                     "
+            + "                                                                              "
+            + "                                                                              "
+            + "                                                                              "
+            + "                                                                             #"
+            + "#                 #                          ##$$$                            "
+            + "                                               ######$$$$$$$$$$$$$$$          "
+            + "   $    HHH$$$$$$$$$$$                  HH ##$$$$$$$$$                  HH$$$$"
+            + "$$$$$$$$             $   $HH$$$$$$$$$$$$                                      "
+            + "              KK HHHHHHH        H  HHHHHHHHHHH### #### H$$          $$$$$$####"
+            + "######$$$$$$#######3##+KKK#L          $$$$$$0000000000000000000000000000000000"
+            + "0000000000000000000000000000000000000000000000000000004$$$$$$$     HH000000000"
+            + "0000000000000000000000000H0$$$$$                                              "
+            + "                        $$$$$$$$$$                             $$$HHH    HH   "
+            + "$$$$  H      HHH$$$$#$$$##                                        $$     $$$$$"
+            + "$$$$$$                                            $$$$                        "
+            + "  $$$$$$           $$$##################################                      "
+            + " HH  H$$##                                                      H HHHHHHH$H H "
+            + " HHHHHHHH      HHHHHHHHHH$$H          $$$$$$          $$$$$$####### ######$$LL"
+            + "LLLLLLLLLLLLLLLLLLLLLLLLLLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "HHHH                                                H HHHHH H     H         $$"
+            + "$$          #################HHHHHHHHH#########$$$HH                          "
+            + "      HHHH  HH LLL            $$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$L$LL"
+            + "$$$L$LLL$$$$$$$$$$$$$$                                            HHHHHHHH  HH"
+            + "$$$#####          $$$                                                 ##$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$HHH#"
+            + "HHHHHHHHHHHHH HHHHHHH    H     $L$$$LL$$$$$$                                  "
+            + "          ### ########### ################## ############################     "
+            + "        #                                  ###################################"
+            + "##HHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHHLLLLLLLLLLLLLLLLLLLLLLHHH# # # # # # "
+            + "# # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # "
+            + "# # # # # # # # # # # # # # # # # # # # # # # # # # # # # #     ##  # # # # # "
+            + "# # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # "
+            + "# # # # #         ########      $$######$$        ########        ########    "
+            + "  $$######$$        $#$#$#$#        ######## # # # # # # #$$##################"
+            + "##############################  ###$ ##############$ #########   #$$  ####$###"
+            + "   #    ########$$###$ ########$###########K!)KK##########################KKKK"
+            + "K#################################################KKKKK$$$$$KKKKKK##$$########"
+            + "###################$#####$$$$$$$$$$$#########################$$$$$$$$$$$$$$$$$"
+            + "$$$$$$KKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKK$$$$$$$$$$$$$$$########################"
+            + "###################################################### #######################"
+            + "############################## #####$$$$$$####################################"
+            + "##############################################################################"
+            + "##############################################################################"
+            + "#########################$$$$$$$$$$$$$$$$$$$$$$$##############################"
+            + "#########$$$$$$$$$$$$$$$$$$$$$$$$$###########$$$$$$$$$$$$$$$$$$$$$############"
+            + "##############################################################################"
+            + "####################$###################$#$$$$########################$####$##"
+            + "##$$############################$###################################$#$####$$$"
+            + "#########$$####################################################$$$############"
+            + "############$##############$###########$#$$$##################################"
+            + "##############################################################################"
+            + "#############$$$##########$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$##########################################"
+            + "#####$                                               $# ###  # # # #### #  #  "
+            + "    ##### # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # # "
+            + "# # # # # # # # # # # # # # #  ####### # HHH$$$$$$$#######                    "
+            + "                  $$$$$$$$$$                                                  "
+            + "    $$$$$$$$$#$$$$$$$$$$$$$$$L                       $$$$$$$$$       $       $"
+            + "       $       $       $       $       $       $HHHHHHHHHHHHHHHHHHHHHHHHHHHHHH"
+            + "HH############################################### ##$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$##########################"
+            + "$#############################################################################"
+            + "############$$$$$$$$$$$$######################################################"
+            + "################################$$$$$$$$$$$$$$$$$$$$$$$$$$############$$$$####"
+            + "#   ##################################HHHH############## ###$                 "
+            + "                                                                     $$HH##  #"
+            + "#                                                                             "
+            + "             \"   #$$$$$                                         $$$##########"
+            + "##############################################################################"
+            + "######$################                        $$$$$$$$#######################"
+            + "#############$$$$$$$$$$$$                ###############################$#####"
+            + "##############################################################################"
+            + "##############################################################################"
+            + "##############################################################$               "
+            + "                                       $$$$$$$$$$#############################"
+            + "###################################                                           "
+            + "                                 $$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$             $$$#######################################################"
+            + "$$$$$$$$$                                              ##             ###     "
+            + "                       $$$$$$$$$$$$$$$$$$$$# # # # # # # # # # # # # # # # $$#"
+            + " # # # # #  HKKK#LLLLLLLLHH# # # # # # # # # # # # # $$$$$$LL                 "
+            + "                                                     ##########HH######$$$$$$$"
+            + "$#######################         ### # # # # # #   # # # # # # # # # # # # # #"
+            + " # # # # # # # # # # # # # # # # # #        # # ## # # # #  ### $$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$       H   H    H                         HH ####L$$$#######"
+            + "###$$$$$$000000000000000000000000000000000000000000000000008 ####$$$$$$$$     "
+            + "                                                               HL$$$$$$$$##   "
+            + "       $$$$$$HHHHHHHHHHHHHHHHHH      ### $$$L                                 "
+            + "     HHHHHHHH##                       HHHHHHHHHHH  $$$$$$$$$$$################"
+            + "##############$$$HHH                                                H  HHHH  H"
+            + "H   #############$           $$$$##$$$$$L$$$$$$$$$$$$$$$$$$$$$$$$$$           "
+            + "                              HHHHHH  HH  HH$$$$$$$$$   H        H $$         "
+            + " $$####                       ###  L$$$                                       "
+            + "         H HHH  HH     HH H $$$$$$$$$$$$$$$$$$$$$$$$   ##$$$$$$$$$$$$LL$$$$$$$"
+            + "$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$   "
+            + "                                  H  H  # H$$          $$$$$$                 "
+            + "                   $$$$$$$$$$$$#######################$$$$####################"
+            + "#############################$$$$##############  # #  ########## # #  ##   ###"
+            + "#$$##############################################################$$###########"
+            + "##############################################################################"
+            + "#################$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$#######$$$$$$$$$$$$####"
+            + "#$$$$$#H########################$#####$#$##$##$###############################"
+            + "#############################################################################$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$##############################################"
+            + "###############################################################$$$$$$$$$$$$$$$"
+            + "$################################################################$$###########"
+            + "###########################################$$$$$$$$###########################"
+            + "###################$$KKKKKKKKKKKKKKKK##########$$$$$$HHHHHHHLLLLLLLLL#########"
+            + "##########################$###################$####$$$$### #$#################"
+            + "##############################################################################"
+            + "########################################$$K$##################################"
+            + "##############################################################################"
+            + "##############################################################################"
+            + "$$$######$$######$$######$$###$$$#######$#######$$$$$$$$$$KKK####            $"
+            + "                          $                   $  $               $$           "
+            + "   $$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$                                         "
+            + "                                                                              "
+            + "    $$$$$###$$$$#############################################$$$##############"
+            + "######################################################################$$$$$###"
+            + "#########$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$#################"
+            + "############################H$$                             $$$               "
+            + "                                  $$$$$$$$$$$$$$$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$                               $####$$$$$$$$$$$$                 #        #"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLL$$$$$                         "
+            + "     $#                                    $$$$        ######$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$########################################             "
+            + "                                                                              "
+            + "                           $$          $$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$      $$ $                     "
+            + "                       $  $$$ $$                       $#########$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$                      ######$$$#                          $"
+            + "$$$$#$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$ HHH$HH$$"
+            + "$$$HHHH    $   $                           $$$$HHH$$$$H########$$$$$$$$#######"
+            + "##$$$$$$$                             ###$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$44444D$D$DD$$<DDDDD4444<44444D444D$$DLL$$$$4444D$$$"
+            + "$$$$$$$$$$$$$                                                      $$$####### "
+            + "                     $$########                   $$$$$########4D4DDD444D44D4D"
+            + "D4D$$$$$$$$$$$$$$$$$$$$$$$DDDD44$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$                                           "
+            + "                              $$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$<444444444444444444444444444444444D4LLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$###"
+            + "############################$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LL$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LL"
+            + "L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$444D44444444444444444$LLLLLLL"
+            + "LLLL444D$$$$$$$$$$$$$$$$$$$$$$$$$$$4444DD444444444444LLLL$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$4$44DDD$4DD44D44$4DD4$$$$D4<$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$LLLLLLLLLLLLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$L$$LL$$$$$$$$$$LHH   "
+            + "                                              HHHH  HH#######L$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$LLLLL$LLLLLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$L$$$$$$$$$$$$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLL"
+            + "LL$$$$$$$$$$LLLL$$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLL$$L$LL$$$$$$L$$L$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$L$$$LLLLLLLL$$$$$$$$$$"
+            + "$$$$$$$$$$$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LL$$$L$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLL$$$LLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLLL$$LLL$L$$$$$$$$$$$$$$$$$$$$$$$L"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$LLLLLL$L$$$$LL$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLL$$$$$$LL$LL$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLLL$$L$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$L$L$$LLL"
+            + "LLL$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLL$$LLLL$LLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$LLLLLLLLL$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$LL$L$$$$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$L"
+            + "LLL$$LL$$$$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLLLLL$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$LLLLLL$$LLLL$$$$$$$$L$$$$$$$$$LLLLLL$$LLL$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLLLLLLLL$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLL$LLLLLL$L$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLLLLLLLLLLLLLLLLL$"
+            + "$LLLLLLL$LL$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLL$$$L$LL$LLLLLL"
+            + "L$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LL$"
+            + "$$L$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LL$$$$$$$$"
+            + "$$$LL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLL$$$$$L$L$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$                         "
+            + "                                                                              "
+            + "        $$$$$$$$$$$$$$$$$#####################################################"
+            + "##############################################$$$$$$$$$$$$$####$$$$$$$$$$$$   "
+            + "                                            $LLLLLLLLLLLLLLLLL$$$$$$LLLLLLLLLL"
+            + "LLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$LLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLL$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$L$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLL$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$L$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LL$LLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLLLLLLLLLL"
+            + "LLLLLLLLLLLLLLLLLLLLLLLLLLLLLLL$$LLLLLLLLLLLLLLLLLLLLLLL$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$###########################################"
+            + "###########################################################################$$$"
+            + "$$$$$$$#######################################$$##############################"
+            + "################################KKK#########KKKKKKKKKKKKKKKK##KKKKKKK#########"
+            + "#####################KKKK################################################$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$#################################################"
+            + "#################KKK#$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$#############################################################################"
+            + "##########$$$$$$$$$##################$$$$$$$$$$$$$$###########################"
+            + "##########################################################$###################"
+            + "####################################################$##$$#$$##$$####$#########"
+            + "###$#$#######$################################################################"
+            + "#$####$$########$#######$############################$####$#####$#$$$#######$#"
+            + "##############################################################################"
+            + "#####$$#######################################################################"
+            + "##############################################################################"
+            + "###############$$##################################################LLLLLLLLLLL"
+            + "LLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLLL$$$$LLLLLLLLLLLLLLLLLLLLLLLLLLLLLL"
+            + "LLLLLLLLLLLLLLLLLLLL$$$$$$$$L$$$$$$$$$$$$$$L$$$$$$$$$$$$$$$$$$$$$$LLLLL$LLLLLL"
+            + "LLLLLLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$LLLLLLL$LLLLLLLLLLLLLLLLL$$LLLLLLL$LL$LLLLL$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$L$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$L$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLL$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$LLLLLLL$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$444444444444444444444444444444444444444444444444444"
+            + "44444444444444444LLLLLLLL$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$#"
+            + "###########################################$$$$###############################"
+            + "#####################################################################$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$###########$$$$$###############################$$#$$$$$$$"
+            + "$$$$#$#$$#$$$#$$$#####$$$$$$$$#$$$$$$$#$$$$$$$$$$$$$$$$$$$$$$$$$#$##$$#$$$$$$$"
+            + "$$$####$$#$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$#$$$$$$$$$$$$$$$###################"
+            + "###############$$$$$$$$$$$$$$#########$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$##             "
+            + "                                                                          $$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$                                         "
+            + "            $$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$##############################$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$$K$$$$$$$$$$$$$$$$$"
+            + "$$$$$$$$$$$$$KKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKK"
+            + "KKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKK"
+            + "KKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKK"
+            + "KKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKK"
+            + "KKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKKK$$$$$$$$$$$$$$$$";
+
+    private UnicodeTables() {
+    }
+
+    private static int get(int codePoint) {
+        int block = INDEX.charAt(codePoint >>> BLOCK_SHIFT) - BIAS;
+        return DATA.charAt((block << BLOCK_SHIFT) | (codePoint & OFFSET_MASK)) - BIAS;
+    }
+
+    /**
+     * Gets the RFC 5892 derived property of the code point.
+     *
+     * @param codePoint the code point
+     * @return the derived property
+     */
+    static int getDerivedProperty(int codePoint) {
+        return get(codePoint) & DERIVED_PROPERTY_MASK;
+    }
+
+    /**
+     * Gets the joining type of the code point.
+     *
+     * @param codePoint the code point
+     * @return the joining type
+     */
+    static int getJoiningType(int codePoint) {
+        return get(codePoint) >>> JOIN_TYPE_SHIFT;
+    }
+}
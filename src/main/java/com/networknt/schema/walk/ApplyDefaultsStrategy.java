@@ -6,6 +6,7 @@ public class ApplyDefaultsStrategy {
     private final boolean applyPropertyDefaults;
     private final boolean applyPropertyDefaultsIfNull;
     private final boolean applyArrayDefaults;
+    private final boolean copyOnWrite;
 
     /**
      * Specify which default values to apply.
@@ -21,12 +22,32 @@ public class ApplyDefaultsStrategy {
      * @throws IllegalArgumentException if applyPropertyDefaults is false and applyPropertyDefaultsIfNull is true
      */
     public ApplyDefaultsStrategy(boolean applyPropertyDefaults, boolean applyPropertyDefaultsIfNull, boolean applyArrayDefaults) {
+        this(applyPropertyDefaults, applyPropertyDefaultsIfNull, applyArrayDefaults, false);
+    }
+
+    /**
+     * Specify which default values to apply and whether to change the input json.
+     *
+     * <p>When copyOnWrite is true the input object is not changed. The defaults
+     * are applied to copies of only the objects and arrays that receive defaults
+     * and their parents, while the rest of the input is shared. The result is
+     * available from {@link com.networknt.schema.Result#getInstanceNode()}.
+     *
+     * @param applyPropertyDefaults if true then apply defaults inside json objects if the attribute is missing
+     * @param applyPropertyDefaultsIfNull if true then apply defaults inside json objects if the attribute is explicitly null
+     * @param applyArrayDefaults if true then apply defaults inside json arrays if the attribute is explicitly null
+     * @param copyOnWrite if true then apply the defaults to copies instead of changing the input json
+     * @throws IllegalArgumentException if applyPropertyDefaults is false and applyPropertyDefaultsIfNull is true
+     */
+    public ApplyDefaultsStrategy(boolean applyPropertyDefaults, boolean applyPropertyDefaultsIfNull,
+            boolean applyArrayDefaults, boolean copyOnWrite) {
         if (!applyPropertyDefaults && applyPropertyDefaultsIfNull) {
             throw new IllegalArgumentException();
         }
         this.applyPropertyDefaults = applyPropertyDefaults;
         this.applyPropertyDefaultsIfNull = applyPropertyDefaultsIfNull;
         this.applyArrayDefaults = applyArrayDefaults;
+        this.copyOnWrite = copyOnWrite;
     }
 
     public boolean shouldApplyPropertyDefaults() {
@@ -41,6 +62,10 @@ public class ApplyDefaultsStrategy {
         return applyArrayDefaults;
     }
 
+    public boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
     public static Builder builder(ApplyDefaultsStrategy copy) {
         if (copy == null) {
             return new Builder();
@@ -49,6 +74,7 @@ public class ApplyDefaultsStrategy {
         builder.applyArrayDefaults = copy.applyArrayDefaults;
         builder.applyPropertyDefaults = copy.applyPropertyDefaults;
         builder.applyPropertyDefaultsIfNull = copy.applyPropertyDefaultsIfNull;
+        builder.copyOnWrite = copy.copyOnWrite;
         return builder;
     }
 
@@ -60,6 +86,7 @@ public class ApplyDefaultsStrategy {
         private boolean applyPropertyDefaults = false;
         private boolean applyPropertyDefaultsIfNull = false;
         private boolean applyArrayDefaults = false;
+        private boolean copyOnWrite = false;
 
         public Builder applyArrayDefaults(boolean applyArrayDefaults) {
             this.applyArrayDefaults = applyArrayDefaults;
@@ -80,8 +107,14 @@ public class ApplyDefaultsStrategy {
             return this;
         }
 
+        public Builder copyOnWrite(boolean copyOnWrite) {
+            this.copyOnWrite = copyOnWrite;
+            return this;
+        }
+
         public ApplyDefaultsStrategy build() {
-            return new ApplyDefaultsStrategy(applyPropertyDefaults, applyPropertyDefaultsIfNull, applyArrayDefaults);
+            return new ApplyDefaultsStrategy(applyPropertyDefaults, applyPropertyDefaultsIfNull, applyArrayDefaults,
+                    copyOnWrite);
         }
     }
 }
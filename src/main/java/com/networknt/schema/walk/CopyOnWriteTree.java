@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.walk;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.networknt.schema.path.NodePath;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ContainerNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Instance tree that applies changes made during the walk to copies of the
+ * nodes instead of the input.
+ * <p>
+ * When a node is first changed a shallow copy of it is made and linked into
+ * a shallow copy of each of its ancestors. All other nodes are shared with the
+ * input, so only the objects and arrays on the path to a changed node are
+ * copied.
+ */
+public class CopyOnWriteTree {
+    private final NodePath rootLocation;
+    private final Map<NodePath, ContainerNode<?>> copies = new HashMap<>();
+    private JsonNode root;
+
+    /**
+     * Constructor.
+     *
+     * @param root         the input node
+     * @param rootLocation the instance location of the input node
+     */
+    public CopyOnWriteTree(JsonNode root, NodePath rootLocation) {
+        this.root = root;
+        this.rootLocation = rootLocation;
+    }
+
+    /**
+     * Gets the root of the tree with the changes applied.
+     * <p>
+     * This is the input node if nothing was changed.
+     *
+     * @return the root
+     */
+    public JsonNode getRoot() {
+        return this.root;
+    }
+
+    /**
+     * Gets the current node at the instance location.
+     *
+     * @param node             the node that was walked at the instance location
+     * @param instanceLocation the instance location
+     * @return the copy if the node was changed, otherwise the node
+     */
+    public JsonNode getNode(JsonNode node, NodePath instanceLocation) {
+        ContainerNode<?> copy = this.copies.get(instanceLocation);
+        return copy != null ? copy : node;
+    }
+
+    /**
+     * Gets a node at the instance location that can be changed.
+     *
+     * @param <T>              the node type
+     * @param node             the node that was walked at the instance location
+     * @param instanceLocation the instance location
+     * @return the copy of the node
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ContainerNode<T>> T getWritableNode(T node, NodePath instanceLocation) {
+        ContainerNode<?> copy = this.copies.get(instanceLocation);
+        if (copy == null) {
+            copy = copy(node, instanceLocation);
+        }
+        return (T) copy;
+    }
+
+    private ContainerNode<?> getWritableNode(NodePath instanceLocation) {
+        ContainerNode<?> copy = this.copies.get(instanceLocation);
+        if (copy == null) {
+            JsonNode node = getNode(instanceLocation);
+            if (!(node instanceof ContainerNode)) {
+                throw new IllegalStateException("No object or array at " + instanceLocation);
+            }
+            copy = copy((ContainerNode<?>) node, instanceLocation);
+        }
+        return copy;
+    }
+
+    private JsonNode getNode(NodePath instanceLocation) {
+        ContainerNode<?> copy = this.copies.get(instanceLocation);
+        if (copy != null) {
+            return copy;
+        }
+        if (instanceLocation.equals(this.rootLocation)) {
+            return this.root;
+        }
+        JsonNode parent = getNode(instanceLocation.getParent());
+        Object element = instanceLocation.getElement(-1);
+        return element instanceof Integer ? parent.get((Integer) element) : parent.get(element.toString());
+    }
+
+    private ContainerNode<?> copy(ContainerNode<?> node, NodePath instanceLocation) {
+        ContainerNode<?> copy;
+        if (node instanceof ObjectNode) {
+            copy = node.objectNode().setAll((ObjectNode) node);
+        } else {
+            copy = node.arrayNode(node.size()).addAll((ArrayNode) node);
+        }
+        if (instanceLocation.equals(this.rootLocation)) {
+            this.root = copy;
+        } else {
+            ContainerNode<?> parent = getWritableNode(instanceLocation.getParent());
+            Object element = instanceLocation.getElement(-1);
+            if (element instanceof Integer) {
+                ((ArrayNode) parent).set((Integer) element, copy);
+            } else {
+                ((ObjectNode) parent).set(element.toString(), copy);
+            }
+        }
+        this.copies.put(instanceLocation, copy);
+        return copy;
+    }
+}
@@ -41,6 +41,9 @@ public class ItemWalkHandler extends AbstractWalkHandler {
     @Override
     public boolean preWalk(ExecutionContext executionContext, String keyword, JsonNode instanceNode,
             JsonNode rootNode, NodePath instanceLocation, Schema schema, KeywordValidator validator) {
+        if (itemWalkListeners.isEmpty()) {
+            return true;
+        }
         WalkEvent walkEvent = constructWalkEvent(executionContext, keyword, instanceNode, rootNode, instanceLocation,
                 schema, validator);
         return runPreWalkListeners(itemWalkListeners, walkEvent);
@@ -49,11 +52,19 @@ public class ItemWalkHandler extends AbstractWalkHandler {
     @Override
     public void postWalk(ExecutionContext executionContext, String keyword, JsonNode instanceNode,
             JsonNode rootNode, NodePath instanceLocation, Schema schema, KeywordValidator validator, List<Error> errors) {
+        if (itemWalkListeners.isEmpty()) {
+            return;
+        }
         WalkEvent walkEvent = constructWalkEvent(executionContext, keyword, instanceNode, rootNode, instanceLocation,
                 schema, validator);
         runPostWalkListeners(itemWalkListeners, walkEvent, errors);
     }
     
+    @Override
+    public boolean hasWalkListeners(String keyword) {
+        return !itemWalkListeners.isEmpty();
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -46,6 +46,9 @@ public class KeywordWalkHandler extends AbstractWalkHandler {
     @Override
     public boolean preWalk(ExecutionContext executionContext, String keyword, JsonNode instanceNode,
             JsonNode rootNode, NodePath instanceLocation, Schema schema, KeywordValidator validator) {
+        if (!hasWalkListeners(keyword)) {
+            return true;
+        }
         boolean continueRunningListenersAndWalk = true;
         WalkEvent keywordWalkEvent = constructWalkEvent(executionContext, keyword, instanceNode, rootNode,
                 instanceLocation, schema, validator);
@@ -63,6 +66,9 @@ public class KeywordWalkHandler extends AbstractWalkHandler {
     public void postWalk(ExecutionContext executionContext, String keyword, JsonNode instanceNode,
             JsonNode rootNode, NodePath instanceLocation, Schema schema, KeywordValidator validator,
             List<Error> errors) {
+        if (!hasWalkListeners(keyword)) {
+            return;
+        }
         WalkEvent keywordWalkEvent = constructWalkEvent(executionContext, keyword, instanceNode, rootNode,
                 instanceLocation, schema, validator);
         // Run Listeners that are setup only for this keyword.
@@ -72,6 +78,11 @@ public class KeywordWalkHandler extends AbstractWalkHandler {
         runPostWalkListeners(allKeywordWalkListeners, keywordWalkEvent, errors);
     }
 
+    @Override
+    public boolean hasWalkListeners(String keyword) {
+        return !allKeywordWalkListeners.isEmpty() || keywordWalkListenersMap.containsKey(keyword);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -41,6 +41,9 @@ public class PropertyWalkHandler extends AbstractWalkHandler {
     @Override
     public boolean preWalk(ExecutionContext executionContext, String keyword, JsonNode instanceNode,
             JsonNode rootNode, NodePath instanceLocation, Schema schema, KeywordValidator validator) {
+        if (propertyWalkListeners.isEmpty()) {
+            return true;
+        }
         WalkEvent walkEvent = constructWalkEvent(executionContext, keyword, instanceNode, rootNode, instanceLocation,
                 schema, validator);
         return runPreWalkListeners(propertyWalkListeners, walkEvent);
@@ -50,11 +53,19 @@ public class PropertyWalkHandler extends AbstractWalkHandler {
     public void postWalk(ExecutionContext executionContext, String keyword, JsonNode instanceNode,
             JsonNode rootNode, NodePath instanceLocation, Schema schema, KeywordValidator validator,
             List<Error> errors) {
+        if (propertyWalkListeners.isEmpty()) {
+            return;
+        }
         WalkEvent walkEvent = constructWalkEvent(executionContext, keyword, instanceNode, rootNode, instanceLocation,
                 schema, validator);
         runPostWalkListeners(propertyWalkListeners, walkEvent, errors);
     }
 
+    @Override
+    public boolean hasWalkListeners(String keyword) {
+        return !propertyWalkListeners.isEmpty();
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -63,6 +63,11 @@ public class WalkConfig {
                 JsonNode rootNode, NodePath instanceLocation, Schema schema, KeywordValidator validator,
                 List<Error> errors) {
         }
+
+        @Override
+        public boolean hasWalkListeners(String keyword) {
+            return false;
+        }
     }
 
     /**
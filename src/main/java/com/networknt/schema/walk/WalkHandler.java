@@ -22,4 +22,17 @@ public interface WalkHandler {
     void postWalk(ExecutionContext executionContext, String keyword, JsonNode instanceNode, JsonNode rootNode,
             NodePath instanceLocation, Schema schema, KeywordValidator validator, List<Error> errors);
 
+    /**
+     * Determines if the handler has listeners for the keyword.
+     * <p>
+     * The walker does not call {@link #preWalk} and {@link #postWalk} for the
+     * keyword if this returns false.
+     *
+     * @param keyword the keyword
+     * @return true if the handler has listeners for the keyword
+     */
+    default boolean hasWalkListeners(String keyword) {
+        return true;
+    }
+
 }
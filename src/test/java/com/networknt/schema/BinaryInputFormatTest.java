@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+class BinaryInputFormatTest {
+    private static final String SCHEMA = "{\"properties\":{\"price\":{\"const\":0.1,\"multipleOf\":0.1},"
+            + "\"count\":{\"type\":\"integer\",\"maximum\":2}}}";
+
+    private static ObjectMapper mapper(InputFormat inputFormat) {
+        return InputFormat.CBOR.equals(inputFormat) ? CBORMapper.shared() : SmileMapper.shared();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = InputFormat.class, names = { "CBOR", "SMILE" })
+    void validate(InputFormat inputFormat) {
+        Map<String, Object> instance = new LinkedHashMap<>();
+        instance.put("price", 0.1f);
+        instance.put("count", 3);
+        byte[] input = mapper(inputFormat).writeValueAsBytes(instance);
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12).getSchema(SCHEMA);
+        List<Error> errors = schema.validate(new ByteArrayInputStream(input), inputFormat);
+        assertEquals(1, errors.size());
+        assertEquals("/count", errors.get(0).getInstanceLocation().toString());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = InputFormat.class, names = { "CBOR", "SMILE" })
+    void loadSchema(InputFormat inputFormat, @TempDir Path directory) throws Exception {
+        Object schemaData = JsonMapper.shared().readValue(SCHEMA, Map.class);
+        Path path = directory.resolve(InputFormat.CBOR.equals(inputFormat) ? "schema.cbor" : "schema.smile");
+        Files.write(path, mapper(inputFormat).writeValueAsBytes(schemaData));
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemaLoader(schemaLoader -> schemaLoader.fetchRemoteResources()))
+                .getSchema(SchemaLocation.of(path.toUri().toString()));
+        assertTrue(schema.validate("{\"price\":0.1,\"count\":1}", InputFormat.JSON).isEmpty());
+        assertEquals(2, schema.validate("{\"price\":0.25,\"count\":1}", InputFormat.JSON).size());
+    }
+
+    @Test
+    void stringInput() {
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12).getSchema(SCHEMA);
+        assertThrows(IllegalArgumentException.class, () -> schema.validate("{}", InputFormat.CBOR));
+    }
+}
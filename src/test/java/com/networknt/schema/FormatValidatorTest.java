@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -30,8 +31,10 @@ import org.junit.jupiter.params.provider.EnumSource;
 import tools.jackson.databind.JsonNode;
 import com.networknt.schema.dialect.Dialect;
 import com.networknt.schema.dialect.Dialects;
+import com.networknt.schema.format.DateFormat;
 import com.networknt.schema.format.Format;
 import com.networknt.schema.output.OutputUnit;
+import com.networknt.schema.regex.JoniRegularExpressionFactory;
 import com.networknt.schema.utils.JsonType;
 import com.networknt.schema.utils.TypeFactory;
 
@@ -220,4 +223,114 @@ class FormatValidatorTest {
         });
         assertEquals(0, messages.size());
     }
+
+    static class CountingDateFormat extends DateFormat {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public boolean matches(ExecutionContext executionContext, String value) {
+            count.incrementAndGet();
+            return super.matches(executionContext, value);
+        }
+
+        @Override
+        public boolean isPure() {
+            return true;
+        }
+    }
+
+    @Test
+    void formatCacheShouldReuseResults() {
+        CountingDateFormat format = new CountingDateFormat();
+        Dialect customDialect = Dialect.builder("https://www.example.com/schema", Dialects.getDraft202012())
+                .formats(formats -> formats.put(format.getName(), format)).build();
+        SchemaRegistry factory = SchemaRegistry.withDialect(customDialect,
+                builder -> builder.schemaRegistryConfig(SchemaRegistryConfig.builder().formatCacheSize(16).build()));
+        Schema schema = factory.getSchema("{\"items\":{\"format\":\"date\"}}");
+        List<Error> messages = schema.validate("[\"2025-01-01\",\"2025-02-30\",\"2025-01-01\",\"2025-02-30\",1]",
+                InputFormat.JSON, executionContext -> executionContext
+                        .executionConfig(executionConfig -> executionConfig.formatAssertionsEnabled(true)));
+        assertEquals(2, messages.size());
+        assertEquals("/1: does not match the date pattern must be a valid RFC 3339 full-date",
+                messages.get(0).toString());
+        assertEquals("/3", messages.get(1).getInstanceLocation().toString());
+        assertEquals(2, format.count.get());
+    }
+
+    @Test
+    void formatCacheShouldBeDisabledByDefault() {
+        CountingDateFormat format = new CountingDateFormat();
+        Dialect customDialect = Dialect.builder("https://www.example.com/schema", Dialects.getDraft202012())
+                .formats(formats -> formats.put(format.getName(), format)).build();
+        SchemaRegistry factory = SchemaRegistry.withDialect(customDialect);
+        Schema schema = factory.getSchema("{\"items\":{\"format\":\"date\"}}");
+        List<Error> messages = schema.validate("[\"2025-01-01\",\"2025-01-01\"]", InputFormat.JSON,
+                executionContext -> executionContext
+                        .executionConfig(executionConfig -> executionConfig.formatAssertionsEnabled(true)));
+        assertTrue(messages.isEmpty());
+        assertEquals(2, format.count.get());
+    }
+
+    @Test
+    void formatCacheShouldNotApplyToInheritedPure() {
+        AtomicInteger count = new AtomicInteger();
+        DateFormat format = new DateFormat() {
+            @Override
+            public boolean matches(ExecutionContext executionContext, String value) {
+                count.incrementAndGet();
+                return super.matches(executionContext, value);
+            }
+        };
+        Dialect customDialect = Dialect.builder("https://www.example.com/schema", Dialects.getDraft202012())
+                .formats(formats -> formats.put(format.getName(), format)).build();
+        SchemaRegistry factory = SchemaRegistry.withDialect(customDialect,
+                builder -> builder.schemaRegistryConfig(SchemaRegistryConfig.builder().formatCacheSize(16).build()));
+        Schema schema = factory.getSchema("{\"items\":{\"format\":\"date\"}}");
+        schema.validate("[\"2025-01-01\",\"2025-01-01\"]", InputFormat.JSON, executionContext -> executionContext
+                .executionConfig(executionConfig -> executionConfig.formatAssertionsEnabled(true)));
+        assertEquals(2, count.get());
+    }
+
+    static class NodeDateFormat extends DateFormat {
+        @Override
+        public boolean matches(ExecutionContext executionContext, SchemaContext schemaContext, JsonNode value) {
+            return value.isString() && value.asString().startsWith("2025");
+        }
+
+        @Override
+        public boolean isPure() {
+            return true;
+        }
+    }
+
+    @Test
+    void formatCacheShouldNotBypassNodeMethods() {
+        NodeDateFormat format = new NodeDateFormat();
+        Dialect customDialect = Dialect.builder("https://www.example.com/schema", Dialects.getDraft202012())
+                .formats(formats -> formats.put(format.getName(), format)).build();
+        SchemaRegistry factory = SchemaRegistry.withDialect(customDialect,
+                builder -> builder.schemaRegistryConfig(SchemaRegistryConfig.builder().formatCacheSize(16).build()));
+        Schema schema = factory.getSchema("{\"items\":{\"format\":\"date\"}}");
+        List<Error> messages = schema.validate("[\"2024-01-01\",\"2024-01-01\"]", InputFormat.JSON,
+                executionContext -> executionContext
+                        .executionConfig(executionConfig -> executionConfig.formatAssertionsEnabled(true)));
+        assertEquals(2, messages.size());
+    }
+
+    @Test
+    void formatCacheShouldSeparateDialects() {
+        SchemaRegistry factory = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemaRegistryConfig(SchemaRegistryConfig.builder().formatCacheSize(64)
+                        .regularExpressionFactory(JoniRegularExpressionFactory.getInstance()).build()));
+        Schema draft7 = factory.getSchema(
+                "{\"$schema\":\"http://json-schema.org/draft-07/schema#\",\"format\":\"regex\"}");
+        Schema draft202012 = factory.getSchema(
+                "{\"$schema\":\"https://json-schema.org/draft/2020-12/schema\",\"format\":\"regex\"}");
+        assertTrue(draft7.validate("\"a{\"", InputFormat.JSON).isEmpty());
+        List<Error> messages = draft202012.validate("\"a{\"", InputFormat.JSON, executionContext -> executionContext
+                .executionConfig(executionConfig -> executionConfig.formatAssertionsEnabled(true)));
+        assertEquals(1, messages.size());
+        assertEquals(": does not match the regex pattern must be a valid ECMA-262 regular expression",
+                messages.get(0).toString());
+    }
 }
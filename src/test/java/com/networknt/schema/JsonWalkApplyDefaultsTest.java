@@ -2,6 +2,7 @@ package com.networknt.schema;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import tools.jackson.databind.JsonNode;
@@ -125,6 +126,58 @@ class JsonWalkApplyDefaultsTest {
         assertEquals(inputNodeOriginal, inputNode);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false})
+    void testApplyDefaultsCopyOnWrite(boolean shouldValidateSchema) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode inputNode = objectMapper.readTree(getClass().getClassLoader().getResourceAsStream("data/walk-data-default.json"));
+        JsonNode inputNodeOriginal = inputNode.deepCopy();
+        Schema jsonSchema = createSchema();
+        WalkConfig walkConfig = WalkConfig.builder()
+                .applyDefaultsStrategy(ApplyDefaultsStrategy.builder().applyPropertyDefaultsIfNull(true)
+                        .applyArrayDefaults(true).copyOnWrite(true).build())
+                .build();
+        Result result = jsonSchema.walk(inputNode, shouldValidateSchema, executionContext -> executionContext.setWalkConfig(walkConfig));
+        if (shouldValidateSchema) {
+            assertThat(result.getErrors().stream().map(Error::toString).collect(Collectors.toList()),
+                       Matchers.containsInAnyOrder("/outer/mixedObject/intValue_missingButError: string found, integer expected",
+                                                   "/outer/badArray/1: integer found, string expected",
+                               "/outer/reference/stringValue_missing_with_default_null: null found, string expected"));
+        } else {
+            assertThat(result.getErrors(), Matchers.empty());
+        }
+        assertEquals(
+                objectMapper.readTree(
+                        "{\"outer\":{\"mixedObject\":{\"intValue_present\":8,\"intValue_null\":35,\"intValue_missingButError\":\"forty-five\",\"intValue_missing\":15,\"intValue_missing_notRequired\":25},\"goodArray\":[\"hello\",\"five\"],\"badArray\":[\"hello\",5],\"reference\":{\"stringValue_missing_with_default_null\":null,\"stringValue_missing\":\"hello\"}}}"),
+                result.getInstanceNode());
+        assertEquals(inputNodeOriginal, inputNode);
+    }
+
+    @Test
+    void testApplyDefaultsCopyOnWriteSharesUnchangedNodes() {
+        String schemaData = "{\n"
+                + "  \"$schema\": \"https://json-schema.org/draft/2020-12/schema\",\n"
+                + "  \"properties\": {\n"
+                + "    \"a\": { \"properties\": { \"x\": { \"default\": 1 } }, \"required\": [\"x\"] },\n"
+                + "    \"b\": { \"properties\": { \"y\": { \"type\": \"array\" } } },\n"
+                + "    \"c\": { \"items\": { \"default\": \"d\", \"type\": \"string\" } }\n"
+                + "  }\n"
+                + "}";
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12).getSchema(schemaData);
+        JsonNode inputNode = new ObjectMapper().readTree("{\"a\":{},\"b\":{\"y\":[1,2]},\"c\":[null,\"e\"]}");
+        JsonNode inputNodeOriginal = inputNode.deepCopy();
+        Result result = schema.walk(inputNode, true, executionContext -> executionContext
+                .walkConfig(walkConfig -> walkConfig.applyDefaultsStrategy(
+                        strategy -> strategy.applyPropertyDefaults(true).applyArrayDefaults(true).copyOnWrite(true))));
+        assertThat(result.getErrors(), Matchers.empty());
+        JsonNode instanceNode = result.getInstanceNode();
+        assertEquals(new ObjectMapper().readTree("{\"a\":{\"x\":1},\"b\":{\"y\":[1,2]},\"c\":[\"d\",\"e\"]}"),
+                instanceNode);
+        assertEquals(inputNodeOriginal, inputNode);
+        assertSame(inputNode.get("b"), instanceNode.get("b"));
+        assertSame(inputNode.get("c").get(1), instanceNode.get("c").get(1));
+    }
+
     @Test
     void testIllegalArgumentException() {
         try {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.JsonNode;
+
+class PartialValidatorTest {
+    private static List<String> describe(List<Error> errors) {
+        return errors.stream().map(error -> error.getEvaluationPath() + " " + error).collect(Collectors.toList());
+    }
+
+    /**
+     * The partial errors should be the errors of the whole instance under the
+     * instance location.
+     */
+    private static List<String> assertPartial(Schema schema, String inputData, String instancePointer) {
+        JsonNode rootNode = schema.getSchemaContext().getSchemaRegistry().readTree(inputData, InputFormat.JSON);
+        List<String> expected = describe(schema.validate(rootNode).stream()
+                .filter(error -> error.getInstanceLocation().toString().startsWith(instancePointer))
+                .collect(Collectors.toList()));
+        List<String> actual = describe(new PartialValidator(schema).validate(rootNode, instancePointer));
+        assertEquals(expected, actual, instancePointer);
+        return actual;
+    }
+
+    @Test
+    void draft202012() {
+        String schemaData = "{\n"
+                + "  \"type\": \"object\",\n"
+                + "  \"required\": [\"missing\"],\n"
+                + "  \"properties\": {\n"
+                + "    \"items\": { \"type\": \"array\", \"prefixItems\": [{ \"type\": \"string\" }],\n"
+                + "      \"items\": { \"$ref\": \"#/$defs/item\" } }\n"
+                + "  },\n"
+                + "  \"patternProperties\": { \"^x-\": { \"type\": \"integer\" } },\n"
+                + "  \"additionalProperties\": { \"type\": \"boolean\" },\n"
+                + "  \"$defs\": {\n"
+                + "    \"item\": { \"allOf\": [{ \"properties\": { \"address\": { \"$ref\": \"#/$defs/address\" } } }] },\n"
+                + "    \"address\": { \"type\": \"object\", \"required\": [\"city\"],\n"
+                + "      \"properties\": { \"zip\": { \"type\": \"string\", \"maxLength\": 5 } } }\n"
+                + "  }\n"
+                + "}";
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12).getSchema(schemaData);
+        String inputData = "{\"items\": [1, {\"address\": {\"zip\": \"1234567\"}}, {\"address\": {\"zip\": 1}}],"
+                + " \"x-a\": \"a\", \"other\": 1}";
+        List<String> errors = assertPartial(schema, inputData, "/items/1/address");
+        assertEquals(2, errors.size());
+        assertEquals("/properties/items/items/$ref/allOf/0/properties/address/$ref/required "
+                + "/items/1/address: required property 'city' not found", errors.get(1));
+        assertEquals(1, assertPartial(schema, inputData, "/items/2/address/zip").size());
+        assertEquals(1, assertPartial(schema, inputData, "/items/0").size());
+        assertEquals(1, assertPartial(schema, inputData, "/x-a").size());
+        assertEquals(1, assertPartial(schema, inputData, "/other").size());
+        assertEquals(5, assertPartial(schema, inputData, "/items").size());
+        // The empty pointer validates the whole instance
+        assertEquals(8, assertPartial(schema, inputData, "").size());
+    }
+
+    @Test
+    void draft7() {
+        String schemaData = "{\n"
+                + "  \"properties\": {\n"
+                + "    \"tuple\": { \"items\": [{ \"type\": \"string\" }], \"additionalItems\": { \"type\": \"integer\" } }\n"
+                + "  }\n"
+                + "}";
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_7).getSchema(schemaData);
+        String inputData = "{\"tuple\": [1, \"a\"]}";
+        List<String> errors = assertPartial(schema, inputData, "/tuple/1");
+        assertEquals(1, errors.size());
+        assertEquals("/properties/tuple/additionalItems/type /tuple/1: string found, integer expected", errors.get(0));
+        assertEquals(1, assertPartial(schema, inputData, "/tuple/0").size());
+    }
+
+    @Test
+    void instanceLocationNotFound() {
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12).getSchema("{}");
+        PartialValidator validator = new PartialValidator(schema);
+        assertThrows(IllegalArgumentException.class, () -> validator.validate("{\"a\": 1}", InputFormat.JSON, "/b"));
+    }
+}
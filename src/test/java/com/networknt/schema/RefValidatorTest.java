@@ -21,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -226,4 +228,50 @@ class RefValidatorTest {
                 + "}";
         assertTrue(schema.validate(inputData, InputFormat.JSON, OutputFormat.BOOLEAN));
     }
+
+    private static List<String> collapsedErrors(boolean collapseRefs, String schemaData, Map<String, String> resources,
+            String inputData) {
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder
+                        .schemaRegistryConfig(SchemaRegistryConfig.builder().collapseRefs(collapseRefs).build())
+                        .resourceLoaders(resourceLoaders -> resourceLoaders.resources(resources)));
+        Schema schema = registry.getSchema(schemaData);
+        // Validate twice as the chain is only collapsed on first use
+        schema.validate(inputData, InputFormat.JSON);
+        return schema.validate(inputData, InputFormat.JSON).stream()
+                .map(error -> error.getEvaluationPath() + " " + error.getSchemaLocation() + " " + error)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void collapseRefs() {
+        String schemaData = "{\n"
+                + "  \"$id\": \"https://www.example.com/schema/main.json\",\n"
+                + "  \"properties\": {\n"
+                + "    \"local\": { \"$ref\": \"#/$defs/a\" },\n"
+                + "    \"remote\": { \"$ref\": \"other.json#/$defs/c\" },\n"
+                + "    \"mixed\": { \"$ref\": \"#/$defs/d\" }\n"
+                + "  },\n"
+                + "  \"$defs\": {\n"
+                + "    \"a\": { \"$ref\": \"#/$defs/b\" },\n"
+                + "    \"b\": { \"$ref\": \"#/$defs/positive\" },\n"
+                + "    \"d\": { \"$ref\": \"other.json#/$defs/c\" },\n"
+                + "    \"positive\": { \"type\": \"integer\", \"minimum\": 1 }\n"
+                + "  },\n"
+                + "  \"unevaluatedProperties\": false\n"
+                + "}";
+        String otherSchema = "{\n"
+                + "  \"$defs\": {\n"
+                + "    \"c\": { \"$ref\": \"#/$defs/string\" },\n"
+                + "    \"string\": { \"type\": \"string\", \"maxLength\": 2 }\n"
+                + "  }\n"
+                + "}";
+        Map<String, String> resources = Collections.singletonMap("https://www.example.com/schema/other.json",
+                otherSchema);
+        String inputData = "{\"local\": 0, \"remote\": \"abc\", \"mixed\": 1, \"extra\": true}";
+        List<String> expected = collapsedErrors(false, schemaData, resources, inputData);
+        assertEquals(4, expected.size());
+        assertTrue(expected.get(0).startsWith("/properties/local/$ref/$ref/$ref/minimum "));
+        assertEquals(expected, collapsedErrors(true, schemaData, resources, inputData));
+    }
 }
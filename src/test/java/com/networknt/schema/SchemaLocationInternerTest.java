@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.networknt.schema.keyword.KeywordValidator;
+import com.networknt.schema.path.NodePath;
+import com.networknt.schema.path.PathType;
+
+class SchemaLocationInternerTest {
+    @Test
+    void internShouldReturnSameInstanceForEqualLocations() {
+        SchemaLocationInterner interner = new SchemaLocationInterner();
+        SchemaLocation first = interner.intern(SchemaLocation.of("https://www.example.org/schema#/$defs/item/0"));
+        SchemaLocation second = interner.intern(SchemaLocation.of("https://www.example.org/schema#/$defs/item/0"));
+        assertSame(first, second);
+        assertEquals("https://www.example.org/schema#/$defs/item/0", second.toString());
+    }
+
+    @Test
+    void internShouldShareParents() {
+        SchemaLocationInterner interner = new SchemaLocationInterner();
+        NodePath parent = interner.intern(new NodePath(PathType.JSON_POINTER).append("$defs").append("item"));
+        NodePath child = interner.intern(new NodePath(PathType.JSON_POINTER).append(new String("$defs"))
+                .append(new String("item")).append("type"));
+        assertSame(parent, child.getParent());
+        assertSame(parent.getName(-1), child.getParent().getName(-1));
+        assertSame(child, interner.intern(parent.append("type")));
+    }
+
+    @Test
+    void internShouldNotRetainUnreferencedLocations() throws InterruptedException {
+        SchemaLocationInterner interner = new SchemaLocationInterner();
+        WeakReference<SchemaLocation> reference = new WeakReference<>(
+                interner.intern(SchemaLocation.of("https://www.example.org/evicted#/$defs/item")));
+        for (int x = 0; x < 50 && reference.get() != null; x++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    @Test
+    void schemaShouldUseInternedLocations() {
+        String schemaData = "{\r\n"
+                + "  \"$id\": \"https://www.example.org/schema\",\r\n"
+                + "  \"properties\": {\r\n"
+                + "    \"a\": { \"$ref\": \"#/$defs/item\" },\r\n"
+                + "    \"b\": { \"$ref\": \"#/$defs/item\" }\r\n"
+                + "  },\r\n"
+                + "  \"$defs\": {\r\n"
+                + "    \"item\": { \"type\": \"string\" }\r\n"
+                + "  }\r\n"
+                + "}";
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12);
+        Schema schema = registry.getSchema(schemaData);
+        schema.initializeValidators();
+        SchemaLocation location = registry.getSchemaLocationInterner()
+                .intern(SchemaLocation.of("https://www.example.org/schema#/properties/a"));
+        Schema a = schema.getSubSchema(SchemaLocation.Fragment.of("/properties/a"));
+        assertSame(location, a.getSchemaLocation());
+        for (KeywordValidator validator : a.getValidators()) {
+            assertSame(location.getFragment(), validator.getSchemaLocation().getFragment().getParent());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+class SchemaOptimizerTest {
+    private static final String[] INSTANCES = { "{}", "{\"name\":\"\"}", "{\"name\":1}", "{\"tags\":[1,1]}",
+            "{\"tags\":\"a\"}", "{\"other\":{\"a\":1}}", "[]", "\"a\"", "1" };
+
+    private static List<String> removals(SpecificationVersion version, String schemaData) {
+        List<String> removals = new ArrayList<>();
+        SchemaOptimizer schemaOptimizer = new SchemaOptimizer(
+                removal -> removals.add(removal.getSchemaLocation().getFragment().toString()));
+        Schema optimized = SchemaRegistry.withDefaultDialect(version,
+                builder -> builder.schemaRegistryConfig(SchemaRegistryConfig.builder().schemaOptimizer(schemaOptimizer).build()))
+                .getSchema(schemaData);
+        Schema schema = SchemaRegistry.withDefaultDialect(version).getSchema(schemaData);
+        for (String instance : INSTANCES) {
+            assertEquals(schema.validate(instance, InputFormat.JSON).toString(),
+                    optimized.validate(instance, InputFormat.JSON).toString(), instance);
+        }
+        return removals.stream().sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    void draft202012() {
+        String schemaData = "{\"type\":\"object\",\"required\":[],\"minProperties\":0,"
+                + "\"properties\":{\"name\":{\"type\":\"string\",\"minLength\":0},"
+                + "\"tags\":{\"type\":\"array\",\"minItems\":0,\"uniqueItems\":false,\"items\":true}},"
+                + "\"allOf\":[{},true],\"propertyNames\":{},\"additionalProperties\":true,"
+                + "\"if\":{\"required\":[\"name\"]},\"unevaluatedProperties\":false}";
+        assertEquals(List.of("/allOf", "/minProperties", "/properties/name/minLength", "/properties/tags/minItems",
+                "/properties/tags/uniqueItems", "/propertyNames", "/required"),
+                removals(SpecificationVersion.DRAFT_2020_12, schemaData));
+    }
+
+    @Test
+    void draft7() {
+        String schemaData = "{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"},"
+                + "\"tags\":{\"type\":\"array\",\"items\":{}}},\"additionalProperties\":true,"
+                + "\"if\":{\"required\":[\"name\"]},\"then\":true}";
+        assertEquals(List.of("/additionalProperties", "/if", "/properties/tags/items"),
+                removals(SpecificationVersion.DRAFT_7, schemaData));
+    }
+
+    @Test
+    void notRedundant() {
+        String schemaData = "{\"properties\":{\"name\":{\"minLength\":1},\"tags\":{\"uniqueItems\":true}},"
+                + "\"allOf\":[{},{\"type\":\"object\"}],\"additionalProperties\":{\"type\":\"object\"},"
+                + "\"if\":{\"required\":[\"name\"]},\"then\":{\"required\":[\"tags\"]},"
+                + "\"propertyNames\":{\"$id\":\"http://example.com/names\"},"
+                + "\"dependencies\":{\"tags\":{\"if\":{\"$id\":\"http://example.com/tags\"}}}}";
+        assertEquals(List.of(), removals(SpecificationVersion.DRAFT_7, schemaData));
+    }
+}
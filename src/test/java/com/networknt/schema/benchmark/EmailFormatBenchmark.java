@@ -0,0 +1,64 @@
+package com.networknt.schema.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.networknt.org.apache.commons.validator.routines.EmailValidator;
+import com.networknt.schema.format.EmailFormat;
+import com.networknt.schema.format.Format;
+
+/**
+ * Compares the email format validation using the ASCII fast path against the
+ * {@link EmailValidator}.
+ */
+public class EmailFormatBenchmark {
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({ "joe.bloggs@example.com", "joe.bloggs@example.invalidtld", "joe..bloggs@example.com" })
+        private String value;
+
+        private final Format emailFormat = new EmailFormat();
+
+        private final Format emailValidatorFormat = new EmailFormat(EmailValidator.getInstance(true, true));
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Fork(2)
+    @Warmup(iterations = 5, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Benchmark
+    public void ascii(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(state.emailFormat.matches(null, state.value));
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Fork(2)
+    @Warmup(iterations = 5, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Benchmark
+    public void emailValidator(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(state.emailValidatorFormat.matches(null, state.value));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(EmailFormatBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build();
+
+        new Runner(opt).run();
+    }
+
+}
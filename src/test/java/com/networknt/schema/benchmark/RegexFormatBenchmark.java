@@ -0,0 +1,69 @@
+package com.networknt.schema.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.networknt.schema.regex.ECMAScriptRegularExpressionSyntax;
+import com.networknt.schema.regex.JoniRegularExpressionFactory;
+import com.networknt.schema.regex.RegularExpressionFactory;
+
+/**
+ * Compares the regex format validation using the syntax check against
+ * compiling the regular expression using Joni.
+ */
+public class RegexFormatBenchmark {
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({ "^[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,}$", "^(?<year>\\d{4})-(?<month>\\d{2})(abc]" })
+        private String value;
+
+        private final RegularExpressionFactory joni = JoniRegularExpressionFactory.getInstance();
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Fork(2)
+    @Warmup(iterations = 5, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Benchmark
+    public void syntax(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(ECMAScriptRegularExpressionSyntax.isValid(state.value, true));
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Fork(2)
+    @Warmup(iterations = 5, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Benchmark
+    public void joni(BenchmarkState state, Blackhole blackhole) {
+        boolean valid;
+        try {
+            state.joni.getRegularExpression(state.value);
+            valid = true;
+        } catch (RuntimeException e) {
+            valid = false;
+        }
+        blackhole.consume(valid);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(RegexFormatBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build();
+
+        new Runner(opt).run();
+    }
+
+}
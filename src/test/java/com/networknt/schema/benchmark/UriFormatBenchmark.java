@@ -0,0 +1,89 @@
+package com.networknt.schema.benchmark;
+
+import java.net.URI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.networknt.schema.format.AbstractRFC3986Format;
+import com.networknt.schema.format.Format;
+import com.networknt.schema.format.UriFormat;
+
+/**
+ * Compares the uri format validation using the RFC 3986 grammar against the
+ * previous implementation using {@link URI}.
+ */
+public class UriFormatBenchmark {
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({ "https://example.com/assets/product.pdf?filter%5Btest%5D=1#top", "http:// shouldfail.com",
+                "https://example.com/assets/produktdatenblätter.pdf" })
+        private String value;
+
+        private final Format uriFormat = new UriFormat();
+
+        private final Format javaNetUriFormat = new AbstractRFC3986Format() {
+            @Override
+            protected boolean validate(URI uri) {
+                boolean result = uri.isAbsolute();
+                if (result) {
+                    result = uri.toString().codePoints().allMatch(ch -> ch < 0x7F);
+                    if (result) {
+                        String query = uri.getRawQuery();
+                        if (query != null) {
+                            if (query.indexOf('[') != -1 || query.indexOf(']') != -1) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+                return result;
+            }
+
+            @Override
+            public String getName() {
+                return "uri";
+            }
+        };
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Fork(2)
+    @Warmup(iterations = 5, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Benchmark
+    public void rfc3986(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(state.uriFormat.matches(null, state.value));
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @Fork(2)
+    @Warmup(iterations = 5, time = 5)
+    @Measurement(iterations = 5, time = 5)
+    @Benchmark
+    public void javaNetUri(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(state.javaNetUriFormat.matches(null, state.value));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(UriFormatBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SpecificationVersion;
+
+class BulkValidatorTest {
+    private static final Schema SCHEMA = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12)
+            .getSchema("{\"type\":\"object\",\"properties\":{\"id\":{\"type\":\"integer\",\"multipleOf\":3}}}");
+
+    private static InputStream input(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String ndjson(int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int x = 0; x < count; x++) {
+            builder.append("{\"id\":").append(x).append("}\n");
+        }
+        return builder.toString();
+    }
+
+    @Test
+    void ndjson() {
+        List<RecordResult> results = new ArrayList<>();
+        long count = BulkValidator.builder(SCHEMA).build().validate(input("{\"id\":3}\n\n{\"id\":4}\n[]\n"),
+                results::add);
+        assertEquals(3, count);
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isValid());
+        assertFalse(results.get(1).isValid());
+        assertEquals("/id", results.get(1).getErrors().get(0).getInstanceLocation().toString());
+        assertFalse(results.get(2).isValid());
+    }
+
+    @Test
+    void jsonSeq() {
+        List<RecordResult> results = new ArrayList<>();
+        long count = BulkValidator.builder(SCHEMA).recordFormat(RecordFormat.JSON_SEQ).build()
+                .validate(input("\u001E{\"id\":6}\n\u001E{\"id\":7}\n"), results::add);
+        assertEquals(2, count);
+        assertTrue(results.get(0).isValid());
+        assertFalse(results.get(1).isValid());
+    }
+
+    @Test
+    void yaml(@TempDir Path directory) throws Exception {
+        Path path = directory.resolve("records.yaml");
+        Files.write(path, "id: 9\n---\nid: 10\n---\nid: 12\n".getBytes(StandardCharsets.UTF_8));
+        List<RecordResult> results = new ArrayList<>();
+        long count = BulkValidator.builder(SCHEMA).recordFormat(RecordFormat.YAML).build().validate(path,
+                results::add);
+        assertEquals(3, count);
+        assertTrue(results.get(0).isValid());
+        assertFalse(results.get(1).isValid());
+        assertTrue(results.get(2).isValid());
+    }
+
+    @Test
+    void parallelOrdered() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<RecordResult> results = new ArrayList<>();
+            long count = BulkValidator.builder(SCHEMA).executor(executor).maxPending(8).build()
+                    .validate(input(ndjson(1000)), results::add);
+            assertEquals(1000, count);
+            for (int x = 0; x < 1000; x++) {
+                RecordResult result = results.get(x);
+                assertEquals(x, result.getIndex());
+                assertEquals(x % 3 == 0, result.isValid());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallelUnordered() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Set<Long> indexes = new TreeSet<>();
+            int[] invalid = new int[1];
+            long count = BulkValidator.builder(SCHEMA).executor(executor).maxPending(8).ordered(false).build()
+                    .validate(input(ndjson(1000)), result -> {
+                        indexes.add(result.getIndex());
+                        if (!result.isValid()) {
+                            invalid[0]++;
+                        }
+                    });
+            assertEquals(1000, count);
+            assertEquals(1000, indexes.size());
+            assertEquals(666, invalid[0]);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallelUnorderedShouldCancelPendingWhenConsumerThrows() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicInteger validated = new AtomicInteger();
+        BulkValidator validator = BulkValidator.builder(SCHEMA).executor(task -> {
+            // Only the third record completes while the first two are still pending
+            if (queued.size() == 2) {
+                queued.add(null);
+                task.run();
+            } else {
+                queued.add(task);
+            }
+        }).maxPending(4).ordered(false)
+                .executionCustomizer((executionContext, schemaContext) -> validated.incrementAndGet()).build();
+        assertThrows(IllegalStateException.class, () -> validator.validate(input(ndjson(10)), result -> {
+            throw new IllegalStateException("consumer failed");
+        }));
+        queued.stream().filter(task -> task != null).forEach(Runnable::run);
+        assertEquals(1, validated.get());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SpecificationVersion;
+
+class BoundedSchemaCacheTest {
+    static Map<String, String> schemas() {
+        Map<String, String> schemas = new HashMap<>();
+        schemas.put("https://example.org/a.json", "{\"type\":\"string\"}");
+        schemas.put("https://example.org/b.json", "{\"type\":\"integer\"}");
+        schemas.put("https://example.org/c.json", "{\"type\":\"boolean\"}");
+        schemas.put("https://example.org/ref.json", "{\"$ref\":\"a.json\"}");
+        return schemas;
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        BoundedSchemaCache cache = BoundedSchemaCache.builder().maximumSize(2).build();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas()).schemaCache(cache));
+        SchemaLocation a = SchemaLocation.of("https://example.org/a.json");
+        SchemaLocation b = SchemaLocation.of("https://example.org/b.json");
+        SchemaLocation c = SchemaLocation.of("https://example.org/c.json");
+
+        Schema schemaA = registry.getSchema(a);
+        registry.getSchema(b);
+        assertSame(schemaA, registry.getSchema(a)); // a is now most recently used
+        registry.getSchema(c);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.peek(a));
+        assertNull(cache.peek(b));
+        assertNotNull(cache.peek(c));
+
+        SchemaCacheStats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(3, stats.getLoadCount());
+        assertEquals(1, stats.getEvictionCount());
+        assertTrue(stats.getTotalLoadTime() > 0);
+    }
+
+    @Test
+    void shouldEvictByWeight() {
+        BoundedSchemaCache cache = BoundedSchemaCache.builder()
+                .maximumWeight(2, schema -> schema.getSchemaNode().size()).build();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas()).schemaCache(cache));
+        registry.getSchema(SchemaLocation.of("https://example.org/a.json"));
+        registry.getSchema(SchemaLocation.of("https://example.org/b.json"));
+        registry.getSchema(SchemaLocation.of("https://example.org/c.json"));
+        assertEquals(2, cache.weight());
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void evictedTargetShouldNotAffectReferencingSchema() {
+        BoundedSchemaCache cache = BoundedSchemaCache.builder().maximumSize(1).build();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas()).schemaCache(cache));
+        Schema schema = registry.getSchema(SchemaLocation.of("https://example.org/ref.json"));
+        registry.getSchema(SchemaLocation.of("https://example.org/b.json"));
+        registry.getSchema(SchemaLocation.of("https://example.org/c.json"));
+        assertEquals(1, schema.validate("1", InputFormat.JSON).size());
+        assertEquals(0, schema.validate("\"1\"", InputFormat.JSON).size());
+    }
+
+    @Test
+    void invalidateShouldRemoveDependents() {
+        Map<String, String> schemas = schemas();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas::get));
+        SchemaLocation ref = SchemaLocation.of("https://example.org/ref.json");
+        Schema before = registry.getSchema(ref);
+        registry.getSchema(SchemaLocation.of("https://example.org/b.json"));
+        assertEquals(0, before.validate("\"1\"", InputFormat.JSON).size());
+
+        schemas.put("https://example.org/a.json", "{\"type\":\"number\"}");
+        Set<SchemaLocation> removed = registry.invalidate(SchemaLocation.of("https://example.org/a.json"));
+        assertTrue(removed.contains(ref));
+        assertFalse(removed.contains(SchemaLocation.of("https://example.org/b.json")));
+
+        Schema after = registry.getSchema(ref);
+        assertNotSame(before, after);
+        assertEquals(1, after.validate("\"1\"", InputFormat.JSON).size());
+        // The existing schema is unaffected
+        assertEquals(0, before.validate("\"1\"", InputFormat.JSON).size());
+    }
+
+    @Test
+    void weakValuesShouldBeRetainedWhileReachable() {
+        BoundedSchemaCache cache = BoundedSchemaCache.builder().weakValues().build();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas()).schemaCache(cache));
+        Schema schema = registry.getSchema(SchemaLocation.of("https://example.org/a.json"));
+        assertSame(schema, registry.getSchema(SchemaLocation.of("https://example.org/a.json")));
+        assertEquals(1, cache.size());
+    }
+}
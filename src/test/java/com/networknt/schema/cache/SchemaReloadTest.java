@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaException;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SpecificationVersion;
+
+class SchemaReloadTest {
+    static final SchemaLocation A = SchemaLocation.of("https://example.org/a.json");
+    static final SchemaLocation B = SchemaLocation.of("https://example.org/b.json");
+    static final SchemaLocation REF = SchemaLocation.of("https://example.org/ref.json");
+
+    @Test
+    void reloadShouldRebuildDependentsAndSwapGeneration() {
+        Map<String, String> schemas = BoundedSchemaCacheTest.schemas();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas::get));
+        Schema ref = registry.getSchema(REF);
+        Schema b = registry.getSchema(B);
+        SchemaCache before = registry.getSchemaCache();
+        assertEquals(0, registry.getGeneration());
+
+        schemas.put("https://example.org/a.json", "{\"type\":\"number\"}");
+        Set<SchemaLocation> reloaded = registry.reload(A);
+        assertTrue(reloaded.contains(REF));
+        assertFalse(reloaded.contains(B));
+        assertEquals(1, registry.getGeneration());
+        assertNotSame(before, registry.getSchemaCache());
+
+        // Unaffected schemas are carried over to the new generation
+        assertSame(b, registry.getSchema(B));
+        Schema reloadedRef = registry.getSchema(REF);
+        assertNotSame(ref, reloadedRef);
+        assertEquals(1, reloadedRef.validate("\"1\"", InputFormat.JSON).size());
+        assertEquals(0, reloadedRef.validate("1", InputFormat.JSON).size());
+
+        // Schemas in use continue to use the previous generation
+        assertEquals(0, ref.validate("\"1\"", InputFormat.JSON).size());
+        assertSame(ref, before.peek(REF));
+    }
+
+    @Test
+    void failedReloadShouldRetainGeneration() {
+        Map<String, String> schemas = BoundedSchemaCacheTest.schemas();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas::get));
+        Schema ref = registry.getSchema(REF);
+        SchemaCache before = registry.getSchemaCache();
+
+        schemas.put("https://example.org/ref.json", "{\"$ref\":");
+        assertThrows(RuntimeException.class, () -> registry.reload(REF));
+        assertEquals(0, registry.getGeneration());
+        assertSame(before, registry.getSchemaCache());
+        assertSame(ref, registry.getSchema(REF));
+    }
+
+    @Test
+    void reloadShouldValidateSchemasLoadedWithValidation() {
+        Map<String, String> schemas = BoundedSchemaCacheTest.schemas();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas::get));
+        Schema a = registry.getSchema(A);
+        SchemaCache before = registry.getSchemaCache();
+
+        schemas.put("https://example.org/a.json", "1");
+        assertThrows(SchemaException.class, () -> registry.reload(A));
+        assertEquals(0, registry.getGeneration());
+        assertSame(before, registry.getSchemaCache());
+        assertSame(a, registry.getSchema(A));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.networknt.org.apache.commons.validator.routines.DomainValidator;
+import com.networknt.org.apache.commons.validator.routines.EmailValidator;
+
+class AsciiEmailValidatorTest {
+    private final EmailValidator emailValidator = new IPv6AwareEmailValidator(true, true);
+    private final AsciiEmailValidator asciiEmailValidator = new AsciiEmailValidator(DomainValidator.getInstance(true));
+
+    @ParameterizedTest
+    @ValueSource(strings = { "joe.bloggs@example.com", "JOE@EXAMPLE.COM", "o'reilly@example.co.uk", "a@localhost",
+            "a@b", "a@com", "a@COM", "a@.com", "a@x.localhost", "a@1.2.3.4", "a@example.123", "a@example.invalidtld",
+            "a@-example.com", "a@example-.com", "a@exa_mple.com", "a@example..com", "a.@example.com", ".a@example.com",
+            "a..b@example.com", "a@b@example.com", "@example.com", "a@", "a@example.com.", "a b@example.com",
+            "a\t@example.com", "a(b)@example.com", "a;b@example.com", "a@ex ample.com", "a!#$%&*+/=?^_`{|}~-@example.com",
+            "a@xn--p1ai", "a@example.xn--p1ai", "1234567890123456789012345678901234567890123456789012345678901234@example.com",
+            "12345678901234567890123456789012345678901234567890123456789012345@example.com" })
+    void shouldMatchEmailValidator(String value) {
+        assertTrue(AsciiEmailValidator.isSupported(value));
+        assertEquals(emailValidator.isValid(value), asciiEmailValidator.isValid(value), value);
+    }
+
+    @Test
+    void shouldMatchEmailValidatorForRandomValues() {
+        String alphabet = "aZ09-._'@ (;\t";
+        String[] domains = { "", "com", ".com", "localhost", "org", "x" };
+        Random random = new Random(1);
+        for (int x = 0; x < 20000; x++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int y = 0; y < length; y++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            builder.append(domains[random.nextInt(domains.length)]);
+            String value = builder.toString();
+            assertEquals(emailValidator.isValid(value), asciiEmailValidator.isValid(value), value);
+        }
+    }
+
+    @Test
+    void longDomainShouldMatchEmailValidator() {
+        StringBuilder builder = new StringBuilder("a@");
+        while (builder.length() < 260) {
+            builder.append("abcdefgh.");
+        }
+        String value = builder.append("com").toString();
+        assertFalse(asciiEmailValidator.isValid(value));
+        assertEquals(emailValidator.isValid(value), asciiEmailValidator.isValid(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "\"joe bloggs\"@example.com", "a\\@b@example.com", "a@[127.0.0.1]", "a@[IPv6:::1]",
+            "用户@例子.广告" })
+    void shouldNotSupport(String value) {
+        assertFalse(AsciiEmailValidator.isSupported(value));
+    }
+}
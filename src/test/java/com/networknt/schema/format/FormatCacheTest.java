@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FormatCacheTest {
+    @Test
+    void getShouldReturnCachedResult() {
+        FormatCache cache = new FormatCache(16);
+        assertNull(cache.get("a"));
+        assertTrue(cache.put("a", true));
+        assertFalse(cache.put("b", false));
+        assertEquals(Boolean.TRUE, cache.get("a"));
+        assertEquals(Boolean.FALSE, cache.get("b"));
+        assertNull(cache.get("c"));
+    }
+
+    @Test
+    void putShouldReplaceValueInSameSlot() {
+        FormatCache cache = new FormatCache(1);
+        cache.put("a", true);
+        cache.put("b", false);
+        assertNull(cache.get("a"));
+        assertEquals(Boolean.FALSE, cache.get("b"));
+    }
+
+    @Test
+    void putShouldNotCacheLongValues() {
+        FormatCache cache = new FormatCache(16);
+        StringBuilder value = new StringBuilder();
+        for (int x = 0; x <= FormatCache.MAX_VALUE_LENGTH; x++) {
+            value.append('a');
+        }
+        assertTrue(cache.put(value.toString(), true));
+        assertNull(cache.get(value.toString()));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.instrumentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SchemaRegistryConfig;
+import com.networknt.schema.SpecificationVersion;
+
+class InstrumentationTest {
+    static Map<String, String> schemas() {
+        Map<String, String> schemas = new HashMap<>();
+        schemas.put("https://example.org/root.json",
+                "{\"type\":\"object\",\"properties\":{\"code\":{\"$ref\":\"code.json\"}}}");
+        schemas.put("https://example.org/code.json", "{\"type\":\"string\",\"pattern\":\"^[A-Z]+$\"}");
+        return schemas;
+    }
+
+    @Test
+    void metricsShouldAggregateMeasurements() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas())
+                        .schemaRegistryConfig(SchemaRegistryConfig.builder().instrumentation(metrics).build()));
+        SchemaLocation root = SchemaLocation.of("https://example.org/root.json");
+        Schema schema = registry.getSchema(root);
+        schema.validate("{\"code\":\"ABC\"}", InputFormat.JSON);
+        schema.validate("{\"code\":\"abc\"}", InputFormat.JSON);
+
+        assertEquals(2, metrics.getValidations().get(root).getCount());
+        assertEquals(2, metrics.getKeywords().get("properties").getCount());
+        assertEquals(2, metrics.getKeywords().get("$ref").getCount());
+        assertEquals(2, metrics.getKeywords().get("pattern").getCount());
+        // The properties keyword includes the time of the subschemas
+        assertTrue(metrics.getKeywords().get("properties").getTotalTime() >= metrics.getKeywords().get("pattern")
+                .getTotalTime());
+        assertEquals(1, metrics.getRefResolutions().getCount());
+        assertEquals(2, metrics.getSchemaLoads().getCount());
+        assertEquals(1, metrics.getRegexMatchCount("^[A-Z]+$"));
+        assertEquals(1, metrics.getRegexMismatchCount("^[A-Z]+$"));
+    }
+
+    @Test
+    void executionContextShouldOverrideInstrumentation() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas())
+                        .schemaRegistryConfig(SchemaRegistryConfig.builder().instrumentation(metrics).build()));
+        Schema schema = registry.getSchema(SchemaLocation.of("https://example.org/root.json"));
+        schema.validate("{\"code\":\"ABC\"}", InputFormat.JSON,
+                executionContext -> executionContext.setInstrumentation(null));
+        assertTrue(metrics.getValidations().isEmpty());
+        assertNull(metrics.getKeywords().get("properties"));
+    }
+
+    @Test
+    void executionContextShouldReceiveRegexAndRefMeasurements() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas()).schemaRegistryConfig(
+                        SchemaRegistryConfig.builder().instrumentation(metrics).preloadSchema(false).build()));
+        Schema schema = registry.getSchema(SchemaLocation.of("https://example.org/root.json"));
+        ValidationMetrics run = new ValidationMetrics();
+        schema.validate("{\"code\":\"ABC\"}", InputFormat.JSON,
+                executionContext -> executionContext.setInstrumentation(run));
+        assertEquals(1, run.getRefResolutions().getCount());
+        assertEquals(1, run.getRegexMatchCount("^[A-Z]+$"));
+        assertEquals(0, metrics.getRefResolutions().getCount());
+        assertEquals(0, metrics.getRegexMatchCount("^[A-Z]+$"));
+
+        schema.validate("{\"code\":\"ABC\"}", InputFormat.JSON,
+                executionContext -> executionContext.setInstrumentation(null));
+        assertEquals(1, run.getRegexMatchCount("^[A-Z]+$"));
+        assertEquals(0, metrics.getRegexMatchCount("^[A-Z]+$"));
+    }
+
+    @Test
+    void meterRegistryShouldReceiveTaggedMeters() {
+        List<String> recorded = new ArrayList<>();
+        MeterRegistryInstrumentation instrumentation = new MeterRegistryInstrumentation(
+                new MeterRegistryInstrumentation.Meters() {
+                    @Override
+                    public void record(String name, long durationNanos, String... tags) {
+                        recorded.add(name + " " + String.join(",", tags));
+                    }
+
+                    @Override
+                    public void increment(String name, String... tags) {
+                        recorded.add(name + " " + String.join(",", tags));
+                    }
+                });
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas())
+                        .schemaRegistryConfig(
+                                SchemaRegistryConfig.builder().instrumentation(instrumentation).build()));
+        registry.getSchema(SchemaLocation.of("https://example.org/root.json")).validate("{\"code\":\"abc\"}",
+                InputFormat.JSON);
+        assertTrue(recorded.contains("jsonschema.validation schema,https://example.org/root.json#"));
+        assertTrue(recorded.contains("jsonschema.keyword keyword,pattern"));
+        assertTrue(recorded.contains("jsonschema.regex.match matched,false"));
+    }
+
+    @Test
+    void histogramShouldEstimatePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int x = 1; x <= 100; x++) {
+            histogram.record(x * 1000L);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000, histogram.getMaxTime());
+        long p50 = histogram.getPercentile(0.5);
+        assertTrue(p50 >= 50_000 && p50 <= 100_000, String.valueOf(p50));
+        assertEquals(100_000, histogram.getPercentile(1.0));
+    }
+}
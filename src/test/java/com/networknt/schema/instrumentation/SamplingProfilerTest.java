@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.instrumentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SchemaRegistryConfig;
+import com.networknt.schema.SpecificationVersion;
+
+class SamplingProfilerTest {
+    static Schema getSchema(SamplingProfiler profiler) {
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(InstrumentationTest.schemas())
+                        .schemaRegistryConfig(SchemaRegistryConfig.builder().instrumentation(profiler).build()));
+        return registry.getSchema(SchemaLocation.of("https://example.org/root.json"));
+    }
+
+    @Test
+    void shouldAttributeTimeToStacks() {
+        SamplingProfiler profiler = SamplingProfiler.builder().build();
+        Schema schema = getSchema(profiler);
+        schema.validate("{\"code\":\"ABC\"}", InputFormat.JSON);
+        schema.validate("{\"code\":\"abc\"}", InputFormat.JSON);
+
+        assertEquals(2, profiler.getSampleCount());
+        Map<String, Long> stacks = profiler.getStacks();
+        assertTrue(stacks.containsKey("https://example.org/root.json#;properties"), stacks::toString);
+        assertTrue(stacks.containsKey(
+                "https://example.org/root.json#;properties;https://example.org/root.json#/properties/code;$ref"));
+        assertTrue(stacks.containsKey(
+                "https://example.org/root.json#;properties;https://example.org/root.json#/properties/code;$ref;"
+                        + "https://example.org/code.json#;pattern"));
+        assertTrue(profiler.getKeywordSelfTimes()
+                .containsKey(SchemaLocation.of("https://example.org/code.json#/pattern")));
+
+        // The stacks and the keywords account for the same self time
+        long selfTime = stacks.values().stream().mapToLong(Long::longValue).sum();
+        long total = profiler.getKeywordSelfTimes().values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(selfTime, total);
+
+        String collapsed = profiler.toCollapsedStacks();
+        for (String line : collapsed.split("\n")) {
+            assertTrue(line.matches("[^ ].* [0-9]+"), line);
+        }
+    }
+
+    @Test
+    void shouldOnlyTraceSampledRuns() {
+        double[] next = { 0.9 };
+        SamplingProfiler profiler = SamplingProfiler.builder().sampleRate(0.5).random(() -> next[0]).build();
+        Schema schema = getSchema(profiler);
+        schema.validate("{\"code\":\"ABC\"}", InputFormat.JSON);
+        assertEquals(0, profiler.getSampleCount());
+        assertTrue(profiler.getStacks().isEmpty());
+
+        next[0] = 0.1;
+        schema.validate("{\"code\":\"ABC\"}", InputFormat.JSON);
+        assertEquals(1, profiler.getSampleCount());
+
+        profiler.reset();
+        assertTrue(profiler.getStacks().isEmpty());
+    }
+}
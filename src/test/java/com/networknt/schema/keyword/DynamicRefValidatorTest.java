@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.keyword;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.networknt.schema.Error;
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SpecificationVersion;
+
+/**
+ * Test for $dynamicRef.
+ */
+class DynamicRefValidatorTest {
+    @Test
+    void dynamicScopeShouldBeResolvedForEachEvaluation() {
+        Map<String, String> schemas = new HashMap<>();
+        schemas.put("https://example.com/tree", "{\n"
+                + "  \"$schema\": \"https://json-schema.org/draft/2020-12/schema\",\n"
+                + "  \"$id\": \"https://example.com/tree\",\n"
+                + "  \"$dynamicAnchor\": \"node\",\n"
+                + "  \"type\": \"object\",\n"
+                + "  \"properties\": {\n"
+                + "    \"data\": true,\n"
+                + "    \"children\": { \"type\": \"array\", \"items\": { \"$dynamicRef\": \"#node\" } }\n"
+                + "  }\n"
+                + "}");
+        schemas.put("https://example.com/strict-tree", "{\n"
+                + "  \"$schema\": \"https://json-schema.org/draft/2020-12/schema\",\n"
+                + "  \"$id\": \"https://example.com/strict-tree\",\n"
+                + "  \"$dynamicAnchor\": \"node\",\n"
+                + "  \"$ref\": \"tree\",\n"
+                + "  \"unevaluatedProperties\": false\n"
+                + "}");
+        SchemaRegistry schemaRegistry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.schemas(schemas));
+        Schema tree = schemaRegistry.getSchema(SchemaLocation.of("https://example.com/tree"));
+        Schema strictTree = schemaRegistry.getSchema(SchemaLocation.of("https://example.com/strict-tree"));
+        String instance = "{ \"children\": [ { \"daat\": 1 } ] }";
+        for (int x = 0; x < 3; x++) {
+            assertEquals(0, tree.validate(instance, InputFormat.JSON).size());
+            List<Error> errors = strictTree.validate(instance, InputFormat.JSON);
+            assertTrue(errors.stream().anyMatch(error -> "/children/0".equals(error.getInstanceLocation().toString())
+                    && "unevaluatedProperties".equals(error.getKeyword())));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.regex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ECMAScriptRegularExpressionSyntaxTest {
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+            "^[a-z]+$|true|true",
+            "((?<OrgOID>[^,. ]+)\\s*\\.\\s*(?<AOID>[^,. ]+))(?:\\s*,\\s*)?|true|true",
+            "^(abc]|false|false",
+            "(|false|false",
+            ")|false|false",
+            "*a|false|false",
+            "a**|false|false",
+            "x{2,1}|false|false",
+            "x{1,2}?|true|true",
+            "a{|true|false",
+            "{1}|false|false",
+            "]|true|false",
+            "\\a|true|false",
+            "\\-|true|false",
+            "[\\-]|true|true",
+            "\\/|true|true",
+            "\\|false|false",
+            "\\c1|true|false",
+            "[\\c1]|true|false",
+            "\\cA|true|true",
+            "\\u{41}|true|true",
+            "\\u{110000}|true|false",
+            "\\x4|true|false",
+            "\\1|true|false",
+            "(a)\\1|true|true",
+            "\\01|true|false",
+            "(?=a)*|true|false",
+            "(?<=a)*|false|false",
+            "^*|false|false",
+            "\\b+|false|false",
+            "\\k|true|false",
+            "\\k<a>|true|false",
+            "(?<a>)\\k|false|false",
+            "(?<a>x)\\k<a>|true|true",
+            "(?<a>x)\\k<b>|false|false",
+            "\"(?<a>x)|(?<a>y)\"|true|true",
+            "(?<a>x)(?<a>y)|false|false",
+            "(?<1>x)|false|false",
+            "(?<\\u{1d49c}>x)|true|true",
+            "(?i:a)|true|true",
+            "(?i-m:a)|true|true",
+            "(?-:a)|false|false",
+            "(?ii:a)|false|false",
+            "(?x)|false|false",
+            "[z-a]|false|false",
+            "[\\d-z]|true|false",
+            "[\\uD83D\\uDE00-\\uD83D\\uDE01]|false|true",
+            "\\p{L}|true|true",
+            "\\p{Script=Latin}|true|true",
+            "\\p{sc=Latn}|true|true",
+            "\\p{Script=latin}|true|false",
+            "\\p{Foo}|true|false",
+            "\\P{ASCII}|true|true" })
+    void isValid(String regex, boolean expected, boolean expectedUnicode) {
+        assertEquals(expected, ECMAScriptRegularExpressionSyntax.isValid(regex, false), "annex b");
+        assertEquals(expectedUnicode, ECMAScriptRegularExpressionSyntax.isValid(regex, true), "unicode");
+    }
+
+    /**
+     * Compares the syntax check against compiling random patterns using GraalJS.
+     */
+    @Test
+    void matchesGraalJS() {
+        GraalJSRegularExpressionContext context = new GraalJSRegularExpressionContext(
+                GraalJSContextFactory.getInstance());
+        String[] tokens = { "a", "\\", "(", ")", "[", "]", "{", "}", "1", ",", "-", "^", "$", "*", "+", "?", "|", ".",
+                "?:", "?=", "?<=", "?<a>", "\\k<a>", "\\u{41}", "\\u0041", "\\x4", "c", "p{L}", "\\d", "0", "<", ">",
+                "k", "u", "8", "\\c", "_", "{1}", "{2,1}", "{1,}", "i", ":", "\\uD83D", "\\uDE00", "\\p{Lu}",
+                "\\p{Foo}", "?i-m:", "\\b", "\\-", "[a-z]", "[z-a]", "[\\d-z]" };
+        Random random = new Random(0);
+        for (int x = 0; x < 5000; x++) {
+            StringBuilder regex = new StringBuilder();
+            int length = random.nextInt(10) + 1;
+            for (int y = 0; y < length; y++) {
+                regex.append(tokens[random.nextInt(tokens.length)]);
+            }
+            for (boolean unicode : new boolean[] { false, true }) {
+                boolean expected;
+                try {
+                    new GraalJSRegularExpression(regex.toString(), context, unicode);
+                    expected = true;
+                } catch (RuntimeException e) {
+                    expected = false;
+                }
+                assertEquals(expected, ECMAScriptRegularExpressionSyntax.isValid(regex.toString(), unicode),
+                        regex + (unicode ? " (unicode)" : ""));
+            }
+        }
+    }
+}
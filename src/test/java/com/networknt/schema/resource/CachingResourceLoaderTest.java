@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.networknt.schema.AbsoluteIri;
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaLocation;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SpecificationVersion;
+import com.sun.net.httpserver.HttpServer;
+
+class CachingResourceLoaderTest {
+    @TempDir
+    Path cacheDirectory;
+
+    static class MutableClock extends Clock {
+        Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    static String read(InputStreamSource source) throws IOException {
+        try (InputStream inputStream = source.getInputStream()) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void shouldServeFromCacheWithinTimeToLive() throws IOException {
+        AtomicInteger fetches = new AtomicInteger();
+        Map<String, String> resources = new HashMap<>();
+        resources.put("https://www.example.org/schema.json", "{\"type\":\"string\"}");
+        ResourceLoader delegate = new MapResourceLoader(iri -> {
+            fetches.incrementAndGet();
+            return resources.get(iri);
+        });
+        MutableClock clock = new MutableClock();
+        CachingResourceLoader loader = CachingResourceLoader.builder().delegate(delegate)
+                .cacheDirectory(cacheDirectory).timeToLive(Duration.ofMinutes(10)).clock(clock).build();
+        AbsoluteIri iri = AbsoluteIri.of("https://www.example.org/schema.json");
+
+        assertEquals("{\"type\":\"string\"}", read(loader.getResource(iri)));
+        int afterFirst = fetches.get();
+
+        // A new loader on the same directory simulates a process restart
+        CachingResourceLoader restarted = CachingResourceLoader.builder().delegate(delegate)
+                .cacheDirectory(cacheDirectory).timeToLive(Duration.ofMinutes(10)).clock(clock).build();
+        resources.put("https://www.example.org/schema.json", "{\"type\":\"integer\"}");
+        assertEquals("{\"type\":\"string\"}", read(restarted.getResource(iri)));
+
+        // Expired entries are fetched again
+        clock.instant = clock.instant.plus(Duration.ofMinutes(11));
+        assertEquals("{\"type\":\"integer\"}", read(restarted.getResource(iri)));
+        assertTrue(fetches.get() > afterFirst);
+    }
+
+    @Test
+    void shouldServeStaleWhenFetchFails() throws IOException {
+        MutableClock clock = new MutableClock();
+        AbsoluteIri iri = AbsoluteIri.of("https://www.example.org/schema.json");
+        CachingResourceLoader.builder().delegate(new MapResourceLoader(i -> "{}")).cacheDirectory(cacheDirectory)
+                .clock(clock).build().getResource(iri).getInputStream().close();
+
+        clock.instant = clock.instant.plus(Duration.ofDays(1));
+        ResourceLoader failing = i -> () -> {
+            throw new IOException("host down");
+        };
+        CachingResourceLoader loader = CachingResourceLoader.builder().delegate(failing)
+                .cacheDirectory(cacheDirectory).clock(clock).build();
+        assertEquals("{}", read(loader.getResource(iri)));
+
+        CachingResourceLoader strict = CachingResourceLoader.builder().delegate(failing)
+                .cacheDirectory(cacheDirectory).clock(clock).staleIfError(false).build();
+        assertThrows(IOException.class, () -> read(strict.getResource(iri)));
+    }
+
+    @Test
+    void offlineShouldOnlyUseCache() throws IOException {
+        AbsoluteIri cached = AbsoluteIri.of("https://www.example.org/cached.json");
+        CachingResourceLoader.builder().delegate(new MapResourceLoader(i -> "{}")).cacheDirectory(cacheDirectory)
+                .build().getResource(cached).getInputStream().close();
+
+        CachingResourceLoader offline = CachingResourceLoader.builder().delegate(i -> {
+            throw new IllegalStateException("should not fetch");
+        }).cacheDirectory(cacheDirectory).offline(true).build();
+        assertEquals("{}", read(offline.getResource(cached)));
+        // Resources that are not cached are left to the next resource loader
+        assertNull(offline.getResource(AbsoluteIri.of("https://www.example.org/missing.json")));
+    }
+
+    @Test
+    void shouldRefetchCorruptEntry() throws IOException {
+        AtomicInteger fetches = new AtomicInteger();
+        ResourceLoader delegate = new MapResourceLoader(iri -> {
+            fetches.incrementAndGet();
+            return "{}";
+        });
+        AbsoluteIri iri = AbsoluteIri.of("https://www.example.org/schema.json");
+        CachingResourceLoader.builder().delegate(delegate).cacheDirectory(cacheDirectory).build().getResource(iri)
+                .getInputStream().close();
+        try (Stream<Path> entries = Files.list(cacheDirectory.resolve("entries"))) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                String content = new String(Files.readAllBytes(entry), StandardCharsets.ISO_8859_1);
+                Files.write(entry, content.replaceAll("validated=\\d+", "validated=corrupt")
+                        .getBytes(StandardCharsets.ISO_8859_1));
+            }
+        }
+
+        CachingResourceLoader loader = CachingResourceLoader.builder().delegate(delegate)
+                .cacheDirectory(cacheDirectory).build();
+        assertEquals("{}", read(loader.getResource(iri)));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void shouldRevalidateWithEtag() throws IOException {
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger notModified = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/schema.json", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                full.incrementAndGet();
+                byte[] body = "{\"type\":\"object\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        try {
+            MutableClock clock = new MutableClock();
+            CachingResourceLoader loader = CachingResourceLoader.builder().cacheDirectory(cacheDirectory)
+                    .timeToLive(Duration.ZERO).clock(clock).build();
+            AbsoluteIri iri = AbsoluteIri
+                    .of("http://127.0.0.1:" + server.getAddress().getPort() + "/schema.json");
+            assertEquals("{\"type\":\"object\"}", read(loader.getResource(iri)));
+            clock.instant = clock.instant.plusSeconds(1);
+            assertEquals("{\"type\":\"object\"}", read(loader.getResource(iri)));
+            assertEquals(1, full.get());
+            assertEquals(1, notModified.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void shouldLoadSchemaThroughRegistry() {
+        Map<String, String> resources = new HashMap<>();
+        resources.put("https://www.example.org/string.json", "{\"type\":\"string\"}");
+        SchemaRegistry registry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.resourceLoaders(resourceLoaders -> resourceLoaders.cache(
+                        cache -> cache.delegate(new MapResourceLoader(resources)).cacheDirectory(cacheDirectory))));
+        Schema schema = registry.getSchema(SchemaLocation.of("https://www.example.org/string.json"));
+        assertEquals(1, schema.validate("1", InputFormat.JSON).size());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.networknt.schema.Error;
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SpecificationVersion;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+class LazyNodeReaderTest {
+    private static final String INPUT = "{\"id\":1,\"long\":12345678901,\"big\":123456789012345678901234567890,"
+            + "\"double\":1.5,\"flag\":true,\"none\":null,\"name\":\"n\\u00e9\","
+            + "\"body\":{\"items\":[1,{\"a\":[[],{}]},\"x\"],\"empty\":{}},\"tags\":[\"a\",\"b\"]}";
+
+    @TempDir
+    Path directory;
+
+    private static Object children(JsonNode node) throws Exception {
+        Field field = ObjectNode.class.getDeclaredField("_children");
+        field.setAccessible(true);
+        return field.get(node);
+    }
+
+    private static Object member(JsonNode node, String name) throws Exception {
+        return ((LazyTree.LazyMembers) children(node)).members.get(name);
+    }
+
+    @Test
+    void sameAsEager() {
+        JsonNode eager = JsonMapperFactory.getInstance().readTree(INPUT);
+        JsonNode lazy = NodeReader.builder().lazy().build().readTree(INPUT, InputFormat.JSON);
+        assertEquals(eager, lazy);
+        assertEquals(lazy, eager);
+        assertEquals(eager.toString(), lazy.toString());
+        assertEquals(eager.hashCode(), lazy.hashCode());
+    }
+
+    @Test
+    void trailingContent() {
+        NodeReader eager = NodeReader.builder().build();
+        NodeReader lazy = NodeReader.builder().lazy().build();
+        for (String input : new String[] { "{} garbage", "[1] [2]", "{\"a\":{}} {}" }) {
+            Class<? extends Exception> expected = assertThrows(JacksonException.class,
+                    () -> eager.readTree(input, InputFormat.JSON)).getClass();
+            assertEquals(expected, assertThrows(JacksonException.class,
+                    () -> lazy.readTree(input, InputFormat.JSON)).getClass(), input);
+        }
+
+        JsonMapper jsonMapper = JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS).build();
+        assertEquals(jsonMapper.readTree("[1] [2]"),
+                NodeReader.builder().lazy().jsonMapper(jsonMapper).build().readTree("[1] [2]", InputFormat.JSON));
+    }
+
+    @Test
+    void nestedNotParsedUntilAccessed() throws Exception {
+        JsonNode lazy = NodeReader.builder().lazy().build().readTree(INPUT, InputFormat.JSON);
+        assertInstanceOf(Long.class, member(lazy, "body"));
+        assertInstanceOf(Long.class, member(lazy, "tags"));
+        assertEquals("x", lazy.get("body").get("items").get(2).asString());
+        assertInstanceOf(ObjectNode.class, member(lazy, "body"));
+        assertInstanceOf(Long.class, member(lazy, "tags"));
+    }
+
+    @Test
+    void bigDecimalForFloats() {
+        JsonMapper jsonMapper = JsonMapper.builder().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).build();
+        JsonNode lazy = NodeReader.builder().lazy().jsonMapper(jsonMapper).build().readTree("{\"a\":[0.1]}",
+                InputFormat.JSON);
+        assertEquals(new BigDecimal("0.1"), lazy.get("a").get(0).decimalValue());
+    }
+
+    @Test
+    void mutate() {
+        ObjectNode lazy = (ObjectNode) NodeReader.builder().lazy().build().readTree(INPUT, InputFormat.JSON);
+        lazy.put("added", 1);
+        lazy.remove("body");
+        lazy.withArray("tags").addObject().put("c", 2);
+        assertEquals("[\"a\",\"b\",{\"c\":2}]", lazy.get("tags").toString());
+        assertTrue(lazy.has("added"));
+        assertEquals(9, lazy.size());
+    }
+
+    @Test
+    void validate() throws Exception {
+        String schemaData = "{\"required\":[\"id\"],\"properties\":{\"id\":{\"type\":\"string\"},"
+                + "\"tags\":{\"items\":{\"maxLength\":0}}},\"additionalProperties\":true}";
+        SchemaRegistry lazyRegistry = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12,
+                builder -> builder.nodeReader(nodeReader -> nodeReader.lazy()));
+        Schema lazySchema = lazyRegistry.getSchema(schemaData);
+        Schema eagerSchema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12)
+                .getSchema(schemaData);
+        List<Error> errors = lazySchema.validate(INPUT, InputFormat.JSON);
+        assertEquals(eagerSchema.validate(INPUT, InputFormat.JSON).toString(), errors.toString());
+        assertEquals(3, errors.size());
+
+        JsonNode lazy = NodeReader.builder().lazy().build().readTree(INPUT, InputFormat.JSON);
+        lazySchema.validate(lazy);
+        assertInstanceOf(Long.class, member(lazy, "body"));
+
+        // Schemas are shared by concurrent validations so are read eagerly
+        assertFalse(children(lazySchema.getSchemaNode()) instanceof LazyTree.LazyMembers);
+    }
+
+    @Test
+    void mappedFile() throws Exception {
+        Path path = directory.resolve("data.json");
+        Files.write(path, ("  " + INPUT).getBytes(StandardCharsets.UTF_8));
+        JsonNode lazy;
+        try (MappedFileInputStream inputStream = new MappedFileInputStream(path, 16)) {
+            assertEquals(' ', inputStream.read());
+            lazy = NodeReader.builder().lazy().build().readTree(inputStream, InputFormat.JSON);
+        }
+        assertInstanceOf(Long.class, member(lazy, "body"));
+        // The mapped regions remain readable after the file is closed
+        assertEquals(JsonMapperFactory.getInstance().readTree(INPUT), lazy);
+    }
+
+    @Test
+    void yamlIsEager() {
+        JsonNode node = NodeReader.builder().lazy().build().readTree("a:\n  b: 1\n", InputFormat.YAML);
+        assertEquals(Map.of("b", 1), JsonMapperFactory.getInstance().treeToValue(node.get("a"), Map.class));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.networknt.schema.Error;
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SpecificationVersion;
+
+class MappedFileInputStreamTest {
+    @TempDir
+    Path directory;
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7];
+        int read;
+        while ((read = inputStream.read(buffer, 0, buffer.length)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    void readAcrossRegions() throws IOException {
+        byte[] data = new byte[1000];
+        for (int x = 0; x < data.length; x++) {
+            data[x] = (byte) x;
+        }
+        Path path = directory.resolve("data.bin");
+        Files.write(path, data);
+        try (MappedFileInputStream inputStream = new MappedFileInputStream(path, 64)) {
+            assertEquals(0, inputStream.read());
+            assertEquals(100, inputStream.skip(100));
+            assertEquals(899, inputStream.available());
+            byte[] expected = new byte[899];
+            System.arraycopy(data, 101, expected, 0, expected.length);
+            assertArrayEquals(expected, readAll(inputStream));
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    @Test
+    void emptyFile() throws IOException {
+        Path path = directory.resolve("empty.bin");
+        Files.write(path, new byte[0]);
+        try (MappedFileInputStream inputStream = new MappedFileInputStream(path)) {
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    @Test
+    void validatePath() throws IOException {
+        Path path = directory.resolve("data.json");
+        Files.write(path, "{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8));
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12)
+                .getSchema("{\"properties\":{\"id\":{\"type\":\"integer\"}}}");
+        List<Error> errors = schema.validate(path, InputFormat.JSON);
+        assertEquals(1, errors.size());
+        assertEquals("/id", errors.get(0).getInstanceLocation().toString());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.networknt.schema.Error;
+import com.networknt.schema.InputFormat;
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SpecificationVersion;
+import com.networknt.schema.path.NodePath;
+import com.networknt.schema.path.PathType;
+import com.networknt.schema.serialization.node.LocationJsonNodeFactoryFactory;
+import com.networknt.schema.utils.JsonNodes;
+
+import tools.jackson.core.TokenStreamLocation;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for TokenStreamLocations.
+ */
+class TokenStreamLocationsTest {
+    private static final String CONTENT = "{\n"
+            + "  \"id\": \"abc\",\n"
+            + "  \"items\": [1, true, null, { \"name\": \"x\", \"tags\": [] }, [2.5, \"y\"]],\n"
+            + "  \"nested\": {\n"
+            + "    \"flag\": false,\n"
+            + "    \"empty\": {},\n"
+            + "    \"1\": \"numeric\"\n"
+            + "  }\n"
+            + "}";
+
+    @Test
+    void locationsShouldMatchLocationAwareNodes() {
+        ObjectMapper objectMapper = JsonMapperFactory.getInstance();
+        JsonNode root = JsonNodes.readTree(objectMapper, CONTENT, LocationJsonNodeFactoryFactory.getInstance());
+        TokenStreamLocations locations = TokenStreamLocations.of(objectMapper, CONTENT);
+        TokenStreamLocations bytesLocations = TokenStreamLocations.of(objectMapper,
+                CONTENT.getBytes(StandardCharsets.UTF_8));
+        check(root, new NodePath(PathType.JSON_POINTER), locations, bytesLocations);
+    }
+
+    private static void check(JsonNode node, NodePath path, TokenStreamLocations locations,
+            TokenStreamLocations bytesLocations) {
+        TokenStreamLocation expected = JsonNodes.tokenStreamLocationOf(node);
+        TokenStreamLocation actual = locations.getTokenStreamLocation(path);
+        assertEquals(expected.getLineNr(), actual.getLineNr(), path.toString());
+        assertEquals(expected.getColumnNr(), actual.getColumnNr(), path.toString());
+        actual = bytesLocations.getTokenStreamLocation(path);
+        assertEquals(expected.getLineNr(), actual.getLineNr(), path.toString());
+        assertEquals(expected.getColumnNr(), actual.getColumnNr(), path.toString());
+        if (node.isObject()) {
+            for (Map.Entry<String, JsonNode> entry : node.properties()) {
+                check(entry.getValue(), path.append(entry.getKey()), locations, bytesLocations);
+            }
+        } else if (node.isArray()) {
+            for (int x = 0; x < node.size(); x++) {
+                check(node.get(x), path.append(x), locations, bytesLocations);
+            }
+        }
+    }
+
+    @Test
+    void missingPathShouldReturnNull() {
+        TokenStreamLocations locations = TokenStreamLocations.of(JsonMapperFactory.getInstance(), CONTENT);
+        NodePath root = new NodePath(PathType.JSON_POINTER);
+        assertNull(locations.getTokenStreamLocation(root.append("missing")));
+        assertNull(locations.getTokenStreamLocation(root.append("items").append(5)));
+        assertNull(locations.getTokenStreamLocation(root.append("id").append("name")));
+        assertEquals(7, locations.getTokenStreamLocation(root.append("nested").append("1")).getLineNr());
+    }
+
+    @Test
+    void errorLocation() {
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12)
+                .getSchema("{\"properties\":{\"nested\":{\"properties\":{\"flag\":{\"const\":true}}}}}");
+        List<Error> errors = schema.validate(CONTENT, InputFormat.JSON);
+        assertEquals(1, errors.size());
+        TokenStreamLocation location = TokenStreamLocations.of(JsonMapperFactory.getInstance(), CONTENT)
+                .getTokenStreamLocation(errors.get(0));
+        assertEquals(5, location.getLineNr());
+        assertEquals(13, location.getColumnNr());
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RFC1123Test {
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "www.example.com|true",
+            "EXAMPLE|true",
+            "1host|true",
+            "a-b.c-d|true",
+            "a.b.c.d.e|true",
+            "''|false",
+            ".example.com|false",
+            "example.com.|false",
+            "example..com|false",
+            "-example.com|false",
+            "example-.com|false",
+            "exa_mple.com|false",
+            "exa mple.com|false",
+            "exämple.com|false",
+            "a123456789012345678901234567890123456789012345678901234567890123.com|false",
+            "a12345678901234567890123456789012345678901234567890123456789012.com|true" })
+    void isHostname(String value, boolean expected) {
+        assertEquals(expected, RFC1123.isHostname(value));
+    }
+}
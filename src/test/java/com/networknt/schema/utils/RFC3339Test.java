@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RFC3339Test {
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1963-06-19|true",
+            "0000-01-01|true",
+            "2020-02-29|true",
+            "2000-02-29|true",
+            "1900-02-29|false",
+            "2021-02-29|false",
+            "2021-04-31|false",
+            "2021-13-01|false",
+            "2021-00-01|false",
+            "2021-01-00|false",
+            "2021-1-01|false",
+            "20210101|false",
+            "2013-350|false",
+            "1963-06-1৪|false",
+            "1963-06-19T08:30:06Z|false" })
+    void isDate(String value, boolean expected) {
+        assertEquals(expected, RFC3339.isDate(value));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "08:30:06Z|true",
+            "08:30:06.283185z|true",
+            "08:30:06+23:59|true",
+            "08:30:06-00:00|true",
+            "23:59:60Z|true",
+            "07:59:60+08:00|true",
+            "15:59:60-08:00|true",
+            "00:29:60+00:30|true",
+            "23:59:60-07:00|false",
+            "22:59:60Z|false",
+            "23:59:61Z|false",
+            "24:00:00Z|false",
+            "08:60:06Z|false",
+            "08:30:06|false",
+            "08:30Z|false",
+            "08:30:06.Z|false",
+            "08:30:06+24:00|false",
+            "08:30:06+08:60|false",
+            "08:30:06+0800|false",
+            "08:30:06Z+08:00|false",
+            "08:30:06,5Z|false" })
+    void isTime(String value, boolean expected) {
+        assertEquals(expected, RFC3339.isTime(value));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1963-06-19T08:30:06Z|true",
+            "1963-06-19t08:30:06.283185z|true",
+            "1963-06-19 08:30:06+01:00|true",
+            "1998-12-31T23:59:60Z|true",
+            "1998-12-31T15:59:60.123-08:00|true",
+            "1999-01-01T00:59:60+01:00|true",
+            "2016-06-30T19:59:60-04:00|true",
+            "1963-06-19T08:30:06+18:00|true",
+            "1963-06-19T08:30:06-18:00|true",
+            "1963-06-19T08:30:06+18:01|false",
+            "1963-06-19T08:30:06-23:00|false",
+            "1963-06-19T08:30:06-00:00|false",
+            "2016-06-29T23:59:60-00:01|false",
+            "2016-06-29T23:59:60Z|false",
+            "2016-06-30T23:59:60+01:00|false",
+            "2020-02-30T08:30:06Z|false",
+            "1963-06-19T08:30:06|false",
+            "1963-06-19_08:30:06Z|false",
+            "1963-06-19T08:30:06.Z|false" })
+    void isDateTime(String value, boolean expected) {
+        assertEquals(expected, RFC3339.isDateTime(value));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "P4DT12H30M5S|true|true",
+            "p4dt12h30m5s|true|true",
+            "P1W|true|true",
+            "P1Y2M3D|true|true",
+            "PT1S|true|true",
+            "P|false|false",
+            "PT|false|false",
+            "P1DT|false|false",
+            "P1D2Y|false|false",
+            "PT1S2M|false|false",
+            "P1Y1Y|false|false",
+            "P1WT1H|false|true",
+            "P1Y2W|false|true",
+            "-P1D|false|true",
+            "P-1DT+2H|false|true",
+            "PT1.5S|false|true",
+            "PT1,123456789S|false|true",
+            "PT1.1234567890S|false|false",
+            "PT1.5M|false|false",
+            "P1DT1D|false|false",
+            "PT1HT1M|false|false",
+            "1D|false|false" })
+    void isDuration(String value, boolean strict, boolean lax) {
+        assertEquals(strict, RFC3339.isDuration(value, true), "strict");
+        assertEquals(lax, RFC3339.isDuration(value, false), "lax");
+    }
+}
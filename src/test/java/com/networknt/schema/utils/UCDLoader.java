@@ -12,7 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import com.networknt.schema.format.IdnHostnameFormat;
 
-public class UCDLoader {
+class UCDLoader {
     private static final Logger logger = LoggerFactory.getLogger(UCDLoader.class);
 
     static void loadMapping(String filename, Function<String, BitSet> selector) {
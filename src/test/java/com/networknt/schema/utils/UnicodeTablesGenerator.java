@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generates {@link UnicodeTables} from the Unicode data files in
+ * src/test/resources/ucd.
+ * <p>
+ * Run the main method from the project directory after updating the data
+ * files. {@link UnicodeTablesTest} fails if the generated source is out of
+ * date.
+ */
+public class UnicodeTablesGenerator {
+    static final Path SOURCE = Paths.get("src/main/java/com/networknt/schema/utils/UnicodeTables.java");
+
+    private static final int MAX_CODE_POINT = 0x110000;
+    private static final int LINE_LENGTH = 100;
+
+    /**
+     * Gets the derived property and joining type of each code point in the
+     * encoding used by {@link UnicodeTables}.
+     *
+     * @return the values indexed by code point
+     */
+    static int[] values() {
+        BitSet[] derivedProperties = new BitSet[5];
+        for (int x = 0; x < derivedProperties.length; x++) {
+            derivedProperties[x] = new BitSet(MAX_CODE_POINT);
+        }
+        UCDLoader.loadMapping("/ucd/RFC5892-appendix-B.txt", v -> {
+            switch (v) {
+                case "PVALID": return derivedProperties[UnicodeTables.PVALID];
+                case "CONTEXTJ": return derivedProperties[UnicodeTables.CONTEXTJ];
+                case "CONTEXTO": return derivedProperties[UnicodeTables.CONTEXTO];
+                case "DISALLOWED": return derivedProperties[UnicodeTables.DISALLOWED];
+                case "UNASSIGNED": return derivedProperties[UnicodeTables.UNASSIGNED];
+                default: return null;
+            }
+        });
+        BitSet[] joiningTypes = new BitSet[6];
+        for (int x = 0; x < joiningTypes.length; x++) {
+            joiningTypes[x] = new BitSet(MAX_CODE_POINT);
+        }
+        UCDLoader.loadMapping("/ucd/extracted/DerivedJoiningType.txt", v -> {
+            switch (v) {
+                case "C": return joiningTypes[UnicodeTables.JOIN_TYPE_CAUSING];
+                case "D": return joiningTypes[UnicodeTables.JOIN_TYPE_DUAL];
+                case "L": return joiningTypes[UnicodeTables.JOIN_TYPE_LEFT];
+                case "R": return joiningTypes[UnicodeTables.JOIN_TYPE_RIGHT];
+                case "T": return joiningTypes[UnicodeTables.JOIN_TYPE_TRANSPARENT];
+                default: return null;
+            }
+        });
+
+        int[] values = new int[MAX_CODE_POINT];
+        // Code points not listed are unassigned
+        Arrays.fill(values, UnicodeTables.UNASSIGNED);
+        for (int property = 0; property < derivedProperties.length; property++) {
+            BitSet bitSet = derivedProperties[property];
+            for (int c = bitSet.nextSetBit(0); c >= 0; c = bitSet.nextSetBit(c + 1)) {
+                values[c] = property;
+            }
+        }
+        for (int joiningType = 1; joiningType < joiningTypes.length; joiningType++) {
+            BitSet bitSet = joiningTypes[joiningType];
+            for (int c = bitSet.nextSetBit(0); c >= 0; c = bitSet.nextSetBit(c + 1)) {
+                values[c] |= joiningType << UnicodeTables.JOIN_TYPE_SHIFT;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Generates the source of {@link UnicodeTables}.
+     *
+     * @return the source
+     */
+    static String generate() {
+        int[] values = values();
+        int blockSize = 1 << UnicodeTables.BLOCK_SHIFT;
+        Map<String, Integer> blocks = new HashMap<>();
+        StringBuilder index = new StringBuilder();
+        StringBuilder data = new StringBuilder();
+        for (int start = 0; start < MAX_CODE_POINT; start += blockSize) {
+            StringBuilder block = new StringBuilder(blockSize);
+            for (int c = start; c < start + blockSize; c++) {
+                block.append((char) (values[c] + UnicodeTables.BIAS));
+            }
+            Integer blockIndex = blocks.get(block.toString());
+            if (blockIndex == null) {
+                blockIndex = blocks.size();
+                blocks.put(block.toString(), blockIndex);
+                data.append(block);
+            }
+            index.append((char) (blockIndex + UnicodeTables.BIAS));
+        }
+
+        return template().replace("${INDEX}", literal(index)).replace("${DATA}", literal(data));
+    }
+
+    private static String template() {
+        return String.join("\n",
+                "/*",
+                " * Copyright (c) 2025 the original author or authors.",
+                " *",
+                " * Licensed under the Apache License, Version 2.0 (the \"License\");",
+                " * you may not use this file except in compliance with the License.",
+                " * You may obtain a copy of the License at",
+                " *",
+                " *      http://www.apache.org/licenses/LICENSE-2.0",
+                " *",
+                " * Unless required by applicable law or agreed to in writing, software",
+                " * distributed under the License is distributed on an \"AS IS\" BASIS,",
+                " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.",
+                " * See the License for the specific language governing permissions and",
+                " * limitations under the License.",
+                " */",
+                "package com.networknt.schema.utils;",
+                "",
+                "/**",
+                " * Two-stage lookup tables of the RFC 5892 derived properties and the Unicode",
+                " * joining types.",
+                " * <p>",
+                " * The code point is split into a block number and an offset. The block number",
+                " * indexes the block in the data which is shared by all blocks with the same",
+                " * values. Each value is offset by a bias to keep the characters printable.",
+                " * <p>",
+                " * Generated by UnicodeTablesGenerator from ucd/RFC5892-appendix-B.txt and",
+                " * ucd/extracted/DerivedJoiningType.txt. Do not edit.",
+                " */",
+                "final class UnicodeTables {",
+                "    static final int PVALID = " + UnicodeTables.PVALID + ";",
+                "    static final int CONTEXTJ = " + UnicodeTables.CONTEXTJ + ";",
+                "    static final int CONTEXTO = " + UnicodeTables.CONTEXTO + ";",
+                "    static final int DISALLOWED = " + UnicodeTables.DISALLOWED + ";",
+                "    static final int UNASSIGNED = " + UnicodeTables.UNASSIGNED + ";",
+                "",
+                "    static final int JOIN_TYPE_NONE = " + UnicodeTables.JOIN_TYPE_NONE + ";",
+                "    static final int JOIN_TYPE_CAUSING = " + UnicodeTables.JOIN_TYPE_CAUSING + ";",
+                "    static final int JOIN_TYPE_DUAL = " + UnicodeTables.JOIN_TYPE_DUAL + ";",
+                "    static final int JOIN_TYPE_LEFT = " + UnicodeTables.JOIN_TYPE_LEFT + ";",
+                "    static final int JOIN_TYPE_RIGHT = " + UnicodeTables.JOIN_TYPE_RIGHT + ";",
+                "    static final int JOIN_TYPE_TRANSPARENT = " + UnicodeTables.JOIN_TYPE_TRANSPARENT + ";",
+                "",
+                "    static final int JOIN_TYPE_SHIFT = " + UnicodeTables.JOIN_TYPE_SHIFT + ";",
+                "    static final int BLOCK_SHIFT = " + UnicodeTables.BLOCK_SHIFT + ";",
+                "    static final int BIAS = " + UnicodeTables.BIAS + ";",
+                "",
+                "    private static final int DERIVED_PROPERTY_MASK = (1 << JOIN_TYPE_SHIFT) - 1;",
+                "    private static final int OFFSET_MASK = (1 << BLOCK_SHIFT) - 1;",
+                "",
+                "    private static final String INDEX =${INDEX};",
+                "",
+                "    private static final String DATA =${DATA};",
+                "",
+                "    private UnicodeTables() {",
+                "    }",
+                "",
+                "    private static int get(int codePoint) {",
+                "        int block = INDEX.charAt(codePoint >>> BLOCK_SHIFT) - BIAS;",
+                "        return DATA.charAt((block << BLOCK_SHIFT) | (codePoint & OFFSET_MASK)) - BIAS;",
+                "    }",
+                "",
+                "    /**",
+                "     * Gets the RFC 5892 derived property of the code point.",
+                "     *",
+                "     * @param codePoint the code point",
+                "     * @return the derived property",
+                "     */",
+                "    static int getDerivedProperty(int codePoint) {",
+                "        return get(codePoint) & DERIVED_PROPERTY_MASK;",
+                "    }",
+                "",
+                "    /**",
+                "     * Gets the joining type of the code point.",
+                "     *",
+                "     * @param codePoint the code point",
+                "     * @return the joining type",
+                "     */",
+                "    static int getJoiningType(int codePoint) {",
+                "        return get(codePoint) >>> JOIN_TYPE_SHIFT;",
+                "    }",
+                "}",
+                "");
+    }
+
+    private static String literal(CharSequence value) {
+        StringBuilder builder = new StringBuilder();
+        StringBuilder line = new StringBuilder();
+        for (int x = 0; x < value.length(); x++) {
+            char ch = value.charAt(x);
+            if (ch == '"' || ch == '\\') {
+                line.append('\\').append(ch);
+            } else if (ch > '~') {
+                line.append(String.format("\\u%04X", (int) ch));
+            } else {
+                line.append(ch);
+            }
+            if (line.length() >= LINE_LENGTH - 22) {
+                appendLine(builder, line);
+            }
+        }
+        if (line.length() > 0) {
+            appendLine(builder, line);
+        }
+        return builder.toString();
+    }
+
+    private static void appendLine(StringBuilder builder, StringBuilder line) {
+        builder.append(builder.length() == 0 ? "\n            " : "\n            + ");
+        builder.append('"').append(line).append('"');
+        line.setLength(0);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Files.write(SOURCE, generate().getBytes(StandardCharsets.UTF_8));
+    }
+}
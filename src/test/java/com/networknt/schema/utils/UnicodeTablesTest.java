@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.networknt.schema.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+class UnicodeTablesTest {
+    @Test
+    void generatedSourceShouldBeUpToDate() throws IOException {
+        String source = new String(Files.readAllBytes(UnicodeTablesGenerator.SOURCE), StandardCharsets.UTF_8);
+        assertEquals(UnicodeTablesGenerator.generate(), source,
+                "Run UnicodeTablesGenerator to regenerate UnicodeTables");
+    }
+
+    @Test
+    void lookupShouldMatchUnicodeData() {
+        int[] values = UnicodeTablesGenerator.values();
+        for (int c = 0; c < values.length; c++) {
+            int derivedProperty = values[c] & ((1 << UnicodeTables.JOIN_TYPE_SHIFT) - 1);
+            int joiningType = values[c] >>> UnicodeTables.JOIN_TYPE_SHIFT;
+            if (derivedProperty != UnicodeTables.getDerivedProperty(c)
+                    || joiningType != UnicodeTables.getJoiningType(c)) {
+                assertEquals(Integer.toHexString(values[c]),
+                        Integer.toHexString(UnicodeTables.getDerivedProperty(c)
+                                | UnicodeTables.getJoiningType(c) << UnicodeTables.JOIN_TYPE_SHIFT),
+                        "U+" + Integer.toHexString(c));
+            }
+        }
+    }
+
+    @Test
+    void lookup() {
+        assertEquals(UnicodeTables.PVALID, UnicodeTables.getDerivedProperty('a'));
+        assertEquals(UnicodeTables.DISALLOWED, UnicodeTables.getDerivedProperty('A'));
+        assertEquals(UnicodeTables.CONTEXTJ, UnicodeTables.getDerivedProperty(0x200C));
+        assertEquals(UnicodeTables.CONTEXTO, UnicodeTables.getDerivedProperty(0x00B7));
+        assertEquals(UnicodeTables.UNASSIGNED, UnicodeTables.getDerivedProperty(0x0378));
+        assertEquals(UnicodeTables.JOIN_TYPE_NONE, UnicodeTables.getJoiningType('a'));
+        assertEquals(UnicodeTables.JOIN_TYPE_DUAL, UnicodeTables.getJoiningType(0x0628));
+        assertEquals(UnicodeTables.JOIN_TYPE_RIGHT, UnicodeTables.getJoiningType(0x0627));
+        assertEquals(UnicodeTables.JOIN_TYPE_TRANSPARENT, UnicodeTables.getJoiningType(0x0300));
+        assertEquals(UnicodeTables.JOIN_TYPE_CAUSING, UnicodeTables.getJoiningType(0x200D));
+    }
+}
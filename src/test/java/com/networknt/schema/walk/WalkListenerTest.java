@@ -952,4 +952,67 @@ class WalkListenerTest {
         assertEquals("#/properties/children", items.get(3).getSchema().getSchemaLocation().toString());
     }
 
+    @Test
+    void hasWalkListeners() {
+        WalkListener listener = new WalkListener() {
+            @Override
+            public WalkFlow onWalkStart(WalkEvent walkEvent) {
+                return WalkFlow.CONTINUE;
+            }
+
+            @Override
+            public void onWalkEnd(WalkEvent walkEvent, List<Error> errors) {
+            }
+        };
+        assertFalse(WalkConfig.NoOpWalkHandler.getInstance().hasWalkListeners("type"));
+        assertTrue(KeywordWalkHandler.builder().keywordWalkListener("type", listener).build().hasWalkListeners("type"));
+        assertFalse(KeywordWalkHandler.builder().keywordWalkListener("type", listener).build().hasWalkListeners("format"));
+        assertTrue(KeywordWalkHandler.builder().keywordWalkListener(listener).build().hasWalkListeners("format"));
+        assertFalse(PropertyWalkHandler.builder().build().hasWalkListeners("properties"));
+        assertTrue(PropertyWalkHandler.builder().propertyWalkListener(listener).build().hasWalkListeners("properties"));
+        assertFalse(ItemWalkHandler.builder().build().hasWalkListeners("items"));
+        assertTrue(ItemWalkHandler.builder().itemWalkListener(listener).build().hasWalkListeners("items"));
+    }
+
+    @Test
+    void keywordListenerChangedBetweenWalks() {
+        String schemaData = "{\n"
+                + "  \"type\": \"object\",\n"
+                + "  \"properties\": {\n"
+                + "    \"name\": { \"type\": \"string\", \"format\": \"email\" }\n"
+                + "  }\n"
+                + "}";
+        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12).getSchema(schemaData);
+        for (String keyword : new String[] { "type", "format", "properties" }) {
+            List<String> locations = new ArrayList<>();
+            KeywordWalkHandler keywordWalkHandler = KeywordWalkHandler.builder()
+                    .keywordWalkListener(keyword, new WalkListener() {
+                        @Override
+                        public WalkFlow onWalkStart(WalkEvent walkEvent) {
+                            locations.add(walkEvent.getInstanceLocation().toString());
+                            return WalkFlow.CONTINUE;
+                        }
+
+                        @Override
+                        public void onWalkEnd(WalkEvent walkEvent, List<Error> errors) {
+                        }
+                    }).build();
+            schema.walk("{\"name\":\"a@example.com\"}", InputFormat.JSON, false, executionContext -> executionContext
+                    .walkConfig(walkConfig -> walkConfig.keywordWalkHandler(keywordWalkHandler)));
+            switch (keyword) {
+            case "type":
+                assertEquals(2, locations.size());
+                break;
+            case "format":
+                assertEquals(1, locations.size());
+                assertEquals("/name", locations.get(0));
+                break;
+            default:
+                assertEquals(1, locations.size());
+                assertEquals("", locations.get(0));
+                break;
+            }
+        }
+    }
+
 }